@@ -0,0 +1,31 @@
+package com.armycommunity.config;
+
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.CountingCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches for the discography catalog. The catalog is a few hundred rows loaded at startup,
+ * so unbounded concurrent maps are enough. Writes and evictions are deferred until the surrounding
+ * transaction commits, so a concurrent read cannot re-cache rows that are about to change.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(CatalogCaches.ALL.stream()
+                .map(name -> new CountingCache(new ConcurrentMapCache(name)))
+                .toList());
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
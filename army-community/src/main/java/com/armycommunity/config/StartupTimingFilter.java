@@ -0,0 +1,36 @@
+package com.armycommunity.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs how long after JVM start the first request completed, for comparing startup settings.
+ */
+@Component
+@Slf4j
+public class StartupTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean firstRequestServed = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!firstRequestServed.get() && firstRequestServed.compareAndSet(false, true)) {
+                log.info("Time to first request: {} ms after JVM start ({} {})",
+                        ManagementFactory.getRuntimeMXBean().getUptime(), request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
@@ -3,14 +3,25 @@ package com.armycommunity.controller;
 import ch.qos.logback.core.model.Model;
 import com.armycommunity.model.user.UserRole;
 import com.armycommunity.security.RequireRole;
+import com.armycommunity.service.activitylog.ActivityLogService;
+import com.armycommunity.service.activitylog.ActivityLogWriterStats;
+import com.armycommunity.service.catalog.CatalogCacheService;
+import com.armycommunity.service.catalog.CatalogCacheStats;
+import com.armycommunity.service.datainitialization.CatalogImportReport;
+import com.armycommunity.service.datainitialization.CatalogImportService;
 import com.armycommunity.service.event.EventService;
+import com.armycommunity.service.follow.FollowRecommendationService;
+import com.armycommunity.service.follow.RecommendationJobStats;
 import com.armycommunity.service.user.UserService;
 import jakarta.servlet.http.HttpSession;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/admin")
 @Data
@@ -19,6 +30,13 @@ public class AdminController {
 
     private final UserService userService;
     private final EventService eventService;
+    private final ActivityLogService activityLogService;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogImportService catalogImportService;
+    private final FollowRecommendationService followRecommendationService;
+
+    @Value("${app.catalog.import.location:classpath:data/}")
+    private String catalogImportLocation;
 
     @RequireRole(UserRole.ADMIN)
     @GetMapping("/dashboard")
@@ -42,4 +60,40 @@ public class AdminController {
         eventService.verifyEvent(id, currentUserId);
         return "redirect:/admin/events";
     }
+
+    @RequireRole(UserRole.ADMIN)
+    @GetMapping("/activity-log/stats")
+    public ActivityLogWriterStats activityLogStats() {
+        return activityLogService.getWriterStats();
+    }
+
+    @RequireRole(UserRole.ADMIN)
+    @GetMapping("/catalog/cache/stats")
+    public List<CatalogCacheStats> catalogCacheStats() {
+        return catalogCacheService.getStats();
+    }
+
+    @RequireRole(UserRole.ADMIN)
+    @PostMapping("/catalog/cache/evict")
+    public void evictCatalogCache() {
+        catalogCacheService.evictAll();
+    }
+
+    @RequireRole(UserRole.ADMIN)
+    @PostMapping("/catalog/import")
+    public CatalogImportReport importCatalog() {
+        return catalogImportService.importCatalog(catalogImportLocation);
+    }
+
+    @RequireRole(UserRole.ADMIN)
+    @GetMapping("/recommendations/stats")
+    public RecommendationJobStats recommendationStats() {
+        return followRecommendationService.getStats();
+    }
+
+    @RequireRole(UserRole.ADMIN)
+    @PostMapping("/recommendations/refresh")
+    public RecommendationJobStats refreshRecommendations() {
+        return followRecommendationService.refreshRecommendations();
+    }
 }
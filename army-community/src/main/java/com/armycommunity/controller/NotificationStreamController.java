@@ -0,0 +1,30 @@
+package com.armycommunity.controller;
+
+import com.armycommunity.exception.UnauthorizedException;
+import com.armycommunity.service.notification.NotificationStreamService;
+import jakarta.servlet.http.HttpSession;
+import lombok.Data;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@Data
+public class NotificationStreamController {
+
+    private final NotificationStreamService notificationStreamService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                             HttpSession session) {
+        Long userId = (Long) session.getAttribute("userId");
+        if (userId == null) {
+            throw new UnauthorizedException("You must be logged in to receive notifications");
+        }
+        return notificationStreamService.subscribe(userId, lastEventId);
+    }
+}
@@ -0,0 +1,132 @@
+package com.armycommunity.controller;
+
+import com.armycommunity.exception.ResourceNotFoundException;
+import com.armycommunity.service.filestorage.UploadFile;
+import com.armycommunity.service.filestorage.UploadServingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Data;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Serves uploaded files with ETag/Last-Modified revalidation and single-range requests. The body is
+ * handed to Tomcat's sendfile when the connector supports it, otherwise copied with
+ * {@link FileChannel#transferTo}.
+ */
+@Controller
+@Data
+public class UploadController {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    // Request attributes Tomcat's NIO connector reads to send a file with sendfile(2)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Uploads are only served to authenticated users, so shared caches must not store them
+    private static final String IMMUTABLE = "private, max-age=31536000, immutable";
+    private static final String REVALIDATE_DAILY = "private, max-age=86400";
+    // A fallback original is replaced by its variant shortly, so it must not be kept long
+    private static final String SHORT_LIVED = "private, max-age=60";
+
+    private final UploadServingService uploadServingService;
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String relativePath = path.startsWith(UPLOADS_PREFIX) ? path.substring(UPLOADS_PREFIX.length()) : path;
+        UploadFile upload = uploadServingService.resolve(relativePath)
+                .orElseThrow(() -> new ResourceNotFoundException("File not found: " + relativePath));
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                upload.fallback() ? SHORT_LIVED : upload.contentAddressed() ? IMMUTABLE : REVALIDATE_DAILY);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(upload.etag(), upload.lastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long length = upload.size();
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isRangeApplicable(request, upload)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // Several ranges are answered with the whole file, which RFC 9110 allows
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(upload.size());
+                    long end = ranges.get(0).getRangeEnd(upload.size());
+                    length = end - start + 1;
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + upload.size());
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + upload.size());
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        response.setContentType(upload.contentType().toString());
+        response.setContentLengthLong(length);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, upload.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        transfer(upload, relativePath, start, length, response);
+    }
+
+    private void transfer(UploadFile upload, String relativePath, long start, long length,
+                          HttpServletResponse response) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(upload.file(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            // Deleted since its metadata was cached
+            uploadServingService.evict(relativePath);
+            response.reset();
+            throw new ResourceNotFoundException("File not found: " + relativePath, e);
+        }
+
+        try (channel) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, output);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // If-Range only carries our strong ETag; a date or a stale tag means the client gets the whole file
+    private static boolean isRangeApplicable(HttpServletRequest request, UploadFile upload) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || (ifRange.equals(upload.etag()) && !upload.etag().startsWith("W/"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.armycommunity.dto.request;
+
+import com.armycommunity.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a search result list ordered by (rank DESC, id DESC), encoded like {@link KeysetCursor}.
+ */
+@Data
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final SearchCursor FIRST_PAGE = new SearchCursor(Double.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final Double rank;
+    private final Long id;
+
+    public static SearchCursor firstPage() {
+        return FIRST_PAGE;
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new SearchCursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        // Double.toString round-trips exactly, so the next page resumes on the same rank value
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package com.armycommunity.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. No total count is computed;
+ * clients keep requesting with {@code nextCursor} until {@code hasNext} is false.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * Builds a page from rows fetched with {@code size + 1} as the limit; the extra row
+     * only signals that another page exists and is dropped before mapping.
+     * {@code cursorOf} encodes the position of a row, e.g. via {@code KeysetCursor#encode()}.
+     */
+    public static <E, T> CursorPageResponse<T> fromRows(List<E> rows,
+                                                        int size,
+                                                        Function<E, String> cursorOf,
+                                                        Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext && !pageRows.isEmpty()
+                ? cursorOf.apply(pageRows.get(pageRows.size() - 1))
+                : null;
+
+        return CursorPageResponse.<T>builder()
+                .items(mapper.apply(pageRows))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
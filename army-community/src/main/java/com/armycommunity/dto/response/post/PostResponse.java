@@ -14,6 +14,7 @@ public class PostResponse {
     private Long id;
     private String content;
     private List<String> imagePaths;
+    private List<String> fullImagePaths;
     private List<TagResponse> tags;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
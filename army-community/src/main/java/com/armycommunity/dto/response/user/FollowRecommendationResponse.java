@@ -0,0 +1,13 @@
+package com.armycommunity.dto.response.user;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowRecommendationResponse {
+    private UserSummaryResponse user;
+    private int mutualFollowCount; // accounts the viewer follows that follow this user
+    private Long sharedMemberId; // member both users collect the most, if that drove the recommendation
+}
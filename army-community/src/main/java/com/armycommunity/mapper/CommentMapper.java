@@ -6,6 +6,7 @@ import com.armycommunity.dto.response.user.UserSummaryResponse;
 import com.armycommunity.model.post.Comment;
 import com.armycommunity.model.post.Post;
 import com.armycommunity.model.user.User;
+import com.armycommunity.service.filestorage.ImageVariant;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -50,7 +51,7 @@ public interface CommentMapper {
         return UserSummaryResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
-                .profileImagePath(user.getProfileImagePath())
+                .profileImagePath(ImageVariant.THUMB.pathFor(user.getProfileImagePath()))
                 .build();
     }
 
@@ -5,6 +5,7 @@ import com.armycommunity.dto.response.post.EventResponse;
 import com.armycommunity.dto.response.user.UserSummaryResponse;
 import com.armycommunity.model.post.Event;
 import com.armycommunity.model.user.User;
+import com.armycommunity.service.filestorage.ImageVariant;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -46,7 +47,7 @@ public interface EventMapper {
         return UserSummaryResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
-                .profileImagePath(user.getProfileImagePath())
+                .profileImagePath(ImageVariant.THUMB.pathFor(user.getProfileImagePath()))
                 .userRole(user.getUserRole())
                 .isVerified(user.isVerified())
                 .build();
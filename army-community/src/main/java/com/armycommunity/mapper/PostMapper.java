@@ -4,13 +4,13 @@ import com.armycommunity.dto.request.post.PostRequest;
 import com.armycommunity.dto.response.post.PostResponse;
 import com.armycommunity.dto.response.post.TagResponse;
 import com.armycommunity.dto.response.user.UserSummaryResponse;
-import com.armycommunity.model.post.Comment;
 import com.armycommunity.model.post.Post;
 import com.armycommunity.model.post.PostTag;
-import com.armycommunity.model.post.Reaction;
 import com.armycommunity.model.user.User;
+import com.armycommunity.service.filestorage.ImageVariant;
 import org.mapstruct.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,6 +26,9 @@ public interface PostMapper {
     @Mapping(target = "postTags", ignore = true)
     @Mapping(target = "originalPost", ignore = true)
     @Mapping(target = "reposts", ignore = true)
+    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "repostCount", ignore = true)
     @Mapping(target = "isDeleted", constant = "false")
     @Mapping(target = "imagePath", ignore = true)
     Post toEntity(PostRequest request);
@@ -33,9 +36,7 @@ public interface PostMapper {
     @Mapping(target = "author", source = "user", qualifiedByName = "userToUserSummaryResponse")
     @Mapping(target = "tags", source = "postTags", qualifiedByName = "postTagsToTagResponses")
     @Mapping(target = "imagePaths", source = "imagePath", qualifiedByName = "imagePathToImagePaths")
-    @Mapping(target = "likeCount", source = "reactions", qualifiedByName = "countLikes")
-    @Mapping(target = "commentCount", source = "comments", qualifiedByName = "countActiveComments")
-    @Mapping(target = "repostCount", source = "reposts", qualifiedByName = "countReposts")
+    @Mapping(target = "fullImagePaths", source = "imagePath", qualifiedByName = "imagePathToFullImagePaths")
     @Mapping(target = "isRepost", expression = "java(post.getOriginalPost() != null)")
     @Mapping(target = "originalPost", source = "originalPost", qualifiedByName = "postToSimplePostResponse")
     @Mapping(target = "isLikedByUser", ignore = true)
@@ -54,6 +55,9 @@ public interface PostMapper {
     @Mapping(target = "postTags", ignore = true)
     @Mapping(target = "originalPost", ignore = true)
     @Mapping(target = "reposts", ignore = true)
+    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "repostCount", ignore = true)
     @Mapping(target = "isDeleted", ignore = true)
     @Mapping(target = "imagePath", ignore = true)
     void updatePostFromRequest(PostRequest request, @MappingTarget Post post);
@@ -66,7 +70,7 @@ public interface PostMapper {
         return UserSummaryResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
-                .profileImagePath(user.getProfileImagePath())
+                .profileImagePath(ImageVariant.THUMB.pathFor(user.getProfileImagePath()))
                 .userRole(user.getUserRole())
                 .isVerified(user.isVerified())
                 .build();
@@ -85,43 +89,26 @@ public interface PostMapper {
                 .collect(Collectors.toList());
     }
 
+    // Feed-sized variants for timelines and lists
     @Named("imagePathToImagePaths")
     default List<String> imagePathToImagePaths(String imagePath) {
-        if (imagePath == null || imagePath.trim().isEmpty()) {
-            return List.of();
-        }
-        // Handle multiple image paths separated by semicolon
-        return List.of(imagePath.split(";"));
+        return imagePathToVariantPaths(imagePath, ImageVariant.FEED);
     }
 
-    @Named("countLikes")
-    default Long countLikes(Set<Reaction> reactions) {
-        if (reactions == null) {
-            return 0L;
-        }
-        return reactions.stream()
-                .filter(reaction -> "LIKE".equals(reaction.getReactionType()))
-                .count();
+    // Full-size variants for the post detail view
+    @Named("imagePathToFullImagePaths")
+    default List<String> imagePathToFullImagePaths(String imagePath) {
+        return imagePathToVariantPaths(imagePath, ImageVariant.FULL);
     }
 
-    @Named("countActiveComments")
-    default Long countActiveComments(Set<Comment> comments) {
-        if (comments == null) {
-            return 0L;
-        }
-        return comments.stream()
-                .filter(comment -> !comment.getIsDeleted())
-                .count();
-    }
-
-    @Named("countReposts")
-    default Long countReposts(Set<Post> reposts) {
-        if (reposts == null) {
-            return 0L;
+    default List<String> imagePathToVariantPaths(String imagePath, ImageVariant variant) {
+        if (imagePath == null || imagePath.trim().isEmpty()) {
+            return List.of();
         }
-        return reposts.stream()
-                .filter(repost -> !repost.getIsDeleted())
-                .count();
+        // Handle multiple image paths separated by semicolon
+        return Arrays.stream(imagePath.split(";"))
+                .map(variant::pathFor)
+                .toList();
     }
 
     @Named("postToSimplePostResponse")
@@ -133,12 +120,13 @@ public interface PostMapper {
                 .id(originalPost.getId())
                 .content(originalPost.getContent())
                 .imagePaths(imagePathToImagePaths(originalPost.getImagePath()))
+                .fullImagePaths(imagePathToFullImagePaths(originalPost.getImagePath()))
                 .createdAt(originalPost.getCreatedAt())
                 .author(userToUserSummaryResponse(originalPost.getUser()))
                 .tags(postTagsToTagResponses(originalPost.getPostTags()))
-                .likeCount(countLikes(originalPost.getReactions()))
-                .commentCount(countActiveComments(originalPost.getComments()))
-                .repostCount(countReposts(originalPost.getReposts()))
+                .likeCount(originalPost.getLikeCount())
+                .commentCount(originalPost.getCommentCount())
+                .repostCount(originalPost.getRepostCount())
                 .isRepost(false)
                 .isDeleted(originalPost.getIsDeleted())
                 .build();
@@ -5,6 +5,8 @@ import com.armycommunity.dto.request.user.UserUpdateRequest;
 import com.armycommunity.dto.response.user.UserDetailResponse;
 import com.armycommunity.dto.response.user.UserSummaryResponse;
 import com.armycommunity.model.user.User;
+import com.armycommunity.service.filestorage.ImageVariant;
+import com.armycommunity.service.user.ProfileStats;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -12,7 +14,8 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+@Mapper(componentModel = "spring", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        imports = ImageVariant.class)
 public interface UserMapper {
 
     @Mapping(target = "id", ignore = true)
@@ -40,16 +43,18 @@ public interface UserMapper {
     @Mapping(target = "isVerified", expression = "java(user.isVerified())")
     @Mapping(target = "canModerate", expression = "java(user.canModerate())")
     @Mapping(target = "isSuspended", expression = "java(user.isSuspended())")
-    @Mapping(target = "postCount", expression = "java(user.getPosts().size())")
-    @Mapping(target = "followerCount", expression = "java(user.getFollowers().size())")
-    @Mapping(target = "followingCount", expression = "java(user.getFollowing().size())")
-    @Mapping(target = "collectionsCount", expression = "java(user.getCollections().size())")
+    @Mapping(target = "postCount", source = "stats.postCount")
+    @Mapping(target = "followerCount", source = "stats.followerCount")
+    @Mapping(target = "followingCount", source = "stats.followingCount")
+    @Mapping(target = "collectionsCount", source = "stats.collectionsCount")
     @Mapping(target = "isFollowing", ignore = true)
     @Mapping(target = "isOwnProfile", ignore = true)
-    UserDetailResponse toDetailResponse(User user);
+    @Mapping(target = "profileImagePath", expression = "java(ImageVariant.FEED.pathFor(user.getProfileImagePath()))")
+    UserDetailResponse toDetailResponse(User user, ProfileStats stats);
 
     @Mapping(target = "isVerified", expression = "java(user.isVerified())")
     @Mapping(target = "isSuspended", expression = "java(user.isSuspended())")
+    @Mapping(target = "profileImagePath", expression = "java(ImageVariant.THUMB.pathFor(user.getProfileImagePath()))")
     UserSummaryResponse toSummaryResponse(User user);
 
     List<UserSummaryResponse> toSummaryResponseList(List<User> users);
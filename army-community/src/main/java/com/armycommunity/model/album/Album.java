@@ -2,6 +2,7 @@ package com.armycommunity.model.album;
 
 import com.armycommunity.model.song.Song;
 import com.armycommunity.model.user.UserCollection;
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "albums")
 public class Album {
 
@@ -1,5 +1,6 @@
 package com.armycommunity.model.album;
 
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +23,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "eras")
 public class Era {
 
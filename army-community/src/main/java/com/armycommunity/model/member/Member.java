@@ -2,6 +2,7 @@ package com.armycommunity.model.member;
 
 import com.armycommunity.model.album.MemberAlbum;
 import com.armycommunity.model.song.SongMember;
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "members")
 public class Member {
     @Id
@@ -1,5 +1,6 @@
 package com.armycommunity.model.member;
 
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "member_line_assignments")
 public class MemberLineAssignment {
 
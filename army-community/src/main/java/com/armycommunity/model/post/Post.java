@@ -56,6 +56,20 @@ public class Post {
     @Column(name = "repost_comment", length = 500)
     private String repostComment;
 
+    // Denormalized engagement counters, maintained through PostRepository's atomic
+    // adjust* queries only, so regular entity saves never overwrite them.
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
+    @Column(name = "repost_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long repostCount = 0L;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Comment> comments = new HashSet<>();
 
@@ -0,0 +1,51 @@
+package com.armycommunity.model.post;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a post delivered to a follower's precomputed home timeline.
+ * Rows are written by fan-out when a post is created, so reading a feed never joins follows.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "home_timeline")
+@IdClass(TimelineEntry.TimelineEntryId.class)
+public class TimelineEntry {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    // Copied from the post so the timeline can be ordered without touching posts
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Composite key class for TimelineEntry entity.
+     * Contains the timeline owner and post IDs.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimelineEntryId implements Serializable {
+        private Long userId;
+        private Long postId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.armycommunity.model.post;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a persisted snapshot of a post's decayed trending score.
+ * The in-memory scoreboard is restored from these rows on startup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "trending_scores")
+public class TrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    // Score already decayed to snapshotAt
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
@@ -1,6 +1,7 @@
 package com.armycommunity.model.song;
 
 import com.armycommunity.model.album.Album;
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +23,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "songs")
 public class Song {
 
@@ -1,6 +1,7 @@
 package com.armycommunity.model.song;
 
 import com.armycommunity.model.member.Member;
+import com.armycommunity.service.catalog.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "song_members")
 @IdClass(SongMember.SongMemberId.class)
 public class SongMember {
@@ -0,0 +1,52 @@
+package com.armycommunity.model.user;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Entity representing the number of activities of one type performed by one user on one day.
+ * Filled from activity_logs by a scheduled job and kept after the raw partitions are dropped.
+ * Activities without a user are counted under user ID 0.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "activity_daily_rollups")
+@IdClass(ActivityDailyRollup.RollupId.class)
+public class ActivityDailyRollup {
+
+    @Id
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Id
+    @Column(name = "action_type", nullable = false, length = 50)
+    private String actionType;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "activity_count", nullable = false)
+    private Long activityCount;
+
+    /**
+     * Composite key class for ActivityDailyRollup entity.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollupId implements Serializable {
+        private LocalDate activityDate;
+        private String actionType;
+        private Long userId;
+    }
+}
@@ -30,13 +30,14 @@ public class Setting {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
     @Column(name = "user_id")
-    private Long user;
+    private Long userId;
 
+    @Builder.Default
     @Column(name = "theme", nullable = false)
     private String theme = "light";
 
+    @Builder.Default
     @Column(name = "notifications_enabled", nullable = false)
     private Boolean notificationsEnabled = true;
 
@@ -46,6 +47,7 @@ public class Setting {
     @Column(name = "setting_value")
     private String settingValue;
 
+    @Builder.Default
     @Column(name = "is_global", nullable = false)
     private Boolean isGlobal = false;
 
@@ -0,0 +1,10 @@
+package com.armycommunity.repository;
+
+/**
+ * Projection for full-text search results: the matched row ID and its relevance rank.
+ */
+public interface SearchHit {
+    Long getId();
+
+    Double getRank();
+}
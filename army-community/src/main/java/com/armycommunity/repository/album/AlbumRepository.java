@@ -2,10 +2,12 @@ package com.armycommunity.repository.album;
 
 import com.armycommunity.model.album.Album;
 import com.armycommunity.model.album.AlbumType;
+import com.armycommunity.repository.SearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -27,6 +29,23 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
 
     Optional<Album> findByTitleAndArtist(String title, String artist);
 
-    @Query("SELECT a FROM Album a WHERE a.title LIKE %?1% OR a.koreanTitle LIKE %?1%")
-    List<Album> searchAlbums(String query);
+    @Query("SELECT a.id FROM Album a")
+    List<Long> findAllIds();
+
+    @Query(value = """
+    SELECT ranked.id AS id, ranked.rank AS rank
+    FROM (
+        SELECT a.id, ts_rank(a.search_vector, to_tsquery('simple', :tsquery))::float8 AS rank
+        FROM albums a
+        WHERE a.search_vector @@ to_tsquery('simple', :tsquery)
+    ) ranked
+    WHERE (ranked.rank, ranked.id) < (:rank, :id)
+    ORDER BY ranked.rank DESC, ranked.id DESC
+    LIMIT :limit OFFSET :offset
+    """, nativeQuery = true)
+    List<SearchHit> searchAlbumIds(@Param("tsquery") String tsquery,
+                                   @Param("rank") double rank,
+                                   @Param("id") Long id,
+                                   @Param("limit") int limit,
+                                   @Param("offset") int offset);
 }
@@ -1,5 +1,6 @@
 package com.armycommunity.repository.member;
 
+import com.armycommunity.model.member.MemberLine;
 import com.armycommunity.model.member.MemberLineAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -18,4 +19,13 @@ public interface MemberLineAssignmentRepository extends JpaRepository<MemberLine
     @Modifying
     @Query("DELETE FROM MemberLineAssignment mla WHERE mla.member.id = :memberId")
     void deleteByMemberId(Long memberId);
+
+    @Query("SELECT mla.member.id AS memberId, mla.lineType AS lineType FROM MemberLineAssignment mla")
+    List<MemberLineLink> findAllLinks();
+
+    interface MemberLineLink {
+        Long getMemberId();
+
+        MemberLine getLineType();
+    }
 }
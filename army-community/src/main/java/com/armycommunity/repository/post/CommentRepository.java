@@ -2,8 +2,11 @@ package com.armycommunity.repository.post;
 
 import com.armycommunity.model.post.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,4 +21,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByParentCommentId(Long parentCommentId);
 
     long countByPostId(Long postId);
+
+    @Query(value = "SELECT c.* FROM comments c " +
+            "WHERE c.post_id = :postId AND c.parent_comment_id IS NULL AND COALESCE(c.is_deleted, false) = false " +
+            "AND (c.created_at, c.id) < (:createdAt, :id) " +
+            "ORDER BY c.created_at DESC, c.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Comment> findPostCommentsBefore(@Param("postId") Long postId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         @Param("limit") int limit);
 }
@@ -1,16 +1,20 @@
 package com.armycommunity.repository.post;
 
 import com.armycommunity.model.post.Post;
+import com.armycommunity.repository.SearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * PostRepository is an interface for managing Post entities.
@@ -37,28 +41,58 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             nativeQuery = true)
     Page<Post> findPostsByTagId(Long tagId, Pageable pageable);
 
-    @Query("SELECT p FROM Post p " +
-            "WHERE p.isDeleted = false " +
-            "AND (LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')) " +
-            "OR LOWER(p.user.username) LIKE LOWER(CONCAT('%', :query, '%'))) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> searchPosts(@Param("query") String query, Pageable pageable);
+    // Keyset variants, ordered by (created_at, id) and seeking past the given cursor without OFFSET or COUNT
+    @Query(value = "SELECT p.* FROM posts p " +
+            "WHERE p.user_id = :userId AND p.is_deleted = false " +
+            "AND (p.created_at, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Post> findUserPostsBefore(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   @Param("limit") int limit);
 
+    @Query(value = "SELECT p.* FROM posts p " +
+            "WHERE p.is_deleted = false " +
+            "AND (p.created_at, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Post> findActivePostsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
+
+    /**
+     * Ranked full-text search over post content, plus posts whose author's username contains the term
+     * when {@code matchAuthors} is set. Results are ordered by (rank, id) and resume after the given
+     * rank/id position.
+     */
     @Query(value = """
-    SELECT p.* FROM posts p
-    LEFT JOIN reactions r ON p.id = r.post_id
-    LEFT JOIN comments c ON p.id = c.post_id
-    WHERE p.is_deleted = false
-    AND (p.created_at >= :since
-        OR r.created_at >= :since
-        OR c.created_at >= :since)
-    GROUP BY p.id
-    ORDER BY
-        (COUNT(DISTINCT r.id) * 2 + COUNT(DISTINCT c.id)) DESC,
-        p.created_at DESC
-    LIMIT :limit
+    SELECT m.id AS id, MAX(m.rank) AS rank
+    FROM (
+        SELECT p.id, ts_rank(p.search_vector, to_tsquery('simple', :tsquery))::float8 AS rank
+        FROM posts p
+        WHERE p.search_vector @@ to_tsquery('simple', :tsquery) AND p.is_deleted = false
+        UNION ALL
+        SELECT p.id, CAST(:authorRank AS float8) AS rank
+        FROM posts p
+        INNER JOIN users u ON p.user_id = u.id
+        WHERE :matchAuthors AND u.username ILIKE :usernamePattern AND p.is_deleted = false
+    ) m
+    GROUP BY m.id
+    HAVING (MAX(m.rank), m.id) < (:rank, :id)
+    ORDER BY rank DESC, id DESC
+    LIMIT :limit OFFSET :offset
     """, nativeQuery = true)
-    List<Post> findTrendingPosts(@Param("since") LocalDateTime since, @Param("limit") int limit);
+    List<SearchHit> searchPostIds(@Param("tsquery") String tsquery,
+                                  @Param("matchAuthors") boolean matchAuthors,
+                                  @Param("usernamePattern") String usernamePattern,
+                                  @Param("authorRank") double authorRank,
+                                  @Param("rank") double rank,
+                                  @Param("id") Long id,
+                                  @Param("limit") int limit,
+                                  @Param("offset") int offset);
 
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND " +
             "(p.user.userRole = 'USER' OR p.content LIKE %:keyword%) " +
@@ -69,6 +103,57 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "FROM Post p WHERE p.user.id = :userId AND p.originalPost.id = :originalPostId AND p.isDeleted = false")
     boolean existsByUserIdAndOriginalPostId(@Param("userId") Long userId, @Param("originalPostId") Long originalPostId);
 
+    @Query("SELECT DISTINCT p.originalPost.id FROM Post p " +
+            "WHERE p.user.id = :userId AND p.originalPost.id IN :postIds AND p.isDeleted = false")
+    Set<Long> findRepostedOriginalPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // Engagement counters
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :postId",
+            nativeQuery = true)
+    int adjustLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :postId",
+            nativeQuery = true)
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET repost_count = GREATEST(repost_count + :delta, 0) WHERE id = :postId",
+            nativeQuery = true)
+    int adjustRepostCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    long findMaxId();
+
+    /**
+     * Recomputes the engagement counters of posts with IDs in [fromId, toId) from the source tables and
+     * rewrites only the rows that drifted. Returns the number of repaired posts.
+     */
+    @Modifying
+    @Query(value = """
+    UPDATE posts p
+    SET like_count = actual.likes,
+        comment_count = actual.comments,
+        repost_count = actual.reposts
+    FROM (
+        SELECT p2.id,
+            (SELECT COUNT(*) FROM reactions r
+                WHERE r.post_id = p2.id AND r.reaction_type = 'LIKE') AS likes,
+            (SELECT COUNT(*) FROM comments c
+                WHERE c.post_id = p2.id AND COALESCE(c.is_deleted, false) = false) AS comments,
+            (SELECT COUNT(*) FROM posts rp
+                WHERE rp.original_post_id = p2.id AND rp.is_deleted = false) AS reposts
+        FROM posts p2
+        WHERE p2.id >= :fromId AND p2.id < :toId
+    ) actual
+    WHERE p.id = actual.id
+    AND (p.like_count <> actual.likes
+        OR p.comment_count <> actual.comments
+        OR p.repost_count <> actual.reposts)
+    """, nativeQuery = true)
+    int reconcileEngagementCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND p.user.userRole = 'USER' " +
             "ORDER BY p.createdAt DESC")
     List<Post> findPostsFromRegularUsers(Pageable pageable);
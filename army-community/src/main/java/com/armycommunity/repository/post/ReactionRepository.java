@@ -2,8 +2,13 @@ package com.armycommunity.repository.post;
 
 import com.armycommunity.model.post.Reaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * Repository interface for managing Reaction entities.
  */
@@ -14,4 +19,7 @@ public interface ReactionRepository extends JpaRepository<Reaction, Reaction.Rea
     void deleteByUserIdAndPostId(Long userId, Long postId);
 
     long countByPostId(Long postId);
+
+    @Query("SELECT r.post.id FROM Reaction r WHERE r.user.id = :userId AND r.post.id IN :postIds")
+    Set<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
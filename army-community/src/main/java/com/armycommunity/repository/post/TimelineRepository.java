@@ -0,0 +1,183 @@
+package com.armycommunity.repository.post;
+
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.post.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the precomputed home timeline.
+ */
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, TimelineEntry.TimelineEntryId> {
+
+    // Entries of deleted posts are skipped here rather than after the merge, so a page is never cut short
+    @Query("SELECT t FROM TimelineEntry t JOIN Post p ON p.id = t.postId " +
+            "WHERE t.userId = :userId AND p.isDeleted = false " +
+            "ORDER BY t.createdAt DESC, t.postId DESC")
+    List<TimelineEntry> findTimeline(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM TimelineEntry t JOIN Post p ON p.id = t.postId " +
+            "WHERE t.userId = :userId AND p.isDeleted = false " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.postId < :postId)) " +
+            "ORDER BY t.createdAt DESC, t.postId DESC")
+    List<TimelineEntry> findTimelineBefore(@Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("postId") Long postId,
+                                           Pageable pageable);
+
+    @Query(value = "SELECT EXISTS(SELECT 1 FROM home_timeline_backfills WHERE user_id = :userId)", nativeQuery = true)
+    boolean isBackfilled(@Param("userId") Long userId);
+
+    // Returns 0 when another request already claimed the backfill
+    @Modifying
+    @Query(value = "INSERT INTO home_timeline_backfills (user_id) VALUES (:userId) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int markBackfilled(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO home_timeline (user_id, post_id, author_id, created_at)
+    SELECT f.follower_id, :postId, :authorId, :createdAt
+    FROM follows f
+    WHERE f.following_id = :authorId
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int fanOutToFollowers(@Param("postId") Long postId,
+                          @Param("authorId") Long authorId,
+                          @Param("createdAt") LocalDateTime createdAt);
+
+    // Seeds a timeline with the latest posts of every account the user follows, keeping rows already fanned out
+    @Modifying
+    @Query(value = """
+    INSERT INTO home_timeline (user_id, post_id, author_id, created_at)
+    SELECT f.follower_id, p.id, p.user_id, p.created_at
+    FROM posts p
+    INNER JOIN follows f ON p.user_id = f.following_id
+    WHERE f.follower_id = :userId AND p.is_deleted = false
+    ORDER BY p.created_at DESC
+    LIMIT :limit
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int backfill(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM home_timeline WHERE post_id = :postId", nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // Adds the latest posts of a newly followed account to an existing timeline
+    @Modifying
+    @Query(value = """
+    INSERT INTO home_timeline (user_id, post_id, author_id, created_at)
+    SELECT :userId, p.id, p.user_id, p.created_at
+    FROM posts p
+    WHERE p.user_id = :authorId AND p.is_deleted = false
+    ORDER BY p.created_at DESC, p.id DESC
+    LIMIT :limit
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int insertAuthorPosts(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM home_timeline WHERE user_id = :userId AND author_id = :authorId", nativeQuery = true)
+    int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    // Keeps only the newest :maxEntries rows of every timeline
+    @Modifying
+    @Query(value = """
+    DELETE FROM home_timeline h
+    USING (
+        SELECT user_id, post_id,
+            ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC, post_id DESC) AS position
+        FROM home_timeline
+    ) ranked
+    WHERE h.user_id = ranked.user_id
+    AND h.post_id = ranked.post_id
+    AND ranked.position > :maxEntries
+    """, nativeQuery = true)
+    int trimTimelines(@Param("maxEntries") int maxEntries);
+
+    @Query(value = "SELECT COUNT(*) FROM follows WHERE following_id = :userId", nativeQuery = true)
+    long countFollowers(@Param("userId") Long userId);
+
+    @Query(value = "SELECT following_id FROM follows GROUP BY following_id HAVING COUNT(*) >= :threshold",
+            nativeQuery = true)
+    List<Long> findHighFollowerAccountIds(@Param("threshold") long threshold);
+
+    @Query(value = "SELECT user_id FROM home_timeline_pulled_accounts WHERE released_at IS NULL", nativeQuery = true)
+    List<Long> findPulledAccountIds();
+
+    @Query(value = "SELECT user_id FROM home_timeline_pulled_accounts WHERE released_at IS NOT NULL", nativeQuery = true)
+    List<Long> findReleasedAccountIds();
+
+    // An account pulled again before its release was finished keeps its original pulled_since
+    @Modifying
+    @Query(value = """
+    INSERT INTO home_timeline_pulled_accounts (user_id)
+    SELECT u.id FROM users u WHERE u.id IN (:accountIds)
+    ON CONFLICT (user_id) DO UPDATE SET released_at = NULL
+    """, nativeQuery = true)
+    int insertPulledAccounts(@Param("accountIds") Collection<Long> accountIds);
+
+    @Modifying
+    @Query(value = "UPDATE home_timeline_pulled_accounts SET released_at = CURRENT_TIMESTAMP " +
+            "WHERE user_id IN (:accountIds) AND released_at IS NULL", nativeQuery = true)
+    int markReleased(@Param("accountIds") Collection<Long> accountIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM home_timeline_pulled_accounts WHERE user_id IN (:accountIds) AND released_at IS NOT NULL",
+            nativeQuery = true)
+    int deleteReleasedAccounts(@Param("accountIds") Collection<Long> accountIds);
+
+    // Copies the posts a pulled account made since it was pulled into every seeded timeline of its followers;
+    // timelines not seeded yet get them from backfill on first read
+    @Modifying
+    @Query(value = """
+    INSERT INTO home_timeline (user_id, post_id, author_id, created_at)
+    SELECT f.follower_id, p.id, p.user_id, p.created_at
+    FROM home_timeline_pulled_accounts a
+    CROSS JOIN LATERAL (
+        SELECT id, user_id, created_at FROM posts
+        WHERE user_id = a.user_id AND is_deleted = false AND created_at >= a.pulled_since
+        ORDER BY created_at DESC, id DESC
+        LIMIT :limit
+    ) p
+    INNER JOIN follows f ON f.following_id = a.user_id
+    INNER JOIN home_timeline_backfills b ON b.user_id = f.follower_id
+    WHERE a.user_id = :authorId
+    ON CONFLICT DO NOTHING
+    """, nativeQuery = true)
+    int insertPulledPostsForFollowers(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+    // Fan-out-on-read half of the feed: recent posts of followed accounts that are never fanned out
+    @Query(value = "SELECT p.* FROM posts p " +
+            "INNER JOIN follows f ON p.user_id = f.following_id " +
+            "WHERE f.follower_id = :userId AND p.user_id IN (:authorIds) AND p.is_deleted = false " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Post> findRecentPostsFromFollowedAuthors(@Param("userId") Long userId,
+                                                  @Param("authorIds") Collection<Long> authorIds,
+                                                  @Param("limit") int limit);
+
+    @Query(value = "SELECT p.* FROM posts p " +
+            "INNER JOIN follows f ON p.user_id = f.following_id " +
+            "WHERE f.follower_id = :userId AND p.user_id IN (:authorIds) AND p.is_deleted = false " +
+            "AND (p.created_at, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.created_at DESC, p.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Post> findPostsFromFollowedAuthorsBefore(@Param("userId") Long userId,
+                                                  @Param("authorIds") Collection<Long> authorIds,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  @Param("limit") int limit);
+}
@@ -0,0 +1,41 @@
+package com.armycommunity.repository.post;
+
+import com.armycommunity.model.post.TrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for trending score snapshots.
+ */
+@Repository
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+
+    /**
+     * Recent posts that have any engagement, newest first, used to seed an empty scoreboard.
+     * Ranking is left to the scoring function, so no weighting is applied here.
+     */
+    @Query(value = "SELECT p.id AS postId, p.like_count AS likeCount, p.comment_count AS commentCount, " +
+            "p.created_at AS createdAt " +
+            "FROM posts p " +
+            "WHERE p.is_deleted = false AND p.created_at >= :since " +
+            "AND (p.like_count > 0 OR p.comment_count > 0) " +
+            "ORDER BY p.created_at DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<TrendingCandidate> findTrendingCandidates(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
+    interface TrendingCandidate {
+        Long getPostId();
+
+        Long getLikeCount();
+
+        Long getCommentCount();
+
+        LocalDateTime getCreatedAt();
+    }
+}
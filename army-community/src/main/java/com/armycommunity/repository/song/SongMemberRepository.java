@@ -2,8 +2,11 @@ package com.armycommunity.repository.song;
 
 import com.armycommunity.model.song.SongMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing SongMember entities.
  */
@@ -12,4 +15,13 @@ public interface SongMemberRepository extends JpaRepository<SongMember, SongMemb
     void deleteBySongId(Long songId);
 
     void deleteByMemberId(Long memberId);
+
+    @Query("SELECT sm.song.id AS songId, sm.member.id AS memberId FROM SongMember sm")
+    List<SongMemberLink> findAllLinks();
+
+    interface SongMemberLink {
+        Long getSongId();
+
+        Long getMemberId();
+    }
 }
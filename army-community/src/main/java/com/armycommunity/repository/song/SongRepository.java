@@ -1,8 +1,7 @@
 package com.armycommunity.repository.song;
 
 import com.armycommunity.model.song.Song;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.armycommunity.repository.SearchHit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,8 +24,23 @@ public interface SongRepository extends JpaRepository<Song, Long> {
 
     List<Song> findByLanguage(String language);
 
-    @Query("SELECT s FROM Song s WHERE s.title LIKE %?1% OR s.koreanTitle LIKE %?1% OR s.lyrics LIKE %?1%")
-    Page<Song> searchSongs(String query, Pageable pageable);
+    // Titles are weighted above lyrics in songs.search_vector
+    @Query(value = """
+    SELECT ranked.id AS id, ranked.rank AS rank
+    FROM (
+        SELECT s.id, ts_rank(s.search_vector, to_tsquery('simple', :tsquery))::float8 AS rank
+        FROM songs s
+        WHERE s.search_vector @@ to_tsquery('simple', :tsquery)
+    ) ranked
+    WHERE (ranked.rank, ranked.id) < (:rank, :id)
+    ORDER BY ranked.rank DESC, ranked.id DESC
+    LIMIT :limit OFFSET :offset
+    """, nativeQuery = true)
+    List<SearchHit> searchSongIds(@Param("tsquery") String tsquery,
+                                  @Param("rank") double rank,
+                                  @Param("id") Long id,
+                                  @Param("limit") int limit,
+                                  @Param("offset") int offset);
 
     @Query("SELECT s FROM Song s JOIN SongMember sm ON s.id = sm.song.id WHERE sm.member.id = ?1")
     List<Song> findSongsByMemberId(Long memberId);
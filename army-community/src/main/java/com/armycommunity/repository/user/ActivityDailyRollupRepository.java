@@ -0,0 +1,62 @@
+package com.armycommunity.repository.user;
+
+import com.armycommunity.model.user.ActivityDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for daily activity rollups.
+ */
+@Repository
+public interface ActivityDailyRollupRepository extends JpaRepository<ActivityDailyRollup, ActivityDailyRollup.RollupId> {
+
+    @Query("SELECT COALESCE(SUM(r.activityCount), 0) FROM ActivityDailyRollup r " +
+            "WHERE r.actionType = :actionType AND r.activityDate BETWEEN :start AND :end")
+    long sumByActionTypeAndDateRange(@Param("actionType") String actionType,
+                                     @Param("start") LocalDate start,
+                                     @Param("end") LocalDate end);
+
+    @Query("SELECT COALESCE(SUM(r.activityCount), 0) FROM ActivityDailyRollup r " +
+            "WHERE r.userId = :userId AND r.actionType = :actionType AND r.activityDate BETWEEN :start AND :end")
+    long sumByUserIdAndActionTypeAndDateRange(@Param("userId") Long userId,
+                                              @Param("actionType") String actionType,
+                                              @Param("start") LocalDate start,
+                                              @Param("end") LocalDate end);
+
+    @Query("SELECT r.activityDate AS activityDate, SUM(r.activityCount) AS activityCount " +
+            "FROM ActivityDailyRollup r " +
+            "WHERE r.actionType = :actionType AND r.activityDate BETWEEN :start AND :end " +
+            "GROUP BY r.activityDate ORDER BY r.activityDate")
+    List<DailyCount> findDailyCounts(@Param("actionType") String actionType,
+                                     @Param("start") LocalDate start,
+                                     @Param("end") LocalDate end);
+
+    /**
+     * Recounts every (day, action type, user) group between the two timestamps from the raw logs.
+     * Safe to re-run: existing rows are overwritten with the fresh count.
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO activity_daily_rollups (activity_date, action_type, user_id, activity_count)
+    SELECT CAST(a.created_at AS date), a.action_type, COALESCE(a.user_id, 0), COUNT(*)
+    FROM activity_logs a
+    WHERE a.created_at >= :from AND a.created_at < :to
+    GROUP BY CAST(a.created_at AS date), a.action_type, COALESCE(a.user_id, 0)
+    ON CONFLICT (activity_date, action_type, user_id)
+    DO UPDATE SET activity_count = EXCLUDED.activity_count
+    """, nativeQuery = true)
+    int rollUp(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface DailyCount {
+        LocalDate getActivityDate();
+
+        Long getActivityCount();
+    }
+}
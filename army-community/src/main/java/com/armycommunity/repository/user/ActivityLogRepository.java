@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Repository interface for managing ActivityLog entities.
@@ -28,6 +29,17 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
             @Param("end") LocalDateTime end,
             Pageable pageable);
 
+    @Query(value = "SELECT a.* FROM activity_logs a " +
+            "WHERE a.user_id = :userId " +
+            "AND (a.created_at, a.id) < (:createdAt, :id) " +
+            "ORDER BY a.created_at DESC, a.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<ActivityLog> findUserActivitiesBefore(@Param("userId") Long userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               @Param("limit") int limit);
+
     @Query("SELECT a FROM ActivityLog a WHERE a.actionType = :actionType AND a.createdAt BETWEEN :start AND :end")
     Page<ActivityLog> findByActionTypeAndDateRange(
             @Param("actionType") String actionType,
@@ -0,0 +1,13 @@
+package com.armycommunity.repository.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for follower and following listings: the user on the other end of the edge and when the
+ * edge was created.
+ */
+public interface FollowEdge {
+    Long getUserId();
+
+    LocalDateTime getCreatedAt();
+}
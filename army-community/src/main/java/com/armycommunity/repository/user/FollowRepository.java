@@ -1,7 +1,70 @@
 package com.armycommunity.repository.user;
 
-import com.armycommunity.model.user.User;
+import com.armycommunity.model.user.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
 
-public interface FollowRepository {
-    boolean existsByFollowerAndFollowing(User follower, User following);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the follow graph. Queries work on user IDs so no {@code User} entity is
+ * loaded to check or change an edge.
+ */
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Follow.FollowId> {
+
+    @Query(value = "SELECT EXISTS(SELECT 1 FROM follows WHERE follower_id = :followerId AND following_id = :followingId)",
+            nativeQuery = true)
+    boolean existsEdge(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Modifying
+    @Query(value = "INSERT INTO follows (follower_id, following_id) VALUES (:followerId, :followingId) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertEdge(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Modifying
+    @Query(value = "DELETE FROM follows WHERE follower_id = :followerId AND following_id = :followingId",
+            nativeQuery = true)
+    int deleteEdge(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Query(value = "SELECT following_id FROM follows WHERE follower_id = :followerId AND following_id IN (:candidateIds)",
+            nativeQuery = true)
+    List<Long> findFollowedAmong(@Param("followerId") Long followerId,
+                                 @Param("candidateIds") Collection<Long> candidateIds);
+
+    // Callers pass limit = cap + 1 to learn whether the full list fits the cap
+    @Query(value = "SELECT following_id FROM follows WHERE follower_id = :followerId LIMIT :limit", nativeQuery = true)
+    List<Long> findFollowingIds(@Param("followerId") Long followerId, @Param("limit") int limit);
+
+    @Query(value = "SELECT follower_id FROM follows WHERE following_id = :followingId", nativeQuery = true)
+    List<Long> findFollowerIds(@Param("followingId") Long followingId);
+
+    @Query(value = "SELECT following_id FROM follows GROUP BY following_id HAVING COUNT(*) >= :threshold",
+            nativeQuery = true)
+    List<Long> findAccountIdsWithFollowersAtLeast(@Param("threshold") long threshold);
+
+    @Query(value = "SELECT f.follower_id AS userId, f.created_at AS createdAt FROM follows f " +
+            "WHERE f.following_id = :userId AND (f.created_at, f.follower_id) < (:createdAt, :id) " +
+            "ORDER BY f.created_at DESC, f.follower_id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<FollowEdge> findFollowersBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT f.following_id AS userId, f.created_at AS createdAt FROM follows f " +
+            "WHERE f.follower_id = :userId AND (f.created_at, f.following_id) < (:createdAt, :id) " +
+            "ORDER BY f.created_at DESC, f.following_id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<FollowEdge> findFollowingBefore(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
 }
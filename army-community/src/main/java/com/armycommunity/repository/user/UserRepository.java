@@ -2,9 +2,11 @@ package com.armycommunity.repository.user;
 
 import com.armycommunity.model.user.User;
 import com.armycommunity.model.user.UserRole;
+import com.armycommunity.security.UserPrincipal;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,6 +22,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    @Query("SELECT new com.armycommunity.security.UserPrincipal(u.id, u.userRole, u.isActive, u.suspendedUntil) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserPrincipal> findPrincipalById(@Param("id") Long id);
+
     Optional<User> findByEmail(String email);
 
     Boolean existsByUsername(String username);
@@ -28,8 +34,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByOauthProviderAndOauthId(String provider, String id); // TODO: use this method (implemented OAUTH)
 
-    @Query("SELECT u FROM User u WHERE u.username LIKE %?1% OR u.email LIKE %?1%")
-    List<User> searchUsers(String keyword);
+    // Exact match ranks 3, prefix matches 2-3 and other trigram or substring matches 0-1; shorter names rank higher
+    // within a tier. Email is deliberately not searchable.
+    @Query(value = """
+    SELECT m.*
+    FROM (
+        SELECT u.id, u.username, u.profile_image_path AS "profileImagePath", u.user_role AS "userRole",
+            u.is_active AS "isActive", u.suspended_until AS "suspendedUntil",
+            CAST(CASE
+                WHEN lower(u.username) = :term THEN 3.0
+                WHEN lower(u.username) LIKE :prefixPattern THEN 2.0 + similarity(lower(u.username), :term)
+                ELSE similarity(lower(u.username), :term)
+            END AS float8) AS rank
+        FROM users u
+        WHERE lower(u.username) LIKE :prefixPattern
+        OR u.username ILIKE :containsPattern
+        OR u.username % :term
+    ) m
+    WHERE (m.rank, m.id) < (:rank, :id)
+    ORDER BY m.rank DESC, m.id DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<UserSearchHit> searchUsers(@Param("term") String term,
+                                    @Param("prefixPattern") String prefixPattern,
+                                    @Param("containsPattern") String containsPattern,
+                                    @Param("rank") Double rank,
+                                    @Param("id") Long id,
+                                    @Param("limit") int limit);
+
+    @Query(value = "SELECT username FROM users WHERE is_active = true", nativeQuery = true)
+    List<String> findActiveUsernames();
 
     List<User> findByUserRole(UserRole userRole);
 
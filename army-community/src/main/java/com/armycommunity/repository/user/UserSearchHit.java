@@ -0,0 +1,20 @@
+package com.armycommunity.repository.user;
+
+import com.armycommunity.repository.SearchHit;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for user search: the columns of a user summary plus the match rank.
+ */
+public interface UserSearchHit extends SearchHit {
+    String getUsername();
+
+    String getProfileImagePath();
+
+    String getUserRole();
+
+    Boolean getIsActive();
+
+    LocalDateTime getSuspendedUntil();
+}
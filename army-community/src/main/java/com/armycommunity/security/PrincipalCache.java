@@ -0,0 +1,96 @@
+package com.armycommunity.security;
+
+import com.armycommunity.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU-bounded cache of {@link UserPrincipal}s for role and moderation checks. Entries expire after a
+ * short TTL as a safety net; role and suspension changes invalidate them explicitly.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private record Entry(UserPrincipal principal, long loadedAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, Entry> principals;
+
+    // Bumped on every eviction, so a load that overlapped one is not cached
+    private final AtomicLong writes = new AtomicLong();
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${app.security.principal-cache.ttl-ms:30000}") long ttlMillis,
+                          @Value("${app.security.principal-cache.max-users:100000}") int maxUsers) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.principals = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * The principal of the given user, loaded with a single projection query on a miss. Empty if the
+     * user does not exist.
+     */
+    public Optional<UserPrincipal> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = principals.get(userId);
+            if (entry != null && now - entry.loadedAt() < ttlMillis) {
+                return Optional.of(entry.principal());
+            }
+        }
+
+        long version = writes.get();
+        Optional<UserPrincipal> principal = userRepository.findPrincipalById(userId);
+        principal.ifPresent(loaded -> putIfUnchanged(userId, new Entry(loaded, now), version));
+        return principal;
+    }
+
+    /**
+     * Drops the cached principal now and again once the surrounding transaction ends, committed or not, so
+     * neither a load that raced with the change nor one that read its uncommitted row keeps a stale role.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+        log.debug("Invalidated cached principal for user: {}", userId);
+    }
+
+    private synchronized void putIfUnchanged(Long userId, Entry entry, long version) {
+        if (writes.get() == version) {
+            principals.put(userId, entry);
+        }
+    }
+
+    private synchronized void evict(Long userId) {
+        writes.incrementAndGet();
+        principals.remove(userId);
+    }
+}
@@ -1,7 +1,5 @@
 package com.armycommunity.security;
 
-import com.armycommunity.model.user.User;
-import com.armycommunity.service.user.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
@@ -14,7 +12,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class RoleInterceptor implements HandlerInterceptor {
 
     @Autowired
-    private UserService userService;
+    private PrincipalCache principalCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -35,8 +33,8 @@ public class RoleInterceptor implements HandlerInterceptor {
                     return false;
                 }
 
-                User user = userService.findById(userId);
-                if (user == null || !user.hasMinimumRole(requireRole.value())) {
+                UserPrincipal principal = principalCache.get(userId).orElse(null);
+                if (principal == null || principal.isSuspended() || !principal.hasMinimumRole(requireRole.value())) {
                     response.sendError(HttpServletResponse.SC_FORBIDDEN, "Insufficient permissions");
                     return false;
                 }
@@ -0,0 +1,24 @@
+package com.armycommunity.security;
+
+import com.armycommunity.model.user.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * The parts of a {@link com.armycommunity.model.user.User} that authorization checks read, small enough
+ * to cache per user.
+ */
+public record UserPrincipal(Long id, UserRole role, boolean active, LocalDateTime suspendedUntil) {
+
+    public boolean hasMinimumRole(UserRole minimumRole) {
+        return role.hasPermissionLevel(minimumRole);
+    }
+
+    public boolean canModerate() {
+        return role.canModerateContent();
+    }
+
+    public boolean isSuspended() {
+        return !active || (suspendedUntil != null && LocalDateTime.now().isBefore(suspendedUntil));
+    }
+}
@@ -0,0 +1,10 @@
+package com.armycommunity.service.activitylog;
+
+public interface ActivityLogMaintenanceService {
+
+    void ensurePartitions();
+
+    void dropExpiredPartitions();
+
+    void rollUpRecentActivity();
+}
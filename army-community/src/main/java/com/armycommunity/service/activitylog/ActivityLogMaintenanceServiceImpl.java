@@ -0,0 +1,206 @@
+package com.armycommunity.service.activitylog;
+
+import com.armycommunity.repository.user.ActivityDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of activity_logs rotated and the daily rollups current.
+ * Old months are removed by dropping their partition; only rows that fell into the default partition,
+ * e.g. while the service was down over a month boundary, are moved or deleted row by row. Rollups resume from the last
+ * day recorded in {@code activity_rollup_progress}, so the first run backfills every stored log and a
+ * run after downtime covers the whole gap.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogMaintenanceServiceImpl implements ActivityLogMaintenanceService {
+
+    private static final String PARENT_TABLE = "activity_logs";
+    private static final String DEFAULT_PARTITION = "activity_logs_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("activity_logs_y(\\d{4})m(\\d{2})");
+
+    // Catch-up work is split into chunks of this many days, each committed with its progress
+    private static final int ROLLUP_CHUNK_DAYS = 31;
+
+    private static final String ROLLUP_PROGRESS_SQL =
+            "SELECT rolled_up_through FROM activity_rollup_progress WHERE id = 1";
+
+    private static final String SAVE_ROLLUP_PROGRESS_SQL = "INSERT INTO activity_rollup_progress " +
+            "(id, rolled_up_through) VALUES (1, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET rolled_up_through = EXCLUDED.rolled_up_through";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityDailyRollupRepository rollupRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.activity-log.partitions-ahead:2}")
+    private int partitionsAhead;
+
+    @Value("${app.activity-log.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.activity-log.rollup-days:2}")
+    private int rollupDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Override
+    @Scheduled(cron = "${app.activity-log.partition-cron:0 10 0 * * *}")
+    public void ensurePartitions() {
+        if (!isPartitioned()) {
+            log.warn("Table {} is not partitioned; skipping partition maintenance", PARENT_TABLE);
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= partitionsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        dropExpiredPartitions();
+    }
+
+    @Override
+    public void dropExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths - 1L);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ?",
+                String.class, PARENT_TABLE);
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue; // e.g. the default partition
+            }
+
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(oldestKept)) {
+                // The rollups for these days are kept, so aggregate queries still cover them
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped activity log partition {} (retention: {} months)", partition, retentionMonths);
+            }
+        }
+
+        // Months never given a partition keep their rows in the default partition, so they expire here
+        int purged = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?",
+                oldestKept.atDay(1).atStartOfDay());
+        if (purged > 0) {
+            log.info("Deleted {} expired activity logs from {}", purged, DEFAULT_PARTITION);
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${app.activity-log.rollup-cron:0 5 * * * *}")
+    public void rollUpRecentActivity() {
+        LocalDate today = LocalDate.now();
+        LocalDate from = rollupStart(today);
+        if (from == null) {
+            log.debug("No activity logs to roll up");
+            return;
+        }
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        while (!from.isAfter(today)) {
+            LocalDate chunkStart = from;
+            LocalDate chunkEnd = from.plusDays(ROLLUP_CHUNK_DAYS).isAfter(today)
+                    ? today.plusDays(1)
+                    : from.plusDays(ROLLUP_CHUNK_DAYS);
+
+            Integer rows = chunkTransaction.execute(status -> {
+                int rolledUp = rollupRepository.rollUp(chunkStart.atStartOfDay(), chunkEnd.atStartOfDay());
+                jdbcTemplate.update(SAVE_ROLLUP_PROGRESS_SQL, chunkEnd.minusDays(1));
+                return rolledUp;
+            });
+            log.debug("Rolled up activity logs from {} to {} into {} rows", chunkStart, chunkEnd, rows);
+            from = chunkEnd;
+        }
+    }
+
+    // Recounts the last few rolled-up days so late (asynchronously written) entries are included; without
+    // any progress yet, starts at the oldest stored log. Returns null if there is nothing to roll up.
+    private LocalDate rollupStart(LocalDate today) {
+        List<LocalDate> progress = jdbcTemplate.query(ROLLUP_PROGRESS_SQL,
+                (rs, rowNum) -> rs.getObject(1, LocalDate.class));
+        if (!progress.isEmpty()) {
+            LocalDate start = progress.get(0).minusDays(rollupDays - 1L);
+            return start.isAfter(today) ? today : start;
+        }
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + PARENT_TABLE, LocalDateTime.class);
+        if (oldest != null) {
+            log.info("Backfilling activity rollups from {}", oldest.toLocalDate());
+        }
+        return oldest != null ? oldest.toLocalDate() : null;
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                        "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private boolean partitionExists(String partition) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // Attaching a month fails while the default partition holds rows for it, so those rows are moved into
+    // the new table first; all three steps commit together
+    private void createPartition(YearMonth month) {
+        String partition = PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+        if (partitionExists(partition)) {
+            return;
+        }
+
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        try {
+            Integer moved = new TransactionTemplate(transactionManager).execute(status -> {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", partition, PARENT_TABLE));
+                int rows = jdbcTemplate.update(String.format(
+                        "WITH moved AS (DELETE FROM %s WHERE created_at >= ? AND created_at < ? RETURNING *) " +
+                                "INSERT INTO %s SELECT * FROM moved", DEFAULT_PARTITION, partition),
+                        from.atStartOfDay(), to.atStartOfDay());
+                jdbcTemplate.execute(String.format(
+                        "ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                        PARENT_TABLE, partition, from, to));
+                return rows;
+            });
+            log.info("Created activity log partition {}, moved {} rows from {}", partition, moved, DEFAULT_PARTITION);
+        } catch (DataAccessException e) {
+            log.error("Could not create activity log partition {}: {}", partition, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.armycommunity.service.activitylog;
+
+/**
+ * What the asynchronous activity log writer does when its queue is full.
+ */
+public enum ActivityLogOverflowPolicy {
+    /** Wait up to the configured timeout for room, then drop. */
+    BLOCK,
+    /** Drop the entry immediately. */
+    DROP,
+    /** Append the entry to a local JSON-lines file that is replayed once the queue drains. */
+    SPILL
+}
@@ -1,9 +1,11 @@
 package com.armycommunity.service.activitylog;
 
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.model.user.ActivityLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -13,6 +15,10 @@ public interface ActivityLogService {
 
     Page<ActivityLog> getUserActivities(Long userId, Pageable pageable);
 
+    ActivityLogWriterStats getWriterStats();
+
+    CursorPageResponse<ActivityLog> getUserActivitiesByCursor(Long userId, String cursor, int size);
+
     Page<ActivityLog> getUserActivitiesByType(Long userId, String actionType, Pageable pageable);
 
     Page<ActivityLog> getActivitiesByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable);
@@ -22,4 +28,10 @@ public interface ActivityLogService {
     Page<ActivityLog> getUserActivitiesByDateRange(Long userId, LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     Page<ActivityLog> getActivitiesByTypeAndDateRange(String actionType, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    long countActivitiesByTypeAndDateRange(String actionType, LocalDate start, LocalDate end);
+
+    long countUserActivitiesByTypeAndDateRange(Long userId, String actionType, LocalDate start, LocalDate end);
+
+    Map<LocalDate, Long> getDailyActivityCounts(String actionType, LocalDate start, LocalDate end);
 }
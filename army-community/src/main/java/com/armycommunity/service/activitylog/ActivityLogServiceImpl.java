@@ -1,6 +1,9 @@
 package com.armycommunity.service.activitylog;
 
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.model.user.ActivityLog;
+import com.armycommunity.repository.user.ActivityDailyRollupRepository;
 import com.armycommunity.repository.user.ActivityLogRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,9 +13,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,6 +30,8 @@ public class ActivityLogServiceImpl implements ActivityLogService {
 
     private final ActivityLogRepository activityLogRepository;
     private final ObjectMapper objectMapper;
+    private final ActivityLogWriter activityLogWriter;
+    private final ActivityDailyRollupRepository rollupRepository;
 
     @Override
     @Transactional
@@ -44,7 +54,15 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             if (details.containsKey("userAgent") && details.get("userAgent") != null) {
                 activityLog.setUserAgent(details.get("userAgent").toString());
             }
+        }
+
+        if (activityLogWriter.isEnabled()) {
+            // The returned entity is not persisted yet; the background writer inserts it
+            enqueue(activityLog, details);
+            return activityLog;
+        }
 
+        if (details != null) {
             try {
                 // Convert map to JSON string
                 activityLog.setDetails(objectMapper.writeValueAsString(details));
@@ -60,6 +78,36 @@ public class ActivityLogServiceImpl implements ActivityLogService {
         return activityLogRepository.save(activityLog);
     }
 
+    @Override
+    public ActivityLogWriterStats getWriterStats() {
+        return activityLogWriter.getStats();
+    }
+
+    private void enqueue(ActivityLog activityLog, Map<String, Object> details) {
+        PendingActivity pending = PendingActivity.builder()
+                .userId(activityLog.getUserId())
+                .actionType(activityLog.getActionType())
+                .entityType(activityLog.getEntityType())
+                .entityId(activityLog.getEntityId())
+                .ipAddress(activityLog.getIpAddress())
+                .userAgent(activityLog.getUserAgent())
+                .details(details != null ? new HashMap<>(details) : null)
+                .createdAt(activityLog.getCreatedAt())
+                .build();
+
+        // Like the synchronous insert, a rolled-back transaction leaves no log entry
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activityLogWriter.submit(pending);
+                }
+            });
+        } else {
+            activityLogWriter.submit(pending);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLog> getUserActivities(Long userId, Pageable pageable) {
@@ -67,6 +115,21 @@ public class ActivityLogServiceImpl implements ActivityLogService {
         return activityLogRepository.findByUserId(userId, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ActivityLog> getUserActivitiesByCursor(Long userId, String cursor, int size) {
+        log.info("Retrieving activities for user {} by cursor", userId);
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ActivityLog> activities = activityLogRepository.findUserActivitiesBefore(
+                userId, position.getCreatedAt(), position.getId(), size + 1);
+
+        return CursorPageResponse.fromRows(activities, size,
+                activity -> new KeysetCursor(activity.getCreatedAt(), activity.getId()).encode(),
+                page -> page);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLog> getUserActivitiesByType(Long userId, String actionType, Pageable pageable) {
@@ -102,4 +165,32 @@ public class ActivityLogServiceImpl implements ActivityLogService {
         log.info("Retrieving {} activities between {} and {}", actionType, start, end);
         return activityLogRepository.findByActionTypeAndDateRange(actionType, start, end, pageable);
     }
+
+    // Aggregates below read the daily rollups (inclusive dates), so they stay cheap and keep working
+    // for months whose raw partitions were already dropped. The current day is refreshed hourly.
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countActivitiesByTypeAndDateRange(String actionType, LocalDate start, LocalDate end) {
+        log.info("Counting {} activities between {} and {}", actionType, start, end);
+        return rollupRepository.sumByActionTypeAndDateRange(actionType, start, end);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUserActivitiesByTypeAndDateRange(Long userId, String actionType, LocalDate start, LocalDate end) {
+        log.info("Counting {} activities for user {} between {} and {}", actionType, userId, start, end);
+        return rollupRepository.sumByUserIdAndActionTypeAndDateRange(userId, actionType, start, end);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> getDailyActivityCounts(String actionType, LocalDate start, LocalDate end) {
+        log.info("Retrieving daily {} activity counts between {} and {}", actionType, start, end);
+
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        rollupRepository.findDailyCounts(actionType, start, end)
+                .forEach(day -> counts.put(day.getActivityDate(), day.getActivityCount()));
+        return counts;
+    }
 }
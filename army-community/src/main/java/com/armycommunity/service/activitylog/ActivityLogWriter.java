@@ -0,0 +1,430 @@
+package com.armycommunity.service.activitylog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for activity logs. Entries are queued by request threads and inserted by a
+ * single daemon thread with JDBC batch inserts, flushing whenever a batch fills up or the flush
+ * interval elapses. Enabled with {@code app.activity-log.mode=async} (the default).
+ * <p>
+ * A batch rejected for its data is retried row by row so only the offending rows are dropped. When the
+ * database cannot be reached the batch is kept and retried with exponential backoff up to
+ * {@code app.activity-log.max-backoff-ms}; meanwhile the queue fills and the overflow policy applies.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_logs " +
+            "(user_id, action_type, entity_type, entity_id, ip_address, user_agent, details, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.activity-log.mode:async}")
+    private String mode;
+
+    @Value("${app.activity-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.activity-log.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.activity-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${app.activity-log.overflow-policy:BLOCK}")
+    private ActivityLogOverflowPolicy overflowPolicy;
+
+    @Value("${app.activity-log.block-timeout-ms:500}")
+    private long blockTimeoutMs;
+
+    @Value("${app.activity-log.spill-file:./logs/activity-log-spill.jsonl}")
+    private String spillFile;
+
+    @Value("${app.activity-log.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private BlockingQueue<PendingActivity> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // Only touched by the writer thread
+    private long backoffMs;
+    private long retryAt;
+
+    private final Object spillLock = new Object();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            log.info("Activity logs are written synchronously");
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::runWriter, "activity-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Started asynchronous activity log writer (capacity: {}, batch: {}, policy: {})",
+                queueCapacity, batchSize, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+
+        running = false;
+        try {
+            // The loop drains whatever is still queued before exiting
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Stopped activity log writer, {} entries written", written.get());
+    }
+
+    public boolean isEnabled() {
+        return "async".equalsIgnoreCase(mode);
+    }
+
+    public void submit(PendingActivity activity) {
+        boolean accepted;
+        try {
+            accepted = overflowPolicy == ActivityLogOverflowPolicy.BLOCK
+                    ? queue.offer(activity, blockTimeoutMs, TimeUnit.MILLISECONDS)
+                    : queue.offer(activity);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueued.incrementAndGet();
+        } else if (overflowPolicy == ActivityLogOverflowPolicy.SPILL) {
+            spill(List.of(activity));
+        } else {
+            long total = dropped.incrementAndGet();
+            if (total % 1000 == 1) {
+                log.warn("Activity log queue is full, {} entries dropped so far", total);
+            }
+        }
+    }
+
+    public ActivityLogWriterStats getStats() {
+        long flushes = flushCount.get();
+        return ActivityLogWriterStats.builder()
+                .asyncEnabled(isEnabled())
+                .overflowPolicy(overflowPolicy)
+                .queueDepth(queue != null ? queue.size() : 0)
+                .queueCapacity(queueCapacity)
+                .enqueued(enqueued.get())
+                .written(written.get())
+                .dropped(dropped.get())
+                .spilled(spilled.get())
+                .failedBatches(failedBatches.get())
+                .flushCount(flushes)
+                .averageFlushMillis(flushes == 0 ? 0 : totalFlushNanos.get() / 1_000_000.0 / flushes)
+                .lastFlushMillis(lastFlushMillis)
+                .maxFlushMillis(maxFlushMillis)
+                .build();
+    }
+
+    private void runWriter() {
+        List<PendingActivity> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.currentTimeMillis();
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now < retryAt) {
+                    if (!running) {
+                        // Shutting down while the database is unreachable
+                        queue.drainTo(batch);
+                        discard(batch);
+                        break;
+                    }
+                    Thread.sleep(Math.min(retryAt - now, flushIntervalMs));
+                    continue;
+                }
+
+                if (batch.size() < batchSize) {
+                    long wait = Math.max(1, lastFlush + flushIntervalMs - now);
+                    PendingActivity next = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+
+                now = System.currentTimeMillis();
+                if (batch.size() >= batchSize || now - lastFlush >= flushIntervalMs || !running) {
+                    if (!batch.isEmpty()) {
+                        List<PendingActivity> unwritten = flush(batch);
+                        batch.clear();
+                        batch.addAll(unwritten);
+                    }
+                    lastFlush = now;
+                    if (batch.isEmpty()) {
+                        replaySpillIfIdle();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                // Never let the writer thread die
+                log.error("Activity log writer loop failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // Returns the entries left unwritten because the database could not be reached
+    private List<PendingActivity> flush(List<PendingActivity> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            written.addAndGet(batch.size());
+            backoffMs = 0;
+            return List.of();
+        } catch (RuntimeException e) {
+            failedBatches.incrementAndGet();
+            if (isDatabaseUnavailable(e)) {
+                backOff(e);
+                return new ArrayList<>(batch);
+            }
+            // One bad row, e.g. a user deleted in the meantime, fails the whole JDBC batch
+            log.warn("Failed to write {} activity logs as a batch, retrying row by row: {}",
+                    batch.size(), e.getMessage());
+            return writeRowByRow(batch);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            flushCount.incrementAndGet();
+            totalFlushNanos.addAndGet(elapsedNanos);
+            lastFlushMillis = elapsedMillis;
+            maxFlushMillis = Math.max(maxFlushMillis, elapsedMillis);
+        }
+    }
+
+    private List<PendingActivity> writeRowByRow(List<PendingActivity> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingActivity activity = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, activity));
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (isDatabaseUnavailable(e)) {
+                    backOff(e);
+                    return new ArrayList<>(batch.subList(i, batch.size()));
+                }
+                // Retrying or spilling a row the database rejects would only fail again
+                dropped.incrementAndGet();
+                log.error("Dropped activity log {} of user ID: {}: {}",
+                        activity.getActionType(), activity.getUserId(), e.getMessage());
+            }
+        }
+        backoffMs = 0;
+        return List.of();
+    }
+
+    private void backOff(RuntimeException e) {
+        backoffMs = backoffMs == 0 ? flushIntervalMs : Math.min(backoffMs * 2, maxBackoffMs);
+        retryAt = System.currentTimeMillis() + backoffMs;
+        log.error("Activity log database unavailable, retrying in {} ms: {}", backoffMs, e.getMessage());
+    }
+
+    private static boolean isDatabaseUnavailable(RuntimeException e) {
+        return e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessResourceException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof QueryTimeoutException;
+    }
+
+    private void discard(List<PendingActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        if (overflowPolicy == ActivityLogOverflowPolicy.SPILL) {
+            spill(activities);
+        } else {
+            dropped.addAndGet(activities.size());
+            log.error("Dropped {} activity logs that could not be written before shutdown", activities.size());
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingActivity activity) throws SQLException {
+        setNullableLong(ps, 1, activity.getUserId());
+        ps.setString(2, activity.getActionType());
+        ps.setString(3, activity.getEntityType());
+        setNullableLong(ps, 4, activity.getEntityId());
+        ps.setString(5, activity.getIpAddress());
+        ps.setString(6, activity.getUserAgent());
+        ps.setString(7, toJson(activity));
+        ps.setTimestamp(8, Timestamp.valueOf(activity.getCreatedAt() != null
+                ? activity.getCreatedAt() : LocalDateTime.now()));
+    }
+
+    private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private String toJson(PendingActivity activity) {
+        if (activity.getDetails() == null) {
+            return "{}";
+        }
+        try {
+            return objectMapper.writeValueAsString(activity.getDetails());
+        } catch (JsonProcessingException e) {
+            log.warn("Error converting activity details to JSON: {}", e.getMessage());
+            return "{}";
+        }
+    }
+
+    private void spill(List<PendingActivity> activities) {
+        synchronized (spillLock) {
+            Path path = Paths.get(spillFile);
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (PendingActivity activity : activities) {
+                        writer.write(objectMapper.writeValueAsString(activity));
+                        writer.newLine();
+                    }
+                }
+                spilled.addAndGet(activities.size());
+            } catch (IOException e) {
+                dropped.addAndGet(activities.size());
+                log.error("Could not spill {} activity logs to {}: {}", activities.size(), path, e.getMessage());
+            }
+        }
+    }
+
+    // Replays spilled entries on the writer thread once the queue has plenty of room again
+    private void replaySpillIfIdle() {
+        if (overflowPolicy != ActivityLogOverflowPolicy.SPILL || queue.size() > queueCapacity / 2) {
+            return;
+        }
+
+        Path replayPath;
+        synchronized (spillLock) {
+            Path path = Paths.get(spillFile);
+            replayPath = path.resolveSibling(path.getFileName() + ".replay");
+
+            // A leftover replay file from an interrupted replay goes first
+            if (!Files.exists(replayPath)) {
+                if (!Files.exists(path)) {
+                    return;
+                }
+                try {
+                    Files.move(path, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.error("Could not rotate activity log spill file: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        int replayed = 0;
+        List<PendingActivity> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null || !batch.isEmpty()) {
+                if (line != null) {
+                    if (!line.isBlank()) {
+                        batch.add(objectMapper.readValue(line, PendingActivity.class));
+                    }
+                    if (batch.size() < batchSize) {
+                        continue;
+                    }
+                }
+
+                List<PendingActivity> unwritten = flush(batch);
+                replayed += batch.size() - unwritten.size();
+                if (!unwritten.isEmpty()) {
+                    // The database went away mid-replay; keep only what is left and resume after the backoff
+                    keepForReplay(replayPath, unwritten, reader);
+                    log.info("Replayed {} spilled activity logs before the database became unavailable", replayed);
+                    return;
+                }
+                batch.clear();
+            }
+            Files.deleteIfExists(replayPath);
+            log.info("Replayed {} spilled activity logs", replayed);
+        } catch (IOException e) {
+            log.error("Failed to replay spilled activity logs from {}: {}", replayPath, e.getMessage());
+        }
+    }
+
+    private void keepForReplay(Path replayPath, List<PendingActivity> unwritten, BufferedReader rest)
+            throws IOException {
+        Path remainder = replayPath.resolveSibling(replayPath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(remainder, StandardCharsets.UTF_8)) {
+            for (PendingActivity activity : unwritten) {
+                writer.write(objectMapper.writeValueAsString(activity));
+                writer.newLine();
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(remainder, replayPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
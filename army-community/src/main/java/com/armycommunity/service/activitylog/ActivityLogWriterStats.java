@@ -0,0 +1,29 @@
+package com.armycommunity.service.activitylog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Point-in-time counters of the asynchronous activity log writer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogWriterStats {
+    private boolean asyncEnabled;
+    private ActivityLogOverflowPolicy overflowPolicy;
+    private int queueDepth;
+    private int queueCapacity;
+    private long enqueued;
+    private long written;
+    private long dropped;
+    private long spilled;
+    private long failedBatches;
+    private long flushCount;
+    private double averageFlushMillis;
+    private long lastFlushMillis;
+    private long maxFlushMillis;
+}
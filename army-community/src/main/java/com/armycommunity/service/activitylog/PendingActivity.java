@@ -0,0 +1,28 @@
+package com.armycommunity.service.activitylog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * An activity waiting in the asynchronous writer's queue. Details stay a map until the
+ * writer thread serializes them, keeping JSON work off the request thread.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingActivity {
+    private Long userId;
+    private String actionType;
+    private String entityType;
+    private Long entityId;
+    private String ipAddress;
+    private String userAgent;
+    private Map<String, Object> details;
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.armycommunity.service.album;
 
 import com.armycommunity.dto.request.album.AlbumRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.album.AlbumDetailResponse;
 import com.armycommunity.dto.response.album.AlbumSummaryResponse;
 import com.armycommunity.model.album.Album;
@@ -30,5 +31,7 @@ public interface AlbumService {
 
     List<AlbumSummaryResponse> searchAlbums(String query);
 
+    CursorPageResponse<AlbumSummaryResponse> searchAlbumsByCursor(String query, String cursor, int size);
+
     Album findOrCreateAlbum(AlbumRequest request);
 }
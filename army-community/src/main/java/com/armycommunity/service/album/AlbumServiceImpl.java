@@ -1,6 +1,9 @@
 package com.armycommunity.service.album;
 
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.request.SearchCursor;
 import com.armycommunity.dto.request.album.AlbumRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.album.AlbumDetailResponse;
 import com.armycommunity.dto.response.album.AlbumSummaryResponse;
 import com.armycommunity.exception.DuplicateResourceException;
@@ -15,12 +18,18 @@ import com.armycommunity.repository.album.AlbumRepository;
 import com.armycommunity.repository.album.EraRepository;
 import com.armycommunity.repository.album.MemberAlbumRepository;
 import com.armycommunity.repository.member.MemberRepository;
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.EvictCatalogCaches;
+import com.armycommunity.service.search.RankedResult;
+import com.armycommunity.service.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -39,9 +48,11 @@ public class AlbumServiceImpl implements AlbumService {
     private final MemberRepository memberRepository;
     private final MemberAlbumRepository memberAlbumRepository;
     private final AlbumMapper albumMapper;
+    private final SearchService searchService;
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public AlbumDetailResponse createAlbum(AlbumRequest request) {
         log.info("Creating new album with title: {}", request.getTitle());
 
@@ -103,6 +114,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ALBUMS, key = "'id:' + #albumId")
     public AlbumDetailResponse getAlbumById(Long albumId) {
         log.debug("Fetching album with ID: {}", albumId);
         return albumRepository.findById(albumId)
@@ -112,6 +124,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public AlbumDetailResponse updateAlbum(Long albumId, AlbumRequest request) {
         log.info("Updating album with ID: {}", albumId);
 
@@ -186,6 +199,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void deleteAlbum(Long albumId) {
         log.info("Deleting album with ID: {}", albumId);
 
@@ -205,6 +219,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ALBUMS, key = "'all'")
     public List<AlbumSummaryResponse> getAllAlbums() {
         log.debug("Fetching all albums");
         List<Album> albums = albumRepository.findAll();
@@ -213,6 +228,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ALBUMS, key = "'type:' + #albumType")
     public List<AlbumSummaryResponse> getAlbumsByType(AlbumType albumType) {
         log.debug("Fetching albums of type: {}", albumType);
         List<Album> albums = albumRepository.findByAlbumType(albumType);
@@ -229,6 +245,7 @@ public class AlbumServiceImpl implements AlbumService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ALBUMS, key = "'era:' + #eraId")
     public List<AlbumSummaryResponse> getAlbumsByEra(Long eraId) {
         log.debug("Fetching albums for era with ID: {}", eraId);
 
@@ -253,12 +270,40 @@ public class AlbumServiceImpl implements AlbumService {
     @Transactional(readOnly = true)
     public List<AlbumSummaryResponse> searchAlbums(String query) {
         log.debug("Searching albums with query: {}", query);
-        List<Album> albums = albumRepository.searchAlbums(query);
+
+        // Returns every match, read one ranked page at a time from the last (rank, id) seen
+        List<Album> albums = new ArrayList<>();
+        SearchCursor after = SearchCursor.firstPage();
+        List<RankedResult<Album>> page;
+        do {
+            page = searchService.searchAlbums(query, after, 0, KeysetCursor.MAX_PAGE_SIZE);
+            page.forEach(result -> albums.add(result.getItem()));
+            if (!page.isEmpty()) {
+                RankedResult<Album> last = page.get(page.size() - 1);
+                after = new SearchCursor(last.getRank(), last.getItem().getId());
+            }
+        } while (page.size() == KeysetCursor.MAX_PAGE_SIZE);
+
+        log.debug("Found {} albums matching query: {}", albums.size(), query);
         return albumMapper.toSummaryResponseList(albums);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AlbumSummaryResponse> searchAlbumsByCursor(String query, String cursor, int size) {
+        log.debug("Searching albums with query: {} by cursor", query);
+
+        KeysetCursor.validatePageSize(size);
+        List<RankedResult<Album>> results = searchService.searchAlbums(query, SearchCursor.decode(cursor), 0, size + 1);
+
+        return CursorPageResponse.fromRows(results, size,
+                result -> new SearchCursor(result.getRank(), result.getItem().getId()).encode(),
+                page -> albumMapper.toSummaryResponseList(page.stream().map(RankedResult::getItem).toList()));
+    }
+
     @Override
     @Transactional
+    @EvictCatalogCaches
     public Album findOrCreateAlbum(AlbumRequest request) {
         log.debug("Finding or creating album: {} by {}", request.getTitle(), request.getArtist());
 
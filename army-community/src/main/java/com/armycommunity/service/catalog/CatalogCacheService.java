@@ -0,0 +1,13 @@
+package com.armycommunity.service.catalog;
+
+import java.util.List;
+
+public interface CatalogCacheService {
+
+    List<CatalogCacheStats> getStats();
+
+    /**
+     * Drops all catalog cache entries, deferred until commit when called inside a transaction.
+     */
+    void evictAll();
+}
@@ -0,0 +1,47 @@
+package com.armycommunity.service.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogCacheServiceImpl implements CatalogCacheService {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<CatalogCacheStats> getStats() {
+        List<CatalogCacheStats> stats = new ArrayList<>();
+        for (String name : CatalogCaches.ALL) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CountingCache countingCache) {
+                int size = countingCache.getNativeCache() instanceof Map<?, ?> entries ? entries.size() : -1;
+                stats.add(countingCache.getStats(size));
+            }
+        }
+        return stats;
+    }
+
+    @Override
+    public void evictAll() {
+        for (String name : CatalogCaches.ALL) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Cleared catalog caches");
+    }
+}
@@ -0,0 +1,12 @@
+package com.armycommunity.service.catalog;
+
+/**
+ * Point-in-time counters for one catalog cache region.
+ */
+public record CatalogCacheStats(String name, int size, long hits, long misses, long clears) {
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
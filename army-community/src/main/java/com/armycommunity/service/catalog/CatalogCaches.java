@@ -0,0 +1,20 @@
+package com.armycommunity.service.catalog;
+
+import java.util.List;
+
+/**
+ * Names of the read-through caches over the discography catalog.
+ */
+public final class CatalogCaches {
+
+    public static final String ALBUMS = "catalog.albums";
+    public static final String SONGS = "catalog.songs";
+    public static final String MEMBERS = "catalog.members";
+    public static final String ERAS = "catalog.eras";
+    public static final String MUSIC_VIDEOS = "catalog.musicVideos";
+
+    public static final List<String> ALL = List.of(ALBUMS, SONGS, MEMBERS, ERAS, MUSIC_VIDEOS);
+
+    private CatalogCaches() {
+    }
+}
@@ -0,0 +1,28 @@
+package com.armycommunity.service.catalog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener on the catalog entities and their join tables. Any insert, update or delete
+ * schedules one {@link CatalogGraph} rebuild for when the transaction commits. Bulk JPQL statements
+ * bypass entity callbacks, so code using them must call {@link CatalogGraphService#rebuildAfterCommit()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeListener {
+
+    // Resolved lazily: Hibernate creates listeners while the EntityManagerFactory the graph service needs is being built
+    private final ObjectProvider<CatalogGraphService> catalogGraphService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onCatalogChange(Object entity) {
+        catalogGraphService.getObject().rebuildAfterCommit();
+    }
+}
@@ -0,0 +1,395 @@
+package com.armycommunity.service.catalog;
+
+import com.armycommunity.dto.response.album.EraSummaryResponse;
+import com.armycommunity.dto.response.member.MemberSummaryResponse;
+import com.armycommunity.dto.response.song.SongSummaryResponse;
+import com.armycommunity.model.member.MemberLine;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the discography: songs, members, albums and eras with their relations
+ * precomputed. IDs are kept in sorted {@code long[]} arrays and resolved by binary search to a dense
+ * index; relations are stored as adjacency arrays (offsets into a flat {@code int[]} of indexes).
+ * A new graph is built and swapped in whole whenever the catalog changes.
+ */
+public final class CatalogGraph {
+
+    private static final Set<String> BTS_ARTIST_NAMES = Set.of("bts", "방탄소년단");
+
+    static final CatalogGraph EMPTY = builder().build();
+
+    private final long[] songIds;
+    private final SongNode[] songs;
+    private final long[] memberIds;
+    private final MemberNode[] members;
+    private final long[] albumIds;
+
+    private final Adjacency albumSongs;
+    private final Adjacency memberSongs;
+    private final Adjacency songMembers;
+    private final Map<MemberLine, int[]> membersByLine;
+    private final int[] titleTracks;
+    private final int[] featuringSongs;
+
+    // Eras sorted by start date, with start days and running maximum end days for interval lookups
+    private final EraNode[] eras;
+    private final long[] eraStartDays;
+    private final long[] eraMaxEndDays;
+
+    private CatalogGraph(Builder builder) {
+        List<SongNode> sortedSongs = new ArrayList<>(builder.songs.values());
+        sortedSongs.sort(Comparator.comparingLong(SongNode::id));
+        this.songs = sortedSongs.toArray(new SongNode[0]);
+        this.songIds = sortedSongs.stream().mapToLong(SongNode::id).toArray();
+
+        List<MemberNode> sortedMembers = new ArrayList<>(builder.members.values());
+        sortedMembers.sort(Comparator.comparingLong(MemberNode::id));
+        this.members = sortedMembers.toArray(new MemberNode[0]);
+        this.memberIds = sortedMembers.stream().mapToLong(MemberNode::id).toArray();
+
+        this.albumIds = builder.albumIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+
+        // Album -> songs, in track order
+        List<int[]> albumLinks = new ArrayList<>();
+        for (int songIndex = 0; songIndex < songs.length; songIndex++) {
+            int albumIndex = songs[songIndex].albumId() == null ? -1 : Arrays.binarySearch(albumIds, songs[songIndex].albumId());
+            if (albumIndex >= 0) {
+                albumLinks.add(new int[]{albumIndex, songIndex});
+            }
+        }
+        this.albumSongs = Adjacency.of(albumIds.length, albumLinks,
+                Comparator.comparing((Integer index) -> songs[index].trackNumber(), Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingLong(index -> songs[index].id()));
+
+        // Member <-> song, both directions
+        List<int[]> memberToSong = new ArrayList<>();
+        List<int[]> songToMember = new ArrayList<>();
+        for (long[] link : builder.songMemberLinks) {
+            int songIndex = Arrays.binarySearch(songIds, link[0]);
+            int memberIndex = Arrays.binarySearch(memberIds, link[1]);
+            if (songIndex >= 0 && memberIndex >= 0) {
+                memberToSong.add(new int[]{memberIndex, songIndex});
+                songToMember.add(new int[]{songIndex, memberIndex});
+            }
+        }
+        this.memberSongs = Adjacency.of(members.length, memberToSong, Comparator.naturalOrder());
+        this.songMembers = Adjacency.of(songs.length, songToMember, Comparator.naturalOrder());
+
+        Map<MemberLine, int[]> lines = new EnumMap<>(MemberLine.class);
+        builder.memberLines.forEach((line, ids) -> lines.put(line, ids.stream()
+                .mapToInt(id -> Arrays.binarySearch(memberIds, id))
+                .filter(index -> index >= 0)
+                .sorted()
+                .distinct()
+                .toArray()));
+        this.membersByLine = lines;
+
+        int[] allSongs = new int[songs.length];
+        Arrays.setAll(allSongs, index -> index);
+        this.titleTracks = Arrays.stream(allSongs).filter(index -> songs[index].isTitle()).toArray();
+        this.featuringSongs = Arrays.stream(allSongs)
+                .filter(index -> songMembers.degree(index) > 0 && isFeaturing(songs[index]))
+                .boxed()
+                .sorted(Comparator.comparing((Integer index) -> songs[index].releaseDate(),
+                        Comparator.nullsFirst(Comparator.<LocalDate>reverseOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        List<EraNode> sortedEras = new ArrayList<>(builder.eras);
+        sortedEras.sort(Comparator.comparingLong(CatalogGraph::startDay).thenComparingLong(EraNode::id));
+        this.eras = sortedEras.toArray(new EraNode[0]);
+        this.eraStartDays = sortedEras.stream().mapToLong(CatalogGraph::startDay).toArray();
+        this.eraMaxEndDays = new long[eras.length];
+        long maxEnd = Long.MIN_VALUE;
+        for (int i = 0; i < eras.length; i++) {
+            maxEnd = Math.max(maxEnd, endDay(eras[i]));
+            eraMaxEndDays[i] = maxEnd;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean hasSong(long songId) {
+        return Arrays.binarySearch(songIds, songId) >= 0;
+    }
+
+    public boolean hasMember(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    public boolean hasAlbum(long albumId) {
+        return Arrays.binarySearch(albumIds, albumId) >= 0;
+    }
+
+    public List<SongSummaryResponse> getSongsByAlbum(long albumId) {
+        int albumIndex = Arrays.binarySearch(albumIds, albumId);
+        return albumIndex < 0 ? List.of() : toSongResponses(albumSongs.targets(albumIndex));
+    }
+
+    public List<SongSummaryResponse> getSongsByMember(long memberId) {
+        int memberIndex = Arrays.binarySearch(memberIds, memberId);
+        return memberIndex < 0 ? List.of() : toSongResponses(memberSongs.targets(memberIndex));
+    }
+
+    public List<MemberSummaryResponse> getMembersBySong(long songId) {
+        int songIndex = Arrays.binarySearch(songIds, songId);
+        return songIndex < 0 ? List.of() : toMemberResponses(songMembers.targets(songIndex));
+    }
+
+    public List<MemberSummaryResponse> getMembersByLine(MemberLine lineType) {
+        return toMemberResponses(membersByLine.getOrDefault(lineType, new int[0]));
+    }
+
+    public List<MemberSummaryResponse> getAllMembers() {
+        List<MemberSummaryResponse> responses = new ArrayList<>(members.length);
+        for (MemberNode member : members) {
+            responses.add(member.toSummaryResponse());
+        }
+        return responses;
+    }
+
+    public List<SongSummaryResponse> getTitleTracks() {
+        return toSongResponses(titleTracks);
+    }
+
+    public List<SongSummaryResponse> getFeaturingSongs() {
+        return toSongResponses(featuringSongs);
+    }
+
+    /**
+     * Finds the era whose [start, end] range contains the date, preferring the latest-starting one.
+     * Eras without a start date count as open-ended in the past, and eras without an end date as ongoing.
+     */
+    public Optional<EraSummaryResponse> getEraByDate(LocalDate date) {
+        long day = date.toEpochDay();
+        int index = upperBound(eraStartDays, day) - 1;
+        // Walk back only while some earlier era could still reach the date
+        for (; index >= 0 && eraMaxEndDays[index] >= day; index--) {
+            if (endDay(eras[index]) >= day) {
+                return Optional.of(eras[index].toSummaryResponse());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<EraSummaryResponse> getLatestEra() {
+        return eras.length == 0 ? Optional.empty() : Optional.of(eras[eras.length - 1].toSummaryResponse());
+    }
+
+    public List<EraSummaryResponse> getAllEras() {
+        List<EraSummaryResponse> responses = new ArrayList<>(eras.length);
+        for (EraNode era : eras) {
+            responses.add(era.toSummaryResponse());
+        }
+        return responses;
+    }
+
+    public int getSongCount() {
+        return songs.length;
+    }
+
+    public int getMemberCount() {
+        return members.length;
+    }
+
+    public int getAlbumCount() {
+        return albumIds.length;
+    }
+
+    public int getEraCount() {
+        return eras.length;
+    }
+
+    private List<SongSummaryResponse> toSongResponses(int[] indexes) {
+        List<SongSummaryResponse> responses = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            responses.add(songs[index].toSummaryResponse());
+        }
+        return responses;
+    }
+
+    private List<MemberSummaryResponse> toMemberResponses(int[] indexes) {
+        List<MemberSummaryResponse> responses = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            responses.add(members[index].toSummaryResponse());
+        }
+        return responses;
+    }
+
+    private static boolean isFeaturing(SongNode song) {
+        return song.artist() != null && !BTS_ARTIST_NAMES.contains(song.artist().toLowerCase());
+    }
+
+    private static long startDay(EraNode era) {
+        return era.startDate() == null ? Long.MIN_VALUE : era.startDate().toEpochDay();
+    }
+
+    private static long endDay(EraNode era) {
+        return era.endDate() == null ? Long.MAX_VALUE : era.endDate().toEpochDay();
+    }
+
+    // First index whose value is greater than the key
+    private static int upperBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record SongNode(long id, Long albumId, String title, String koreanTitle, Integer duration,
+                           Integer trackNumber, boolean isTitle, String language, String artist,
+                           LocalDate releaseDate) {
+
+        SongSummaryResponse toSummaryResponse() {
+            return SongSummaryResponse.builder()
+                    .id(id)
+                    .title(title)
+                    .koreanTitle(koreanTitle)
+                    .duration(duration)
+                    .trackNumber(trackNumber)
+                    .isTitle(isTitle)
+                    .language(language)
+                    .build();
+        }
+    }
+
+    public record MemberNode(long id, String stageName, String profileImagePath) {
+
+        MemberSummaryResponse toSummaryResponse() {
+            return MemberSummaryResponse.builder()
+                    .id(id)
+                    .stageName(stageName)
+                    .profileImagePath(profileImagePath)
+                    .build();
+        }
+    }
+
+    public record EraNode(long id, String name, LocalDate startDate, LocalDate endDate, String description) {
+
+        EraSummaryResponse toSummaryResponse() {
+            return EraSummaryResponse.builder()
+                    .id(id)
+                    .name(name)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .description(description)
+                    .build();
+        }
+    }
+
+    /**
+     * Compressed adjacency lists: the targets of node {@code i} are
+     * {@code targets[offsets[i]] .. targets[offsets[i + 1] - 1]}.
+     */
+    private static final class Adjacency {
+        private final int[] offsets;
+        private final int[] targets;
+
+        private Adjacency(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        static Adjacency of(int nodeCount, List<int[]> links, Comparator<Integer> targetOrder) {
+            // Join tables can repeat a pair; keep each link once
+            Set<Long> seen = new HashSet<>();
+            List<int[]> distinct = new ArrayList<>(links.size());
+            for (int[] link : links) {
+                if (seen.add(((long) link[0] << 32) | link[1])) {
+                    distinct.add(link);
+                }
+            }
+
+            int[] offsets = new int[nodeCount + 1];
+            for (int[] link : distinct) {
+                offsets[link[0] + 1]++;
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            int[] targets = new int[distinct.size()];
+            int[] next = Arrays.copyOf(offsets, nodeCount);
+            for (int[] link : distinct) {
+                targets[next[link[0]]++] = link[1];
+            }
+
+            for (int node = 0; node < nodeCount; node++) {
+                Integer[] slice = new Integer[offsets[node + 1] - offsets[node]];
+                for (int i = 0; i < slice.length; i++) {
+                    slice[i] = targets[offsets[node] + i];
+                }
+                Arrays.sort(slice, targetOrder);
+                for (int i = 0; i < slice.length; i++) {
+                    targets[offsets[node] + i] = slice[i];
+                }
+            }
+            return new Adjacency(offsets, targets);
+        }
+
+        int degree(int node) {
+            return offsets[node + 1] - offsets[node];
+        }
+
+        int[] targets(int node) {
+            return Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]);
+        }
+    }
+
+    public static final class Builder {
+        private final Map<Long, SongNode> songs = new HashMap<>();
+        private final Map<Long, MemberNode> members = new HashMap<>();
+        private final List<Long> albumIds = new ArrayList<>();
+        private final List<EraNode> eras = new ArrayList<>();
+        private final List<long[]> songMemberLinks = new ArrayList<>();
+        private final Map<MemberLine, List<Long>> memberLines = new EnumMap<>(MemberLine.class);
+
+        private Builder() {
+        }
+
+        public Builder song(SongNode song) {
+            songs.put(song.id(), song);
+            return this;
+        }
+
+        public Builder member(MemberNode member) {
+            members.put(member.id(), member);
+            return this;
+        }
+
+        public Builder album(long albumId) {
+            albumIds.add(albumId);
+            return this;
+        }
+
+        public Builder era(EraNode era) {
+            eras.add(era);
+            return this;
+        }
+
+        public Builder songMember(long songId, long memberId) {
+            songMemberLinks.add(new long[]{songId, memberId});
+            return this;
+        }
+
+        public Builder memberLine(long memberId, MemberLine lineType) {
+            memberLines.computeIfAbsent(lineType, line -> new ArrayList<>()).add(memberId);
+            return this;
+        }
+
+        public CatalogGraph build() {
+            return new CatalogGraph(this);
+        }
+    }
+}
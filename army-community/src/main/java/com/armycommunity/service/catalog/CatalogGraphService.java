@@ -0,0 +1,20 @@
+package com.armycommunity.service.catalog;
+
+public interface CatalogGraphService {
+
+    /**
+     * Returns the current snapshot, building it on first use.
+     */
+    CatalogGraph getGraph();
+
+    /**
+     * Loads the catalog and atomically replaces the current snapshot.
+     */
+    CatalogGraph rebuild();
+
+    /**
+     * Rebuilds once the surrounding transaction commits, or immediately outside a transaction.
+     * Repeated calls within one transaction cause a single rebuild.
+     */
+    void rebuildAfterCommit();
+}
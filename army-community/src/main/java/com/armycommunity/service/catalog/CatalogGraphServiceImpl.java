@@ -0,0 +1,132 @@
+package com.armycommunity.service.catalog;
+
+import com.armycommunity.model.album.Era;
+import com.armycommunity.model.member.Member;
+import com.armycommunity.model.song.Song;
+import com.armycommunity.repository.album.AlbumRepository;
+import com.armycommunity.repository.album.EraRepository;
+import com.armycommunity.repository.member.MemberLineAssignmentRepository;
+import com.armycommunity.repository.member.MemberRepository;
+import com.armycommunity.repository.song.SongMemberRepository;
+import com.armycommunity.repository.song.SongRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogGraphServiceImpl implements CatalogGraphService {
+
+    // Transaction resource key marking that a rebuild is already registered for the current transaction
+    private static final Object REBUILD_PENDING = new Object();
+
+    private final AlbumRepository albumRepository;
+    private final SongRepository songRepository;
+    private final MemberRepository memberRepository;
+    private final EraRepository eraRepository;
+    private final SongMemberRepository songMemberRepository;
+    private final MemberLineAssignmentRepository memberLineAssignmentRepository;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicReference<CatalogGraph> graph = new AtomicReference<>();
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        // A separate transaction, because rebuilds also run from after-commit callbacks
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public CatalogGraph getGraph() {
+        CatalogGraph current = graph.get();
+        if (current == null) {
+            synchronized (this) {
+                current = graph.get();
+                if (current == null) {
+                    current = rebuild();
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized CatalogGraph rebuild() {
+        long startTime = System.currentTimeMillis();
+        CatalogGraph rebuilt = readOnlyTransaction.execute(status -> load());
+        graph.set(rebuilt);
+        log.info("Rebuilt catalog graph with {} songs, {} members, {} albums and {} eras in {} ms",
+                rebuilt.getSongCount(), rebuilt.getMemberCount(), rebuilt.getAlbumCount(),
+                rebuilt.getEraCount(), System.currentTimeMillis() - startTime);
+        return rebuilt;
+    }
+
+    private CatalogGraph load() {
+        CatalogGraph.Builder builder = CatalogGraph.builder();
+
+        for (Song song : songRepository.findAll()) {
+            builder.song(new CatalogGraph.SongNode(song.getId(),
+                    song.getAlbum() != null ? song.getAlbum().getId() : null,
+                    song.getTitle(), song.getKoreanTitle(), song.getDuration(), song.getTrackNumber(),
+                    Boolean.TRUE.equals(song.getIsTitle()), song.getLanguage(), song.getArtist(),
+                    song.getReleaseDate()));
+        }
+        for (Member member : memberRepository.findAll()) {
+            builder.member(new CatalogGraph.MemberNode(member.getId(), member.getStageName(),
+                    member.getProfileImagePath()));
+        }
+        for (Era era : eraRepository.findAll()) {
+            builder.era(new CatalogGraph.EraNode(era.getId(), era.getName(), era.getStartDate(),
+                    era.getEndDate(), era.getDescription()));
+        }
+        albumRepository.findAllIds().forEach(builder::album);
+        songMemberRepository.findAllLinks()
+                .forEach(link -> builder.songMember(link.getSongId(), link.getMemberId()));
+        memberLineAssignmentRepository.findAllLinks()
+                .forEach(link -> builder.memberLine(link.getMemberId(), link.getLineType()));
+
+        return builder.build();
+    }
+
+    @Override
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(REBUILD_PENDING)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(REBUILD_PENDING, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    // Keep serving the previous snapshot rather than failing the committed request
+                    log.error("Failed to rebuild catalog graph: {}", e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REBUILD_PENDING);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.armycommunity.service.catalog;
+
+import com.armycommunity.model.album.AlbumType;
+import com.armycommunity.service.album.AlbumService;
+import com.armycommunity.service.musicvideo.MusicVideoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds the catalog graph and fills the catalog list caches once the application is ready. With
+ * {@code app.catalog.warm-up.async=true} this runs on a background thread, so the first requests are
+ * accepted while it is still in progress; anything they need that is not warm yet is loaded on demand.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogWarmUp {
+
+    private final CatalogGraphService catalogGraphService;
+    private final AlbumService albumService;
+    private final MusicVideoService musicVideoService;
+
+    @Value("${app.catalog.warm-up.async:false}")
+    private boolean async;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!async) {
+            warmUp();
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::warmUp);
+        executor.shutdown();
+    }
+
+    private void warmUp() {
+        long startTime = System.currentTimeMillis();
+        try {
+            catalogGraphService.rebuild();
+            albumService.getAllAlbums();
+            for (AlbumType albumType : AlbumType.values()) {
+                albumService.getAlbumsByType(albumType);
+            }
+            musicVideoService.getAllMusicVideos();
+            log.info("Catalog warm-up completed in {} ms", System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            // Reads fall back to loading on demand
+            log.warn("Catalog warm-up failed: {}", e.getMessage(), e);
+        }
+    }
+}
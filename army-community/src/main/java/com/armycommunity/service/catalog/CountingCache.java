@@ -0,0 +1,78 @@
+package com.armycommunity.service.catalog;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache decorator that counts hits, misses and clears for {@link CatalogCacheStats}.
+ */
+public class CountingCache implements Cache {
+
+    private final Cache delegate;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder clears = new LongAdder();
+
+    public CountingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return record(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : type.cast(wrapper.get());
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) wrapper.get();
+            return value;
+        }
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        clears.increment();
+        delegate.clear();
+    }
+
+    public CatalogCacheStats getStats(int size) {
+        return new CatalogCacheStats(getName(), size, hits.sum(), misses.sum(), clears.sum());
+    }
+
+    private ValueWrapper record(ValueWrapper wrapper) {
+        (wrapper == null ? misses : hits).increment();
+        return wrapper;
+    }
+}
@@ -0,0 +1,17 @@
+package com.armycommunity.service.catalog;
+
+import org.springframework.cache.annotation.CacheEvict;
+
+import java.lang.annotation.*;
+
+/**
+ * Clears every catalog cache once the annotated mutation commits. Album, song, member, era and
+ * music video responses embed each other, so a change to any of them drops all regions.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@CacheEvict(cacheNames = {CatalogCaches.ALBUMS, CatalogCaches.SONGS, CatalogCaches.MEMBERS,
+        CatalogCaches.ERAS, CatalogCaches.MUSIC_VIDEOS}, allEntries = true)
+public @interface EvictCatalogCaches {
+}
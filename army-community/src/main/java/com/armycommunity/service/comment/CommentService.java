@@ -1,6 +1,7 @@
 package com.armycommunity.service.comment;
 
 import com.armycommunity.dto.request.post.CommentRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.post.CommentResponse;
 
 import java.util.List;
@@ -16,6 +17,8 @@ public interface CommentService {
 
     List<CommentResponse> getPostComments(Long postId);
 
+    CursorPageResponse<CommentResponse> getPostCommentsByCursor(Long postId, String cursor, int size);
+
     List<CommentResponse> getCommentReplies(Long commentId);
 
     Long countPostComments(Long postId);
@@ -1,6 +1,8 @@
 package com.armycommunity.service.comment;
 
+import com.armycommunity.dto.request.KeysetCursor;
 import com.armycommunity.dto.request.post.CommentRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.request.user.NotificationRequest;
 import com.armycommunity.dto.response.post.CommentResponse;
 import com.armycommunity.exception.ResourceNotFoundException;
@@ -14,6 +16,8 @@ import com.armycommunity.repository.post.PostRepository;
 import com.armycommunity.repository.user.UserRepository;
 import com.armycommunity.service.activitylog.ActivityLogService;
 import com.armycommunity.service.notification.NotificationService;
+import com.armycommunity.service.trending.TrendingEventType;
+import com.armycommunity.service.trending.TrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,6 +41,7 @@ public class CommentServiceImpl implements CommentService {
     private final CommentMapper commentMapper;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
+    private final TrendingService trendingService;
 
     @Override
     @Transactional
@@ -57,6 +62,8 @@ public class CommentServiceImpl implements CommentService {
         comment.setIsDeleted(false);
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        trendingService.recordEvent(postId, TrendingEventType.COMMENT);
         log.info("Comment created with id: {} for postId: {} by userId: {}", savedComment.getId(), postId, userId);
 
         // Log activity with more details
@@ -110,6 +117,8 @@ public class CommentServiceImpl implements CommentService {
         reply.setIsDeleted(false);
 
         Comment savedReply = commentRepository.save(reply);
+        postRepository.adjustCommentCount(parentComment.getPost().getId(), 1);
+        trendingService.recordEvent(parentComment.getPost().getId(), TrendingEventType.COMMENT);
         log.info("Reply created with id: {} to commentId: {} by userId: {}", savedReply.getId(), parentCommentId, userId);
 
         // Log activity with more details
@@ -207,6 +216,10 @@ public class CommentServiceImpl implements CommentService {
             throw new UnauthorizedException("You can only delete your own comments");
         }
 
+        if (!Boolean.TRUE.equals(comment.getIsDeleted())) {
+            postRepository.adjustCommentCount(comment.getPost().getId(), -1);
+            trendingService.recordEvent(comment.getPost().getId(), TrendingEventType.COMMENT_DELETED);
+        }
 
         comment.setIsDeleted(true);
         comment.setContent("[Comment deleted]");
@@ -248,6 +261,28 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.toResponseList(comments);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getPostCommentsByCursor(Long postId, String cursor, int size) {
+        log.info("Fetching comments for postId: {} by cursor", postId);
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+
+        if (post.getIsDeleted()) {
+            throw new ResourceNotFoundException("Post not found with id: " + postId);
+        }
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<Comment> comments = commentRepository.findPostCommentsBefore(
+                postId, position.getCreatedAt(), position.getId(), size + 1);
+
+        return CursorPageResponse.fromRows(comments, size,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode(),
+                commentMapper::toResponseList);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentReplies(Long parentCommentId) {
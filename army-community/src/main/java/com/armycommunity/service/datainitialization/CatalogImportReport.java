@@ -0,0 +1,18 @@
+package com.armycommunity.service.datainitialization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportReport {
+    private String location;
+    private List<EntityImportStats> entities;
+    private long elapsedMillis;
+}
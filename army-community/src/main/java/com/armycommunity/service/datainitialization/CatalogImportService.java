@@ -0,0 +1,11 @@
+package com.armycommunity.service.datainitialization;
+
+public interface CatalogImportService {
+
+    /**
+     * Imports members, eras, albums, songs and music videos from the JSON files under {@code location}
+     * (for example {@code classpath:data/}). Rows are upserted on their natural keys, so re-running an
+     * import updates existing rows instead of duplicating them. Missing files are skipped.
+     */
+    CatalogImportReport importCatalog(String location);
+}
@@ -0,0 +1,453 @@
+package com.armycommunity.service.datainitialization;
+
+import com.armycommunity.model.album.AlbumType;
+import com.armycommunity.model.member.MemberLine;
+import com.armycommunity.service.catalog.CatalogCacheService;
+import com.armycommunity.service.catalog.CatalogGraphService;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streaming catalog importer. Each JSON file is read element by element with Jackson's streaming
+ * parser and written in chunks: parent rows with one multi-row upsert per chunk (RETURNING the IDs
+ * of inserted and updated rows alike), join rows with JDBC batches. Files are imported in dependency
+ * order and cross-file references are resolved from in-memory natural-key maps.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    // Separates the parts of composite natural keys; matches chr(31) in the RETURNING clauses
+    private static final String KEY_SEPARATOR = "\u001F";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+    private final CatalogGraphService catalogGraphService;
+    private final CatalogCacheService catalogCacheService;
+
+    @Value("${app.catalog.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public CatalogImportReport importCatalog(String location) {
+        String basePath = location.endsWith("/") ? location : location + "/";
+        log.info("Importing catalog from {}", basePath);
+        long startTime = System.currentTimeMillis();
+
+        List<EntityImportStats> entities = new ArrayList<>();
+        try {
+            entities.add(importMembers(basePath + "members.json"));
+            entities.add(importEras(basePath + "eras.json"));
+            entities.add(importAlbums(basePath + "albums.json"));
+            entities.add(importSongs(basePath + "songs.json"));
+            entities.add(importMusicVideos(basePath + "music_videos.json"));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to import catalog from " + basePath, e);
+        }
+
+        // Rows were written over JDBC, so neither the caches nor the graph saw them change
+        catalogCacheService.evictAll();
+        catalogGraphService.rebuildAfterCommit();
+
+        for (EntityImportStats stats : entities) {
+            log.info("Imported {} {} ({} links, {} skipped) in {} ms - {} rows/s", stats.getRows(), stats.getEntity(),
+                    stats.getLinks(), stats.getSkipped(), stats.getElapsedMillis(), Math.round(stats.getRowsPerSecond()));
+        }
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        log.info("Catalog import from {} completed in {} ms", basePath, elapsedMillis);
+
+        return CatalogImportReport.builder()
+                .location(basePath)
+                .entities(entities)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private EntityImportStats importMembers(String path) throws IOException {
+        ImportCounter counter = new ImportCounter("members");
+        streamChunks(path, MemberData.class, counter, chunk -> {
+            Collection<MemberData> members = distinctBy(chunk, MemberData::getStageName, counter);
+            Map<String, Long> memberIds = upsert(
+                    "INSERT INTO members (stage_name, real_name, birthday, position, profile_image_path) VALUES ",
+                    "(?, ?, ?, ?, ?)",
+                    " ON CONFLICT (stage_name) DO UPDATE SET real_name = EXCLUDED.real_name, birthday = EXCLUDED.birthday, " +
+                            "position = EXCLUDED.position, profile_image_path = EXCLUDED.profile_image_path, " +
+                            "updated_at = CURRENT_TIMESTAMP RETURNING id, stage_name AS natural_key",
+                    members,
+                    member -> new Object[]{member.getStageName(), member.getRealName(), member.getBirthday(),
+                            member.getPosition(), member.getProfileImagePath()});
+            counter.rows += memberIds.size();
+
+            List<Object[]> lineAssignments = new ArrayList<>();
+            for (MemberData member : members) {
+                Long memberId = memberIds.get(member.getStageName());
+                if (memberId != null && member.getLineTypes() != null) {
+                    member.getLineTypes().forEach(lineType -> lineAssignments.add(new Object[]{memberId, lineType.name()}));
+                }
+            }
+            counter.links += batchInsert("INSERT INTO member_line_assignments (member_id, line_type) " +
+                    "VALUES (?, ?::member_line) ON CONFLICT DO NOTHING", lineAssignments);
+        });
+        return counter.toStats();
+    }
+
+    private EntityImportStats importEras(String path) throws IOException {
+        ImportCounter counter = new ImportCounter("eras");
+        streamChunks(path, EraData.class, counter, chunk -> counter.rows += upsert(
+                "INSERT INTO eras (name, start_date, end_date, description) VALUES ",
+                "(?, ?, ?, ?)",
+                " ON CONFLICT (name) DO UPDATE SET start_date = EXCLUDED.start_date, end_date = EXCLUDED.end_date, " +
+                        "description = EXCLUDED.description, updated_at = CURRENT_TIMESTAMP RETURNING id, name AS natural_key",
+                distinctBy(chunk, EraData::getName, counter),
+                era -> new Object[]{era.getName(), era.getStartDate(), era.getEndDate(), era.getDescription()}).size());
+        return counter.toStats();
+    }
+
+    private EntityImportStats importAlbums(String path) throws IOException {
+        ImportCounter counter = new ImportCounter("albums");
+        Map<String, Long> eraIds = loadIds("SELECT name AS natural_key, id FROM eras");
+        Set<Long> memberIds = new HashSet<>(loadIds("SELECT stage_name AS natural_key, id FROM members").values());
+
+        streamChunks(path, AlbumData.class, counter, chunk -> {
+            List<AlbumData> resolved = new ArrayList<>(chunk.size());
+            for (AlbumData album : chunk) {
+                if (!eraIds.containsKey(album.getEraName())) {
+                    log.warn("Era '{}' not found for album '{}'", album.getEraName(), album.getTitle());
+                    counter.skipped++;
+                    continue;
+                }
+                resolved.add(album);
+            }
+
+            Collection<AlbumData> albums = distinctBy(resolved, CatalogImportServiceImpl::albumKey, counter);
+            Map<String, Long> albumIds = upsert(
+                    "INSERT INTO albums (title, album_type, release_date, korean_title, era_id, artist, is_official, " +
+                            "cover_image_path, description) VALUES ",
+                    "(?, ?::album_type, ?, ?, ?, ?, ?, ?, ?)",
+                    " ON CONFLICT (title, artist) DO UPDATE SET album_type = EXCLUDED.album_type, " +
+                            "release_date = EXCLUDED.release_date, korean_title = EXCLUDED.korean_title, era_id = EXCLUDED.era_id, " +
+                            "is_official = EXCLUDED.is_official, cover_image_path = EXCLUDED.cover_image_path, " +
+                            "description = EXCLUDED.description, updated_at = CURRENT_TIMESTAMP " +
+                            "RETURNING id, title || chr(31) || artist AS natural_key",
+                    albums,
+                    album -> new Object[]{album.getTitle(), album.getAlbumType().name(), album.getReleaseDate(),
+                            album.getKoreanTitle(), eraIds.get(album.getEraName()), album.getArtist(),
+                            album.getIsOfficial() != null ? album.getIsOfficial() : Boolean.TRUE,
+                            album.getCoverImagePath(), album.getDescription()});
+            counter.rows += albumIds.size();
+
+            List<Object[]> memberAlbums = new ArrayList<>();
+            for (AlbumData album : albums) {
+                Long albumId = albumIds.get(albumKey(album));
+                if (albumId == null || album.getMemberIds() == null) {
+                    continue;
+                }
+                for (Long memberId : album.getMemberIds()) {
+                    if (memberIds.contains(memberId)) {
+                        memberAlbums.add(new Object[]{memberId, albumId});
+                    } else {
+                        log.warn("Member ID {} not found for album '{}'", memberId, album.getTitle());
+                    }
+                }
+            }
+            counter.links += batchInsert("INSERT INTO member_albums (member_id, album_id) VALUES (?, ?) " +
+                    "ON CONFLICT DO NOTHING", memberAlbums);
+        });
+        return counter.toStats();
+    }
+
+    private EntityImportStats importSongs(String path) throws IOException {
+        ImportCounter counter = new ImportCounter("songs");
+        // Songs reference albums by title only; the first album with a given title wins
+        Map<String, Long> albumIds = loadIds("SELECT title AS natural_key, id FROM albums ORDER BY id");
+        Map<String, Long> memberIds = loadIds("SELECT stage_name AS natural_key, id FROM members");
+
+        streamChunks(path, SongData.class, counter, chunk -> {
+            List<SongData> resolved = new ArrayList<>(chunk.size());
+            for (SongData song : chunk) {
+                if (song.getAlbumTitle() != null && !albumIds.containsKey(song.getAlbumTitle())) {
+                    log.warn("Album '{}' not found for song '{}'", song.getAlbumTitle(), song.getTitle());
+                    counter.skipped++;
+                    continue;
+                }
+                song.setAlbumId(song.getAlbumTitle() != null ? albumIds.get(song.getAlbumTitle()) : null);
+                resolved.add(song);
+            }
+
+            Collection<SongData> songs = distinctBy(resolved, CatalogImportServiceImpl::songKey, counter);
+            Map<String, Long> songIds = upsert(
+                    "INSERT INTO songs (album_id, title, korean_title, duration, track_number, isTitle, doolset_url, " +
+                            "genius_url, language, featuring_artist, release_date, release_type, artist, url) VALUES ",
+                    "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    " ON CONFLICT ((COALESCE(album_id, 0)), title) DO UPDATE SET korean_title = EXCLUDED.korean_title, " +
+                            "duration = EXCLUDED.duration, track_number = EXCLUDED.track_number, isTitle = EXCLUDED.isTitle, " +
+                            "doolset_url = EXCLUDED.doolset_url, genius_url = EXCLUDED.genius_url, language = EXCLUDED.language, " +
+                            "featuring_artist = EXCLUDED.featuring_artist, release_date = EXCLUDED.release_date, " +
+                            "release_type = EXCLUDED.release_type, artist = EXCLUDED.artist, url = EXCLUDED.url, " +
+                            "updated_at = CURRENT_TIMESTAMP RETURNING id, COALESCE(album_id, 0) || chr(31) || title AS natural_key",
+                    songs,
+                    song -> new Object[]{song.getAlbumId(), song.getTitle(), song.getKoreanTitle(), song.getDuration(),
+                            song.getTrackNumber(), Boolean.TRUE.equals(song.getIsTitle()), song.getDoolsetUrl(),
+                            song.getGeniusUrl(), song.getLanguage(),
+                            song.getFeaturingArtist() != null ? new String[]{song.getFeaturingArtist()} : null,
+                            song.getReleaseDate(), song.getReleaseType(), song.getArtist(), song.getUrl()});
+            counter.rows += songIds.size();
+
+            List<Object[]> songMembers = new ArrayList<>();
+            for (SongData song : songs) {
+                Long songId = songIds.get(songKey(song));
+                if (songId == null || song.getMemberNames() == null) {
+                    continue;
+                }
+                for (String memberName : song.getMemberNames()) {
+                    Long memberId = memberIds.get(memberName);
+                    if (memberId != null) {
+                        songMembers.add(new Object[]{songId, memberId});
+                    } else {
+                        log.warn("Member '{}' not found for song '{}'", memberName, song.getTitle());
+                    }
+                }
+            }
+            counter.links += batchInsert("INSERT INTO song_members (song_id, member_id) VALUES (?, ?) " +
+                    "ON CONFLICT DO NOTHING", songMembers);
+        });
+        return counter.toStats();
+    }
+
+    private EntityImportStats importMusicVideos(String path) throws IOException {
+        ImportCounter counter = new ImportCounter("music videos");
+        // Music videos reference songs by title only; the first song with a given title wins
+        Map<String, Long> songIds = loadIds("SELECT title AS natural_key, id FROM songs ORDER BY id");
+
+        streamChunks(path, MusicVideoData.class, counter, chunk -> {
+            List<MusicVideoData> resolved = new ArrayList<>(chunk.size());
+            for (MusicVideoData video : chunk) {
+                if (!songIds.containsKey(video.getSongTitle())) {
+                    log.warn("Song '{}' not found for music video '{}'", video.getSongTitle(), video.getTitle());
+                    counter.skipped++;
+                    continue;
+                }
+                resolved.add(video);
+            }
+
+            counter.rows += upsert(
+                    "INSERT INTO music_videos (song_id, title, release_date, video_type, url) VALUES ",
+                    "(?, ?, ?, ?, ?)",
+                    " ON CONFLICT (song_id, title) DO UPDATE SET release_date = EXCLUDED.release_date, " +
+                            "video_type = EXCLUDED.video_type, url = EXCLUDED.url, updated_at = CURRENT_TIMESTAMP " +
+                            "RETURNING id, song_id || chr(31) || title AS natural_key",
+                    distinctBy(resolved, video -> songIds.get(video.getSongTitle()) + KEY_SEPARATOR + video.getTitle(), counter),
+                    video -> new Object[]{songIds.get(video.getSongTitle()), video.getTitle(), video.getReleaseDate(),
+                            video.getVideoType(), video.getUrl()}).size();
+        });
+        return counter.toStats();
+    }
+
+    /**
+     * Reads a top-level JSON array one element at a time and hands it on in chunks of the batch size,
+     * so memory use is bounded by the chunk rather than the file.
+     */
+    private <T> void streamChunks(String path, Class<T> type, ImportCounter counter,
+                                  Consumer<List<T>> chunkConsumer) throws IOException {
+        Resource resource = resourceLoader.getResource(path);
+        if (!resource.exists()) {
+            log.info("No {} to import at {}", counter.entity, path);
+            return;
+        }
+
+        try (InputStream inputStream = resource.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array in " + path);
+            }
+
+            List<T> chunk = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, type));
+                if (chunk.size() == batchSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        }
+    }
+
+    /**
+     * One multi-row INSERT ... ON CONFLICT per chunk. Returns the ID of every inserted or updated row
+     * keyed by the {@code natural_key} column of the RETURNING clause.
+     */
+    private <T> Map<String, Long> upsert(String insert, String rowPlaceholders, String onConflict,
+                                         Collection<T> rows, Function<T, Object[]> values) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        StringJoiner valuesSql = new StringJoiner(", ");
+        List<Object> args = new ArrayList<>();
+        for (T row : rows) {
+            valuesSql.add(rowPlaceholders);
+            Collections.addAll(args, values.apply(row));
+        }
+
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(insert + valuesSql + onConflict,
+                (RowCallbackHandler) rs -> ids.put(rs.getString("natural_key"), rs.getLong("id")), args.toArray());
+        return ids;
+    }
+
+    private long batchInsert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        // Rewritten batches report SUCCESS_NO_INFO per row
+        return Arrays.stream(jdbcTemplate.batchUpdate(sql, rows))
+                .mapToLong(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .sum();
+    }
+
+    private Map<String, Long> loadIds(String sql) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> ids.putIfAbsent(rs.getString("natural_key"), rs.getLong("id")));
+        return ids;
+    }
+
+    // ON CONFLICT DO UPDATE cannot touch the same row twice in one statement, so the last duplicate in a chunk wins
+    private static <T> Collection<T> distinctBy(List<T> chunk, Function<T, String> key, ImportCounter counter) {
+        Map<String, T> distinct = new LinkedHashMap<>();
+        for (T row : chunk) {
+            String rowKey = key.apply(row);
+            if (rowKey == null) {
+                counter.skipped++;
+            } else if (distinct.put(rowKey, row) != null) {
+                counter.skipped++;
+            }
+        }
+        return distinct.values();
+    }
+
+    private static String albumKey(AlbumData album) {
+        return album.getTitle() + KEY_SEPARATOR + album.getArtist();
+    }
+
+    private static String songKey(SongData song) {
+        return (song.getAlbumId() != null ? song.getAlbumId() : 0L) + KEY_SEPARATOR + song.getTitle();
+    }
+
+    private static class ImportCounter {
+        private final String entity;
+        private final long startTime = System.currentTimeMillis();
+        private long rows;
+        private long links;
+        private long skipped;
+
+        ImportCounter(String entity) {
+            this.entity = entity;
+        }
+
+        EntityImportStats toStats() {
+            return EntityImportStats.builder()
+                    .entity(entity)
+                    .rows(rows)
+                    .links(links)
+                    .skipped(skipped)
+                    .elapsedMillis(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+    }
+
+    // Data classes for JSON deserialization
+    @Setter
+    @Getter
+    private static class MemberData {
+        private String stageName;
+        private String realName;
+        private LocalDate birthday;
+        private String position;
+        private String profileImagePath;
+        private List<MemberLine> lineTypes;
+    }
+
+    @Setter
+    @Getter
+    private static class EraData {
+        private String name;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String description;
+    }
+
+    @Setter
+    @Getter
+    private static class AlbumData {
+        private String title;
+        private String koreanTitle;
+        private AlbumType albumType;
+        private LocalDate releaseDate;
+        private String eraName;
+        private String artist;
+        private Boolean isOfficial;
+        private String coverImagePath;
+        private String description;
+        private List<Long> memberIds;
+    }
+
+    @Setter
+    @Getter
+    private static class SongData {
+        private String title;
+        private String koreanTitle;
+        private Integer duration;
+        private Integer trackNumber;
+        private Boolean isTitle;
+        private String doolsetUrl;
+        private String geniusUrl;
+        private String language;
+        private String featuringArtist;
+        private LocalDate releaseDate;
+        private String releaseType;
+        private String artist;
+        private String url;
+        private String albumTitle;
+        private List<String> memberNames;
+        // Resolved from albumTitle during the import
+        @JsonIgnore
+        private Long albumId;
+    }
+
+    @Setter
+    @Getter
+    private static class MusicVideoData {
+        private String title;
+        private LocalDate releaseDate;
+        private String videoType;
+        private String url;
+        private String songTitle;
+    }
+}
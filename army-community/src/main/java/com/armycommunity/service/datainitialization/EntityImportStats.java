@@ -0,0 +1,25 @@
+package com.armycommunity.service.datainitialization;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rows written and skipped for one entity type during a catalog import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityImportStats {
+    private String entity;
+    private long rows;
+    private long links;
+    private long skipped;
+    private long elapsedMillis;
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+    }
+}
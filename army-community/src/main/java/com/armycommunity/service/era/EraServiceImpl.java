@@ -8,8 +8,13 @@ import com.armycommunity.exception.ResourceNotFoundException;
 import com.armycommunity.mapper.EraMapper;
 import com.armycommunity.model.album.Era;
 import com.armycommunity.repository.album.EraRepository;
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.CatalogGraph;
+import com.armycommunity.service.catalog.CatalogGraphService;
+import com.armycommunity.service.catalog.EvictCatalogCaches;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,9 +33,11 @@ public class EraServiceImpl implements EraService {
 
     private final EraRepository eraRepository;
     private final EraMapper eraMapper;
+    private final CatalogGraphService catalogGraphService;
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public EraDetailResponse createEra(EraRequest request) {
         log.debug("Creating new era with name: {}", request.getName());
 
@@ -52,6 +59,7 @@ public class EraServiceImpl implements EraService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ERAS, key = "'id:' + #eraId")
     public EraDetailResponse getEraById(Long eraId) {
         log.debug("Fetching era with id: {}", eraId);
         return eraRepository.findById(eraId)
@@ -61,6 +69,7 @@ public class EraServiceImpl implements EraService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.ERAS, key = "'name:' + #name")
     public EraDetailResponse getEraByName(String name) {
         log.debug("Fetching era with name: {}", name);
         return eraRepository.findByName(name)
@@ -70,6 +79,7 @@ public class EraServiceImpl implements EraService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public EraDetailResponse updateEra(Long eraId, EraRequest request) {
         log.debug("Updating era with id: {}", eraId);
 
@@ -95,6 +105,7 @@ public class EraServiceImpl implements EraService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void deleteEra(Long eraId) {
         log.debug("Deleting era with id: {}", eraId);
 
@@ -111,50 +122,32 @@ public class EraServiceImpl implements EraService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<EraSummaryResponse> getAllEras() {
         log.debug("Fetching all eras");
-        List<Era> eras = eraRepository.findByOrderByStartDateAsc();
-        return eraMapper.toSummaryResponseList(eras);
+        return catalogGraphService.getGraph().getAllEras();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public EraSummaryResponse getCurrentEra() {
         log.debug("Fetching current era");
-        LocalDate now = LocalDate.now();
-        Optional<Era> currentEra = eraRepository.findByStartDateBeforeAndEndDateAfterOrEndDateIsNull(now, now);
-
-        if (currentEra.isPresent()) {
-            return eraMapper.toSummaryResponse(currentEra.get());
-        }
+        CatalogGraph graph = catalogGraphService.getGraph();
 
         // If no current era found, return the most recent era
-        List<Era> eras = eraRepository.findByOrderByStartDateAsc();
-        if (!eras.isEmpty()) {
-            Era mostRecentEra = eras.get(eras.size() - 1);
-            log.debug("No current era found, returning most recent era: {}", mostRecentEra.getName());
-            return eraMapper.toSummaryResponse(mostRecentEra);
-        }
-
-        throw new ResourceNotFoundException("No eras found");
+        return graph.getEraByDate(LocalDate.now())
+                .or(graph::getLatestEra)
+                .orElseThrow(() -> new ResourceNotFoundException("No eras found"));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public EraSummaryResponse getEraByDate(LocalDate date) {
         log.debug("Fetching era for date: {}", date);
-        Optional<Era> era = eraRepository.findByStartDateBeforeAndEndDateAfterOrEndDateIsNull(date, date);
-
-        if (era.isPresent()) {
-            return eraMapper.toSummaryResponse(era.get());
-        }
-
-        throw new ResourceNotFoundException("No era found for date: " + date);
+        return catalogGraphService.getGraph().getEraByDate(date)
+                .orElseThrow(() -> new ResourceNotFoundException("No era found for date: " + date));
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public Era findOrCreateEra(EraRequest request) {
         log.debug("Finding or creating era with name: {}", request.getName());
         // Try to find by name first
@@ -10,6 +10,8 @@ import com.armycommunity.model.post.Event;
 import com.armycommunity.model.user.User;
 import com.armycommunity.repository.post.EventRepository;
 import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.security.PrincipalCache;
+import com.armycommunity.security.UserPrincipal;
 import com.armycommunity.service.activitylog.ActivityLogService;
 import com.armycommunity.service.notification.NotificationService;
 import com.armycommunity.service.user.UserService;
@@ -39,6 +41,7 @@ public class EventServiceImpl implements EventService {
     private final EventMapper eventMapper;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional
@@ -108,7 +111,7 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
 
-        User user = userService.findById(userId)
+        UserPrincipal user = principalCache.get(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Check if user can update this event
@@ -166,7 +169,7 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
 
-        User user = userService.findById(userId)
+        UserPrincipal user = principalCache.get(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Check if user can delete this event
@@ -343,9 +346,9 @@ public class EventServiceImpl implements EventService {
         return eventRepository.countByIsVerifiedFalse();
     }
 
-    private Boolean canUserModifyEvent(User user, Event event) {
+    private Boolean canUserModifyEvent(UserPrincipal user, Event event) {
         // Event creator can always modify their events
-        if (event.getCreatedBy().getId().equals(user.getId())) {
+        if (event.getCreatedBy().getId().equals(user.id())) {
             return true;
         }
 
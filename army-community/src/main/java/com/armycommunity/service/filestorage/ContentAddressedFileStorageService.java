@@ -0,0 +1,223 @@
+package com.armycommunity.service.filestorage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Stores each distinct upload once, named by its SHA-256 digest under {@code blobs/ab/cd/}, and counts
+ * references in {@code file_blobs}. {@link #deleteFile} releases a reference; blobs nobody references
+ * any more are removed by a background sweeper after a grace period. Selected by
+ * {@code app.file.storage.mode=content-addressed}.
+ *
+ * <p>Reference counts change inside the caller's transaction, so they stay consistent with the rows that
+ * hold the paths. A rolled-back upload leaves a blob file without a row; the sweeper removes those too.
+ */
+@Service
+@ConditionalOnProperty(name = "app.file.storage.mode", havingValue = "content-addressed")
+@Slf4j
+public class ContentAddressedFileStorageService extends FileStorageServiceImpl {
+
+    public static final String BLOB_DIRECTORY = "blobs";
+
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO file_blobs (digest, path, size_bytes, ref_count)
+            VALUES (?, ?, ?, 1)
+            ON CONFLICT (digest) DO UPDATE
+            SET ref_count = file_blobs.ref_count + 1, updated_at = CURRENT_TIMESTAMP
+            RETURNING path, (xmax = 0) AS inserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate sweepTransaction;
+
+    @Value("${app.file.blobs.gc-grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    @Value("${app.file.blobs.gc-batch-size:500}")
+    private int gcBatchSize;
+
+    public ContentAddressedFileStorageService(ImageProcessingService imageProcessingService,
+                                              JdbcTemplate jdbcTemplate,
+                                              PlatformTransactionManager transactionManager) {
+        super(imageProcessingService);
+        this.jdbcTemplate = jdbcTemplate;
+        // Each collected blob gets its own transaction, independent of any caller
+        this.sweepTransaction = new TransactionTemplate(transactionManager);
+        this.sweepTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    protected MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Takes a reference on the blob for the staged content and renames the staged file onto the blob
+     * path if the blob is new. {@code directory} is ignored: blobs are shared across posts and profiles.
+     */
+    @Override
+    protected String commit(StagedUpload upload, String directory) throws IOException {
+        String digest = upload.digest();
+
+        // The row lock taken here also keeps the sweeper away from this blob until the caller commits
+        Map<String, Object> blob = jdbcTemplate.queryForMap(ACQUIRE_SQL, digest,
+                blobPath(digest, upload.format().getExtension()), upload.size());
+        String relativePath = (String) blob.get("path");
+        boolean inserted = Boolean.TRUE.equals(blob.get("inserted"));
+
+        Path target = getStorageDirectory().resolve(relativePath);
+        if (inserted || !Files.exists(target)) {
+            Files.createDirectories(target.getParent());
+            Files.move(upload.temp(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            imageProcessingService.submit(target);
+            log.info("Stored new blob {} ({} bytes)", relativePath, upload.size());
+        } else {
+            log.debug("Reused existing blob {}", relativePath);
+        }
+        return relativePath;
+    }
+
+    /**
+     * Releases one reference to a blob. Paths written before content addressing was enabled are deleted
+     * directly, as the dated store does.
+     */
+    @Override
+    public void deleteFile(String filePath) throws IOException {
+        if (!filePath.startsWith(BLOB_DIRECTORY + "/")) {
+            super.deleteFile(filePath);
+            return;
+        }
+
+        int released = jdbcTemplate.update("UPDATE file_blobs SET ref_count = ref_count - 1, " +
+                "updated_at = CURRENT_TIMESTAMP WHERE path = ? AND ref_count > 0", filePath);
+        if (released == 0) {
+            log.warn("Attempted to release an unreferenced blob: {}", filePath);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.file.blobs.gc-interval-ms:3600000}",
+            initialDelayString = "${app.file.blobs.gc-interval-ms:3600000}")
+    public void collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(gcGraceMinutes);
+        int collected = collectUnreferencedBlobs(cutoff);
+        int orphans = collectOrphanedFiles(cutoff);
+        if (collected > 0 || orphans > 0) {
+            log.info("Blob sweep removed {} unreferenced blobs and {} orphaned files", collected, orphans);
+        }
+    }
+
+    private int collectUnreferencedBlobs(LocalDateTime cutoff) {
+        List<String> candidates = jdbcTemplate.queryForList("SELECT digest FROM file_blobs " +
+                "WHERE ref_count = 0 AND updated_at < ? LIMIT ?", String.class, cutoff, gcBatchSize);
+
+        int collected = 0;
+        for (String digest : candidates) {
+            // The file is deleted while the row delete is uncommitted, so a concurrent upload of the same
+            // content waits on the row and then re-creates both
+            Boolean removed = sweepTransaction.execute(status -> {
+                List<String> paths = jdbcTemplate.queryForList("DELETE FROM file_blobs " +
+                        "WHERE digest = ? AND ref_count = 0 RETURNING path", String.class, digest);
+                paths.forEach(this::deleteBlobFile);
+                return !paths.isEmpty();
+            });
+            if (Boolean.TRUE.equals(removed)) {
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    // Blob files with no row (rolled-back uploads); staged files left by a crash are swept by the base store
+    private int collectOrphanedFiles(LocalDateTime cutoff) {
+        FileTime cutoffTime = FileTime.from(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+        Path blobRoot = getStorageDirectory().resolve(BLOB_DIRECTORY);
+        if (!Files.isDirectory(blobRoot)) {
+            return 0;
+        }
+
+        int removed = 0;
+        Map<String, Path> candidates = new HashMap<>();
+        try (Stream<Path> files = Files.walk(blobRoot)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!Files.isRegularFile(file) || !isOlderThan(file, cutoffTime)) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (ImageVariant.sourceBaseOf(name) == null) {
+                    candidates.put(digestOf(name), file);
+                    if (candidates.size() >= gcBatchSize) {
+                        removed += deleteUnknown(candidates);
+                        candidates.clear();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan blob directory {}: {}", blobRoot, e.getMessage());
+        }
+        return removed + deleteUnknown(candidates);
+    }
+
+    private int deleteUnknown(Map<String, Path> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> known = new HashSet<>(jdbcTemplate.queryForList("SELECT digest FROM file_blobs WHERE digest = ANY(?)",
+                String.class, (Object) candidates.keySet().toArray(String[]::new)));
+
+        List<Path> orphans = new ArrayList<>();
+        candidates.forEach((digest, file) -> {
+            if (!known.contains(digest)) {
+                orphans.add(file);
+            }
+        });
+        orphans.forEach(file -> deleteBlobFile(getStorageDirectory().relativize(file).toString()));
+        return orphans.size();
+    }
+
+    private void deleteBlobFile(String relativePath) {
+        Path file = getStorageDirectory().resolve(relativePath).normalize();
+        try {
+            Files.deleteIfExists(file);
+            imageProcessingService.deleteVariants(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete blob file {}: {}", relativePath, e.getMessage());
+        }
+    }
+
+    private static String blobPath(String digest, String extension) {
+        return BLOB_DIRECTORY + "/" + digest.substring(0, 2) + "/" + digest.substring(2, 4) + "/" + digest + extension;
+    }
+
+    private static String digestOf(String fileName) {
+        int extensionStart = fileName.indexOf('.');
+        return extensionStart < 0 ? fileName : fileName.substring(0, extensionStart);
+    }
+}
@@ -5,10 +5,17 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 public interface FileStorageService {
     String storeFile(MultipartFile file, String subDirectory) throws IOException;
 
+    /**
+     * Stores several files at once and returns their paths in the same order. Either every file is
+     * stored or an exception is thrown.
+     */
+    List<String> storeFiles(List<MultipartFile> files, String subDirectory) throws IOException;
+
     Resource loadFileAsResource(String filePath);
 
     void deleteFile(String filePath) throws IOException;
@@ -1,79 +1,291 @@
 package com.armycommunity.service.filestorage;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+/**
+ * Stores every upload under a fresh UUID name in a date directory. Selected by
+ * {@code app.file.storage.mode=dated}, the default.
+ */
 @Service
+@ConditionalOnProperty(name = "app.file.storage.mode", havingValue = "dated", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class FileStorageServiceImpl implements FileStorageService {
 
+    protected final ImageProcessingService imageProcessingService;
+
     @Value("${app.file.storage.path:uploads}")
     private String storageBasePath;
 
     @Value("${app.file.max-size:10485760}") // 10MB default
     private long maxFileSize;
 
+    @Value("${app.file.upload-buffer-size:65536}")
+    private int uploadBufferSize;
+
+    @Value("${app.file.upload-threads:4}")
+    private int uploadThreads;
+
+    @Value("${app.file.staging-max-age-minutes:60}")
+    private long stagingMaxAgeMinutes;
+
+    // Temp files live under the storage directory so renaming them into place is atomic
+    protected static final String STAGING_DIRECTORY = ".staging";
+
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
+    // One direct buffer per thread, reused across uploads
+    private final ThreadLocal<ByteBuffer> transferBuffer =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(uploadBufferSize));
+
+    private ExecutorService uploadWorkers;
+
+    @PostConstruct
+    void startUploadWorkers() {
+        AtomicInteger threadCount = new AtomicInteger();
+        uploadWorkers = Executors.newFixedThreadPool(uploadThreads, runnable -> {
+            Thread thread = new Thread(runnable, "file-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopUploadWorkers() {
+        uploadWorkers.shutdown();
+    }
+
     @Override
     public String storeFile(MultipartFile file, String directory) throws IOException {
-        if (file.isEmpty()) {
-            throw new IOException("Cannot store empty file");
+        StagedUpload upload = stage(file);
+        try {
+            return commit(upload, directory);
+        } finally {
+            discard(upload);
         }
+    }
 
-        if (file.getSize() > maxFileSize) {
-            throw new IOException("File size exceeds maximum allowed size");
+    /**
+     * Streams and validates all files in parallel, then renames them into place in order on the
+     * calling thread, so anything {@link #commit} writes to the database joins the caller's transaction.
+     */
+    @Override
+    public List<String> storeFiles(List<MultipartFile> files, String directory) throws IOException {
+        List<Future<StagedUpload>> pending = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            pending.add(uploadWorkers.submit(() -> stage(file)));
         }
 
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-        if (!isValidFileType(originalFilename)) {
-            throw new IOException("File type not allowed: " + originalFilename);
+        List<StagedUpload> staged = new ArrayList<>(files.size());
+        IOException failure = null;
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                staged.add(pending.get(i).get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IOException("Interrupted while storing uploads", e);
+                pending.subList(i, pending.size()).forEach(this::abandon);
+                break;
+            }
+        }
+
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            List<String> paths = new ArrayList<>(staged.size());
+            for (StagedUpload upload : staged) {
+                paths.add(commit(upload, directory));
+            }
+            return paths;
+        } finally {
+            staged.forEach(this::discard);
+        }
+    }
+
+    // Cancels a staging task that was never collected; one that already finished has its temp file removed.
+    // A task interrupted mid-copy deletes its own temp file, and anything else is left to the staging sweep
+    private void abandon(Future<StagedUpload> future) {
+        if (future.cancel(true) || !future.isDone()) {
+            return;
+        }
+        try {
+            discard(future.get());
+        } catch (ExecutionException | InterruptedException e) {
+            // Failed staging cleans up after itself, and get() on a finished future never waits
+        }
+    }
+
+    /**
+     * Removes staged files older than {@code app.file.staging-max-age-minutes}, left behind when the
+     * process died between staging and committing an upload.
+     */
+    @Scheduled(fixedDelayString = "${app.file.staging-sweep-interval-ms:3600000}")
+    public void sweepStagingDirectory() {
+        Path stagingDirectory = getStorageDirectory().resolve(STAGING_DIRECTORY);
+        if (!Files.isDirectory(stagingDirectory)) {
+            return;
+        }
+
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofMinutes(stagingMaxAgeMinutes)));
+        int removed = 0;
+        try (Stream<Path> files = Files.list(stagingDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (isOlderThan(file, cutoff) && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean staging directory {}: {}", stagingDirectory, e.getMessage());
         }
+        if (removed > 0) {
+            log.info("Removed {} stale staged uploads", removed);
+        }
+    }
 
+    protected static boolean isOlderThan(Path file, FileTime cutoff) {
         try {
-            // Create unique filename with timestamp and UUID
-            String fileExtension = getFileExtension(originalFilename);
-            String uniqueFilename = generateUniqueFilename(fileExtension);
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
 
-            // Create date-based directory structure
-            String dateDirectory = LocalDateTime.now().format(DATE_FORMATTER);
-            Path targetLocation = getStorageDirectory()
-                    .resolve(directory)
-                    .resolve(dateDirectory)
-                    .resolve(uniqueFilename);
+    /**
+     * Copies the upload into a staging file through a direct buffer. The format is taken from the
+     * magic bytes of the first chunk and the size limit is checked as bytes arrive, so neither the
+     * declared Content-Type nor the declared size is trusted.
+     */
+    protected StagedUpload stage(MultipartFile file) throws IOException {
+        String originalFilename = validateUpload(file);
 
-            // Create directories if they don't exist
-            Files.createDirectories(targetLocation.getParent());
+        Path stagingDirectory = getStorageDirectory().resolve(STAGING_DIRECTORY);
+        Files.createDirectories(stagingDirectory);
+        Path temp = Files.createTempFile(stagingDirectory, ".upload-", ".tmp");
+        try (InputStream input = file.getInputStream();
+             FileChannel output = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MessageDigest digest = newDigest();
 
-            // Copy file to target location
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            byte[] header = input.readNBytes(ImageFormat.HEADER_LENGTH);
+            ImageFormat format = ImageFormat.detect(header)
+                    .orElseThrow(() -> new IOException("File content is not a supported image: " + originalFilename));
+            write(ByteBuffer.wrap(header), output, digest);
+            long size = header.length;
 
-            String relativePath = directory + "/" + dateDirectory + "/" + uniqueFilename;
-            log.info("File stored successfully: {}", relativePath);
+            ByteBuffer buffer = transferBuffer.get();
+            ReadableByteChannel channel = Channels.newChannel(input);
+            buffer.clear();
+            while (channel.read(buffer) >= 0) {
+                size += buffer.position();
+                if (size > maxFileSize) {
+                    throw new IOException("File size exceeds maximum allowed size");
+                }
+                buffer.flip();
+                write(buffer, output, digest);
+                buffer.clear();
+            }
 
-            return relativePath;
+            return new StagedUpload(originalFilename, temp, size, format,
+                    digest != null ? HexFormat.of().formatHex(digest.digest()) : null);
 
         } catch (IOException ex) {
+            Files.deleteIfExists(temp);
             log.error("Failed to store file {}: {}", originalFilename, ex.getMessage());
-            throw new IOException("Failed to store file " + originalFilename, ex);
+            throw new IOException("Failed to store file " + originalFilename + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Moves a staged upload to its final location and returns the path relative to the storage directory.
+     */
+    protected String commit(StagedUpload upload, String directory) throws IOException {
+        // Create unique filename with UUID, named after the detected format
+        String uniqueFilename = generateUniqueFilename(upload.format().getExtension());
+
+        // Create date-based directory structure
+        String dateDirectory = LocalDateTime.now().format(DATE_FORMATTER);
+        Path targetLocation = getStorageDirectory()
+                .resolve(directory)
+                .resolve(dateDirectory)
+                .resolve(uniqueFilename);
+
+        // Create directories if they don't exist
+        Files.createDirectories(targetLocation.getParent());
+        Files.move(upload.temp(), targetLocation, StandardCopyOption.ATOMIC_MOVE);
+
+        String relativePath = directory + "/" + dateDirectory + "/" + uniqueFilename;
+        log.info("File stored successfully: {}", relativePath);
+
+        imageProcessingService.submit(targetLocation);
+        return relativePath;
+    }
+
+    /**
+     * The digest computed while staging; null when the store does not need one.
+     */
+    protected MessageDigest newDigest() {
+        return null;
+    }
+
+    protected void discard(StagedUpload upload) {
+        try {
+            Files.deleteIfExists(upload.temp());
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", upload.temp(), e.getMessage());
+        }
+    }
+
+    private static void write(ByteBuffer buffer, FileChannel output, MessageDigest digest) throws IOException {
+        if (digest != null) {
+            digest.update(buffer.duplicate());
+        }
+        while (buffer.hasRemaining()) {
+            output.write(buffer);
         }
     }
 
@@ -102,6 +314,7 @@ public class FileStorageServiceImpl implements FileStorageService {
 
             if (Files.exists(file)) {
                 Files.delete(file);
+                imageProcessingService.deleteVariants(file);
                 log.info("File deleted successfully: {}", filePath);
             } else {
                 log.warn("Attempted to delete non-existent file: {}", filePath);
@@ -134,6 +347,25 @@ public class FileStorageServiceImpl implements FileStorageService {
         return path;
     }
 
+    /**
+     * Checks the upload against the size limit and allowed extensions and returns its cleaned filename.
+     */
+    protected String validateUpload(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IOException("Cannot store empty file");
+        }
+
+        if (file.getSize() > maxFileSize) {
+            throw new IOException("File size exceeds maximum allowed size");
+        }
+
+        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        if (!isValidFileType(originalFilename)) {
+            throw new IOException("File type not allowed: " + originalFilename);
+        }
+        return originalFilename;
+    }
+
     private boolean isValidFileType(String filename) {
         if (filename == null) return false;
 
@@ -146,13 +378,6 @@ public class FileStorageServiceImpl implements FileStorageService {
         return false;
     }
 
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
-        }
-        return filename.substring(filename.lastIndexOf("."));
-    }
-
     private String generateUniqueFilename(String extension) {
         return UUID.randomUUID().toString() + extension;
     }
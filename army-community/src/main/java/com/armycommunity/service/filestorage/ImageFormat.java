@@ -0,0 +1,51 @@
+package com.armycommunity.service.filestorage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Image formats accepted for upload, recognised by their leading magic bytes rather than by the
+ * client's filename or Content-Type.
+ */
+public enum ImageFormat {
+    JPEG(".jpg"),
+    PNG(".png"),
+    GIF(".gif"),
+    WEBP(".webp");
+
+    /** Enough leading bytes to tell every supported format apart. */
+    public static final int HEADER_LENGTH = 12;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private final String extension;
+
+    ImageFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<ImageFormat> detect(byte[] header) {
+        if (startsWith(header, (byte) 0xFF, (byte) 0xD8, (byte) 0xFF)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(header, "GIF87a".getBytes()) || startsWith(header, "GIF89a".getBytes())) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(header, "RIFF".getBytes()) && header.length >= HEADER_LENGTH
+                && Arrays.equals(header, 8, 12, "WEBP".getBytes(), 0, 4)) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, byte... prefix) {
+        return header.length >= prefix.length && Arrays.equals(header, 0, prefix.length, prefix, 0, prefix.length);
+    }
+}
@@ -0,0 +1,20 @@
+package com.armycommunity.service.filestorage;
+
+import java.nio.file.Path;
+
+public interface ImageProcessingService {
+
+    /**
+     * Queues the image at {@code source} for variant generation. Returns immediately; when the worker
+     * queue is full the image is skipped and served at its original size.
+     */
+    void submit(Path source);
+
+    /**
+     * Writes every {@link ImageVariant} of {@code source} next to it. Returns false if the format
+     * cannot be decoded or is deliberately left untouched (animated GIFs).
+     */
+    boolean process(Path source);
+
+    void deleteVariants(Path source);
+}
@@ -0,0 +1,237 @@
+package com.armycommunity.service.filestorage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates {@link ImageVariant}s with plain ImageIO on a bounded worker pool. Each upload is decoded
+ * once with metadata ignored and re-encoded as baseline JPEG, so EXIF data (including GPS tags) never
+ * reaches a variant. Smaller variants are scaled from the previous, larger one.
+ */
+@Service
+@Slf4j
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+
+    private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(ImageVariant.values())
+            .sorted(Comparator.comparingInt(ImageVariant::getMaxDimension).reversed())
+            .toList();
+
+    @Value("${app.images.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${app.images.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.images.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    // Guards against decompression bombs: a small file can still declare an enormous raster
+    @Value("${app.images.max-pixels:40000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor workers;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "image-processing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdown();
+    }
+
+    @Override
+    public void submit(Path source) {
+        try {
+            workers.execute(() -> {
+                try {
+                    process(source);
+                } catch (RuntimeException e) {
+                    log.error("Failed to generate image variants for {}: {}", source, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image processing queue is full; {} will be served at its original size", source);
+        }
+    }
+
+    @Override
+    public boolean process(Path source) {
+        long startTime = System.currentTimeMillis();
+        BufferedImage image;
+        try {
+            image = decode(source);
+        } catch (IOException e) {
+            log.warn("Failed to decode image {}: {}", source, e.getMessage());
+            return false;
+        }
+        if (image == null) {
+            log.debug("No variants generated for {}", source);
+            return false;
+        }
+
+        BufferedImage current = toRgb(image);
+        for (ImageVariant variant : LARGEST_FIRST) {
+            current = scaleToFit(current, variant.getMaxDimension());
+            Path target = source.resolveSibling(variant.pathFor(source.getFileName().toString()));
+            try {
+                writeJpeg(current, target);
+            } catch (IOException e) {
+                log.warn("Failed to write image variant {}: {}", target, e.getMessage());
+                return false;
+            }
+        }
+
+        log.debug("Generated image variants for {} in {} ms", source, System.currentTimeMillis() - startTime);
+        return true;
+    }
+
+    @Override
+    public void deleteVariants(Path source) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            Path variantPath = source.resolveSibling(variant.pathFor(source.getFileName().toString()));
+            try {
+                Files.deleteIfExists(variantPath);
+            } catch (IOException e) {
+                log.warn("Failed to delete image variant {}: {}", variantPath, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Decodes the first frame with metadata ignored. Returns null for formats ImageIO cannot read
+     * (WebP), animated GIFs (a still variant would lose the animation) and oversized rasters.
+     */
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, false, true);
+                if ("gif".equalsIgnoreCase(reader.getFormatName()) && reader.getNumImages(true) > 1) {
+                    return null;
+                }
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.warn("Image {} exceeds {} pixels; skipping variants", source, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG has no alpha channel, so transparent areas are flattened onto white
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = (double) maxDimension / Math.max(width, height);
+        if (scale >= 1) {
+            return image;
+        }
+
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // Halve first: a single bilinear pass over a large ratio skips most source pixels and aliases
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() == targetWidth && current.getHeight() == targetHeight) {
+            return current;
+        }
+        return resize(current, targetWidth, targetHeight);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // Written to a temp file and renamed, so a half-written variant is never served
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
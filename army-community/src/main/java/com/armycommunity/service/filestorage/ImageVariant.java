@@ -0,0 +1,51 @@
+package com.armycommunity.service.filestorage;
+
+import java.util.List;
+
+/**
+ * Resized JPEG renditions written next to every uploaded image. A variant's path is derived from the
+ * stored path of its source ({@code post/2025/01/01/abc.png} becomes {@code post/2025/01/01/abc_feed.jpg}),
+ * so only the source path needs to be persisted.
+ */
+public enum ImageVariant {
+    THUMB("thumb", 200),
+    FEED("feed", 800),
+    FULL("full", 1600);
+
+    public static final String EXTENSION = ".jpg";
+    public static final List<String> SOURCE_EXTENSIONS = List.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
+
+    private final String suffix;
+    private final int maxDimension;
+
+    ImageVariant(String suffix, int maxDimension) {
+        this.suffix = suffix;
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String pathFor(String sourcePath) {
+        if (sourcePath == null || sourcePath.isBlank()) {
+            return sourcePath;
+        }
+        int extensionStart = sourcePath.lastIndexOf('.');
+        String base = extensionStart > sourcePath.lastIndexOf('/') ? sourcePath.substring(0, extensionStart) : sourcePath;
+        return base + "_" + suffix + EXTENSION;
+    }
+
+    /**
+     * The source path without its extension if {@code path} names a variant, otherwise null.
+     */
+    public static String sourceBaseOf(String path) {
+        for (ImageVariant variant : values()) {
+            String variantEnding = "_" + variant.suffix + EXTENSION;
+            if (path.endsWith(variantEnding)) {
+                return path.substring(0, path.length() - variantEnding.length());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.armycommunity.service.filestorage;
+
+import java.nio.file.Path;
+
+/**
+ * An upload that has been streamed and validated into a temp file next to its final location,
+ * waiting to be renamed into place.
+ *
+ * @param digest hex SHA-256 of the content, or null when the store does not need one
+ */
+record StagedUpload(String originalFilename, Path temp, long size, ImageFormat format, String digest) {
+}
@@ -0,0 +1,15 @@
+package com.armycommunity.service.filestorage;
+
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * What is needed to answer a request for an upload without touching the file system again.
+ *
+ * @param contentAddressed the path names the content itself, so the response can be cached forever
+ * @param fallback         the original served in place of a variant that does not exist yet
+ */
+public record UploadFile(Path file, long size, long lastModified, String etag, MediaType contentType,
+                         boolean contentAddressed, boolean fallback) {
+}
@@ -0,0 +1,14 @@
+package com.armycommunity.service.filestorage;
+
+import java.util.Optional;
+
+public interface UploadServingService {
+
+    /**
+     * Resolves a path under the upload directory, falling back to the original upload when an image
+     * variant has not been generated. Empty if nothing is there or the path escapes the directory.
+     */
+    Optional<UploadFile> resolve(String relativePath);
+
+    void evict(String relativePath);
+}
@@ -0,0 +1,123 @@
+package com.armycommunity.service.filestorage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps an LRU of resolved upload metadata so hot images are served without a stat call. Entries
+ * expire after a short TTL, which bounds how long a deleted file stays resolvable.
+ * Fallback resolutions are never cached, so a variant is picked up as soon as it is written.
+ */
+@Service
+@Slf4j
+public class UploadServingServiceImpl implements UploadServingService {
+
+    private final FileStorageService fileStorageService;
+    private final long ttlMillis;
+    private final Map<String, CachedUpload> metadata;
+
+    public UploadServingServiceImpl(FileStorageService fileStorageService,
+                                    @Value("${app.uploads.metadata-cache-size:10000}") int maxEntries,
+                                    @Value("${app.uploads.metadata-ttl-ms:60000}") long ttlMillis) {
+        this.fileStorageService = fileStorageService;
+        this.ttlMillis = ttlMillis;
+        this.metadata = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUpload> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<UploadFile> resolve(String relativePath) {
+        long now = System.currentTimeMillis();
+        synchronized (metadata) {
+            CachedUpload cached = metadata.get(relativePath);
+            if (cached != null && cached.expiresAt() > now) {
+                return Optional.of(cached.upload());
+            }
+        }
+
+        Path root = fileStorageService.getStorageDirectory();
+        try {
+            Path file = root.resolve(relativePath).normalize();
+            if (!file.startsWith(root)) {
+                return Optional.empty();
+            }
+            if (Files.isRegularFile(file)) {
+                UploadFile upload = describe(relativePath, file);
+                synchronized (metadata) {
+                    metadata.put(relativePath, new CachedUpload(upload, now + ttlMillis));
+                }
+                return Optional.of(upload);
+            }
+            return resolveFallback(root, relativePath);
+        } catch (IOException e) {
+            log.warn("Failed to resolve upload {}: {}", relativePath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void evict(String relativePath) {
+        synchronized (metadata) {
+            metadata.remove(relativePath);
+        }
+    }
+
+    private Optional<UploadFile> resolveFallback(Path root, String relativePath) throws IOException {
+        String sourceBase = ImageVariant.sourceBaseOf(relativePath);
+        if (sourceBase == null) {
+            return Optional.empty();
+        }
+        for (String extension : ImageVariant.SOURCE_EXTENSIONS) {
+            for (String candidate : new String[]{extension, extension.toUpperCase()}) {
+                Path source = root.resolve(sourceBase + candidate).normalize();
+                if (source.startsWith(root) && Files.isRegularFile(source)) {
+                    BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+                    long lastModified = attributes.lastModifiedTime().toMillis();
+                    return Optional.of(new UploadFile(source, attributes.size(), lastModified,
+                            "W/\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified) + "\"",
+                            contentTypeOf(source), false, true));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private UploadFile describe(String relativePath, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        boolean contentAddressed = relativePath.startsWith(ContentAddressedFileStorageService.BLOB_DIRECTORY + "/");
+
+        // A blob is named by its digest; anything else is tagged by size and modification time, like
+        // nginx does, since uploads are written once and never modified in place
+        String fileName = file.getFileName().toString();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String tag = contentAddressed && ImageVariant.sourceBaseOf(fileName) == null
+                ? fileName.substring(0, fileName.indexOf('.') < 0 ? fileName.length() : fileName.indexOf('.'))
+                : Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified);
+
+        return new UploadFile(file, attributes.size(), lastModified,
+                "\"" + tag + "\"", contentTypeOf(file), contentAddressed, false);
+    }
+
+    private static MediaType contentTypeOf(Path file) {
+        return MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    private record CachedUpload(UploadFile upload, long expiresAt) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.repository.user.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process adjacency cache of the follow graph, kept as {@link SortedLongSet}s:
+ * <ul>
+ *     <li>the accounts each recently active user follows, skipped for users following more than
+ *     {@code app.follows.cache.max-following} accounts;</li>
+ *     <li>the followers of heavy accounts (at least {@code app.follows.cache.heavy-follower-threshold}
+ *     followers), whose edges are too many to scan per request.</li>
+ * </ul>
+ * {@link FollowService} patches cached sets after each committed follow or unfollow.
+ */
+@Component
+@Slf4j
+public class FollowGraphCache {
+
+    // Marks a user whose following list is over the cap, so it is not reloaded on every lookup
+    private static final SortedLongSet OVERSIZED = SortedLongSet.of(List.of(-1L));
+
+    private final FollowRepository followRepository;
+    private final int maxFollowing;
+    private final long heavyFollowerThreshold;
+    private final Map<Long, SortedLongSet> followingByUser;
+    private final Map<Long, SortedLongSet> followersByAccount;
+
+    // Bumped on every patch; a load that overlapped a patch is not cached
+    private final AtomicLong writes = new AtomicLong();
+
+    private volatile Set<Long> heavyAccounts = Set.of();
+
+    public FollowGraphCache(FollowRepository followRepository,
+                            @Value("${app.follows.cache.max-users:20000}") int maxUsers,
+                            @Value("${app.follows.cache.max-following:5000}") int maxFollowing,
+                            @Value("${app.follows.cache.max-heavy-accounts:200}") int maxHeavyAccounts,
+                            @Value("${app.follows.cache.heavy-follower-threshold:1000}") long heavyFollowerThreshold) {
+        this.followRepository = followRepository;
+        this.maxFollowing = maxFollowing;
+        this.heavyFollowerThreshold = heavyFollowerThreshold;
+        this.followingByUser = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SortedLongSet> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        this.followersByAccount = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SortedLongSet> eldest) {
+                return size() > maxHeavyAccounts;
+            }
+        };
+    }
+
+    /**
+     * The accounts the user follows, or null if the user follows too many to cache.
+     */
+    public SortedLongSet following(Long userId) {
+        SortedLongSet cached;
+        synchronized (this) {
+            cached = followingByUser.get(userId);
+        }
+        if (cached == null) {
+            long version = writes.get();
+            List<Long> ids = followRepository.findFollowingIds(userId, maxFollowing + 1);
+            cached = ids.size() > maxFollowing ? OVERSIZED : SortedLongSet.of(ids);
+            putIfUnchanged(followingByUser, userId, cached, version);
+        }
+        return cached == OVERSIZED ? null : cached;
+    }
+
+    /**
+     * The followers of a heavy account, or null if the account is not heavy.
+     */
+    public SortedLongSet followers(Long accountId) {
+        if (!heavyAccounts.contains(accountId)) {
+            return null;
+        }
+        SortedLongSet cached;
+        synchronized (this) {
+            cached = followersByAccount.get(accountId);
+        }
+        if (cached == null) {
+            long version = writes.get();
+            cached = SortedLongSet.of(followRepository.findFollowerIds(accountId));
+            putIfUnchanged(followersByAccount, accountId, cached, version);
+            log.debug("Loaded {} followers of heavy account {}", cached.size(), accountId);
+        }
+        return cached;
+    }
+
+    public boolean isHeavyAccount(Long accountId) {
+        return heavyAccounts.contains(accountId);
+    }
+
+    public synchronized void onFollow(Long followerId, Long followingId) {
+        writes.incrementAndGet();
+        followingByUser.computeIfPresent(followerId,
+                (id, following) -> following == OVERSIZED ? OVERSIZED : following.with(followingId));
+        followersByAccount.computeIfPresent(followingId, (id, followers) -> followers.with(followerId));
+    }
+
+    public synchronized void onUnfollow(Long followerId, Long followingId) {
+        writes.incrementAndGet();
+        followingByUser.computeIfPresent(followerId,
+                (id, following) -> following == OVERSIZED ? OVERSIZED : following.without(followingId));
+        followersByAccount.computeIfPresent(followingId, (id, followers) -> followers.without(followerId));
+    }
+
+    @Scheduled(fixedRateString = "${app.follows.cache.heavy-refresh-ms:600000}", initialDelay = 0)
+    public void refreshHeavyAccounts() {
+        Set<Long> accounts = Set.copyOf(followRepository.findAccountIdsWithFollowersAtLeast(heavyFollowerThreshold));
+        synchronized (this) {
+            followersByAccount.keySet().retainAll(accounts);
+        }
+        heavyAccounts = accounts;
+        log.debug("Refreshed heavy accounts, {} accounts have cached follower sets", accounts.size());
+    }
+
+    private synchronized void putIfUnchanged(Map<Long, SortedLongSet> map, Long key, SortedLongSet value, long version) {
+        if (writes.get() == version) {
+            map.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.dto.response.user.FollowRecommendationResponse;
+
+import java.util.List;
+
+public interface FollowRecommendationService {
+
+    /**
+     * The user's precomputed recommendations, best first, without accounts followed since they were
+     * computed.
+     */
+    List<FollowRecommendationResponse> getRecommendations(Long userId, int limit);
+
+    /**
+     * Recomputes recommendations for users whose follows or collections changed, or whose
+     * recommendations are older than the configured maximum age.
+     */
+    RecommendationJobStats refreshRecommendations();
+
+    RecommendationJobStats getStats();
+}
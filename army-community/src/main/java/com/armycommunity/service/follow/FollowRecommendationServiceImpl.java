@@ -0,0 +1,375 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.dto.response.user.FollowRecommendationResponse;
+import com.armycommunity.mapper.UserMapper;
+import com.armycommunity.model.user.User;
+import com.armycommunity.repository.user.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Who-to-follow recommendations, precomputed by a scheduled batch job and served with one indexed
+ * lookup. Candidates come from two signals:
+ * <ul>
+ *     <li>friends of friends: accounts followed by the accounts a user follows, scored by how many of
+ *     them do;</li>
+ *     <li>shared bias: the most devoted collectors of the members a user collects most, derived from
+ *     {@code user_collections} through {@code song_members} and {@code member_albums}.</li>
+ * </ul>
+ * Each run only picks up users whose follows or collections changed since their last run, or whose
+ * recommendations are older than {@code app.recommendations.max-age-hours}. The users are split into
+ * chunks that are computed in parallel on a dedicated {@link ForkJoinPool}, each chunk replacing its
+ * users' rows in its own transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowRecommendationServiceImpl implements FollowRecommendationService {
+
+    private static final String DIRTY_USERS_SQL = """
+            SELECT u.id
+            FROM users u
+            LEFT JOIN follow_recommendation_runs r ON r.user_id = u.id
+            WHERE u.is_active = true
+            AND (u.last_login_at >= ? OR u.created_at >= ?)
+            AND (r.user_id IS NULL
+                 OR r.computed_at < ?
+                 OR EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = u.id AND f.created_at > r.computed_at)
+                 OR EXISTS (SELECT 1 FROM user_collections c WHERE c.user_id = u.id AND c.created_at > r.computed_at))
+            ORDER BY r.computed_at NULLS FIRST, u.id
+            LIMIT ?
+            """;
+
+    private static final String FOLLOWING_SQL = "SELECT follower_id, following_id FROM follows WHERE follower_id = ANY(?)";
+
+    // Only the most recent edges of each followed account are walked, so a prolific follower cannot blow up a chunk
+    private static final String FRIENDS_OF_FRIENDS_SQL = """
+            SELECT f1.follower_id AS user_id, f2.following_id AS candidate_id, count(*) AS mutual_count
+            FROM follows f1
+            CROSS JOIN LATERAL (
+                SELECT following_id FROM follows
+                WHERE follower_id = f1.following_id
+                ORDER BY created_at DESC
+                LIMIT ?
+            ) f2
+            JOIN users u ON u.id = f2.following_id AND u.is_active = true
+            WHERE f1.follower_id = ANY(?)
+            GROUP BY f1.follower_id, f2.following_id
+            """;
+
+    // One row per collected track or solo album credited to a member
+    private static final String MEMBER_AFFINITY = """
+            SELECT uc.user_id, sm.member_id
+            FROM user_collections uc
+            JOIN songs s ON s.album_id = uc.album_id
+            JOIN song_members sm ON sm.song_id = s.id
+            UNION ALL
+            SELECT uc.user_id, ma.member_id
+            FROM user_collections uc
+            JOIN member_albums ma ON ma.album_id = uc.album_id
+            """;
+
+    private static final String USER_AFFINITY_SQL = """
+            SELECT a.user_id, a.member_id, count(*) AS weight
+            FROM (%s) a
+            WHERE a.user_id = ANY(?)
+            GROUP BY a.user_id, a.member_id
+            """.formatted(MEMBER_AFFINITY);
+
+    private static final String BIAS_GROUPS_SQL = """
+            SELECT member_id, user_id FROM (
+                SELECT a.member_id, a.user_id,
+                       row_number() OVER (PARTITION BY a.member_id ORDER BY count(*) DESC, a.user_id) AS position
+                FROM (%s) a
+                JOIN users u ON u.id = a.user_id AND u.is_active = true
+                GROUP BY a.member_id, a.user_id
+            ) ranked
+            WHERE position <= ?
+            """.formatted(MEMBER_AFFINITY);
+
+    private static final String INSERT_RECOMMENDATION_SQL = "INSERT INTO follow_recommendations " +
+            "(user_id, candidate_id, score, mutual_count, shared_member_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String MARK_COMPUTED_SQL = """
+            INSERT INTO follow_recommendation_runs (user_id, computed_at)
+            SELECT unnest(?::bigint[]), ?
+            ON CONFLICT (user_id) DO UPDATE SET computed_at = EXCLUDED.computed_at
+            """;
+
+    private static final String RECOMMENDATIONS_SQL = "SELECT candidate_id, mutual_count, shared_member_id " +
+            "FROM follow_recommendations WHERE user_id = ? ORDER BY score DESC, candidate_id LIMIT ?";
+
+    // A user's top members that take part in shared-bias matching
+    private static final int BIAS_MEMBERS_PER_USER = 3;
+
+    private record Candidate(long userId, double score, int mutualCount, Long sharedMemberId) {
+    }
+
+    private record ChunkResult(int users, long written, boolean failed) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final FollowService followService;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    @Value("${app.recommendations.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recommendations.top-n:50}")
+    private int topN;
+
+    @Value("${app.recommendations.chunk-size:500}")
+    private int chunkSize;
+
+    // Each worker holds a connection while computing a chunk; keep this below the pool size
+    @Value("${app.recommendations.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.recommendations.max-users-per-run:50000}")
+    private int maxUsersPerRun;
+
+    @Value("${app.recommendations.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Value("${app.recommendations.active-days:30}")
+    private long activeDays;
+
+    @Value("${app.recommendations.fan-out-per-account:200}")
+    private int fanOutPerAccount;
+
+    @Value("${app.recommendations.bias-group-size:500}")
+    private int biasGroupSize;
+
+    @Value("${app.recommendations.bias-weight:2.0}")
+    private double biasWeight;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RecommendationJobStats lastRun = RecommendationJobStats.builder().build();
+    private long totalRuns;
+
+    private ForkJoinPool workers;
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    void start() {
+        workers = new ForkJoinPool(parallelism);
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FollowRecommendationResponse> getRecommendations(Long userId, int limit) {
+        log.debug("Fetching follow recommendations for user ID: {}, limit: {}", userId, limit);
+
+        // Fetches some spare rows, since accounts followed after the last run are dropped below
+        List<Candidate> rows = jdbcTemplate.query(RECOMMENDATIONS_SQL, (rs, rowNum) -> new Candidate(
+                        rs.getLong("candidate_id"),
+                        0,
+                        rs.getInt("mutual_count"),
+                        rs.getObject("shared_member_id", Long.class)),
+                userId, limit * 2);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> followed = followService.getFollowedAmong(userId,
+                rows.stream().map(Candidate::userId).toList());
+        List<Candidate> page = rows.stream()
+                .filter(candidate -> !followed.contains(candidate.userId()))
+                .limit(limit)
+                .toList();
+
+        Map<Long, User> usersById = userRepository.findAllById(page.stream().map(Candidate::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return page.stream()
+                .filter(candidate -> usersById.containsKey(candidate.userId()))
+                .map(candidate -> FollowRecommendationResponse.builder()
+                        .user(userMapper.toSummaryResponse(usersById.get(candidate.userId())))
+                        .mutualFollowCount(candidate.mutualCount())
+                        .sharedMemberId(candidate.sharedMemberId())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendations.interval-ms:3600000}",
+            initialDelayString = "${app.recommendations.initial-delay-ms:300000}")
+    public void refreshOnSchedule() {
+        refreshRecommendations();
+    }
+
+    @Override
+    public RecommendationJobStats refreshRecommendations() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return getStats();
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long startTime = System.currentTimeMillis();
+
+            List<Long> userIds = jdbcTemplate.queryForList(DIRTY_USERS_SQL, Long.class,
+                    startedAt.minusDays(activeDays), startedAt.minusDays(activeDays),
+                    startedAt.minusHours(maxAgeHours), maxUsersPerRun);
+            if (userIds.isEmpty()) {
+                log.debug("No follow recommendations to refresh");
+                return getStats();
+            }
+
+            Map<Long, List<Long>> biasGroups = loadBiasGroups();
+
+            List<List<Long>> chunks = new ArrayList<>();
+            for (int start = 0; start < userIds.size(); start += chunkSize) {
+                chunks.add(userIds.subList(start, Math.min(start + chunkSize, userIds.size())));
+            }
+
+            // A parallel stream started inside the pool runs on the pool's workers, not the common pool
+            List<ChunkResult> results = workers.submit(() -> chunks.parallelStream()
+                    .map(chunk -> processChunk(chunk, biasGroups, startedAt))
+                    .toList()).join();
+
+            long elapsed = System.currentTimeMillis() - startTime;
+            int processed = results.stream().mapToInt(ChunkResult::users).sum();
+            RecommendationJobStats stats = RecommendationJobStats.builder()
+                    .totalRuns(++totalRuns)
+                    .lastRunStartedAt(startedAt)
+                    .lastRunMillis(elapsed)
+                    .usersProcessed(processed)
+                    .chunks(chunks.size())
+                    .failedChunks((int) results.stream().filter(ChunkResult::failed).count())
+                    .recommendationsWritten(results.stream().mapToLong(ChunkResult::written).sum())
+                    .usersPerSecond(elapsed > 0 ? processed * 1000.0 / elapsed : processed)
+                    .parallelism(parallelism)
+                    .build();
+            lastRun = stats;
+
+            log.info("Refreshed follow recommendations for {} users in {} chunks in {} ms ({} users/s, {} failed chunks)",
+                    processed, chunks.size(), elapsed, String.format("%.1f", stats.getUsersPerSecond()),
+                    stats.getFailedChunks());
+            return getStats();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public RecommendationJobStats getStats() {
+        RecommendationJobStats stats = lastRun;
+        return stats.toBuilder().running(running.get()).build();
+    }
+
+    // member ID -> its most devoted collectors, shared read-only by every chunk of a run
+    private Map<Long, List<Long>> loadBiasGroups() {
+        Map<Long, List<Long>> groups = new HashMap<>();
+        jdbcTemplate.query(BIAS_GROUPS_SQL, rs -> {
+            groups.computeIfAbsent(rs.getLong("member_id"), id -> new ArrayList<>()).add(rs.getLong("user_id"));
+        }, biasGroupSize);
+        return groups;
+    }
+
+    private ChunkResult processChunk(List<Long> userIds, Map<Long, List<Long>> biasGroups, LocalDateTime startedAt) {
+        try {
+            Long[] ids = userIds.toArray(Long[]::new);
+            Map<Long, Map<Long, Candidate>> candidates = new HashMap<>();
+
+            Map<Long, Set<Long>> following = new HashMap<>();
+            jdbcTemplate.query(FOLLOWING_SQL, rs -> {
+                following.computeIfAbsent(rs.getLong("follower_id"), id -> new HashSet<>()).add(rs.getLong("following_id"));
+            }, (Object) ids);
+
+            jdbcTemplate.query(FRIENDS_OF_FRIENDS_SQL, rs -> {
+                long userId = rs.getLong("user_id");
+                long candidateId = rs.getLong("candidate_id");
+                int mutualCount = rs.getInt("mutual_count");
+                candidates.computeIfAbsent(userId, id -> new HashMap<>())
+                        .put(candidateId, new Candidate(candidateId, mutualCount, mutualCount, null));
+            }, fanOutPerAccount, ids);
+
+            addSharedBiasCandidates(ids, biasGroups, candidates);
+
+            List<Object[]> rows = new ArrayList<>();
+            for (Long userId : userIds) {
+                Set<Long> followed = following.getOrDefault(userId, Set.of());
+                candidates.getOrDefault(userId, Map.of()).values().stream()
+                        .filter(candidate -> candidate.userId() != userId && !followed.contains(candidate.userId()))
+                        .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                                .thenComparingLong(Candidate::userId))
+                        .limit(topN)
+                        .forEach(candidate -> rows.add(new Object[]{userId, candidate.userId(), candidate.score(),
+                                candidate.mutualCount(), candidate.sharedMemberId()}));
+            }
+
+            chunkTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM follow_recommendations WHERE user_id = ANY(?)", (Object) ids);
+                jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION_SQL, rows);
+                jdbcTemplate.update(MARK_COMPUTED_SQL, ids, Timestamp.valueOf(startedAt));
+            });
+            return new ChunkResult(userIds.size(), rows.size(), false);
+        } catch (RuntimeException e) {
+            // The chunk's users stay dirty and are retried by the next run
+            log.error("Failed to compute follow recommendations for {} users: {}", userIds.size(), e.getMessage(), e);
+            return new ChunkResult(0, 0, true);
+        }
+    }
+
+    /**
+     * Adds the top collectors of each user's favourite members, weighted by the share of the user's
+     * collection those members account for.
+     */
+    private void addSharedBiasCandidates(Long[] ids, Map<Long, List<Long>> biasGroups,
+                                         Map<Long, Map<Long, Candidate>> candidates) {
+        if (biasGroups.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Long>> affinities = new HashMap<>();
+        jdbcTemplate.query(USER_AFFINITY_SQL, rs -> {
+            affinities.computeIfAbsent(rs.getLong("user_id"), id -> new HashMap<>())
+                    .put(rs.getLong("member_id"), rs.getLong("weight"));
+        }, (Object) ids);
+
+        affinities.forEach((userId, weights) -> {
+            double total = weights.values().stream().mapToLong(Long::longValue).sum();
+            Map<Long, Candidate> userCandidates = candidates.computeIfAbsent(userId, id -> new HashMap<>());
+
+            weights.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                    .limit(BIAS_MEMBERS_PER_USER)
+                    .forEach(entry -> {
+                        double bonus = biasWeight * entry.getValue() / total;
+                        for (Long candidateId : biasGroups.getOrDefault(entry.getKey(), List.of())) {
+                            userCandidates.merge(candidateId,
+                                    new Candidate(candidateId, bonus, 0, entry.getKey()),
+                                    (existing, added) -> new Candidate(candidateId,
+                                            existing.score() + added.score(),
+                                            existing.mutualCount(),
+                                            existing.sharedMemberId() != null ? existing.sharedMemberId() : added.sharedMemberId()));
+                        }
+                    });
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.dto.response.CursorPageResponse;
+import com.armycommunity.dto.response.user.UserSummaryResponse;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface FollowService {
+
+    /**
+     * Returns false if the follower already follows the account.
+     */
+    boolean follow(Long followerId, Long followingId);
+
+    /**
+     * Returns false if the follower did not follow the account.
+     */
+    boolean unfollow(Long followerId, Long followingId);
+
+    boolean isFollowing(Long followerId, Long followingId);
+
+    /**
+     * The subset of {@code candidateIds} the user follows.
+     */
+    Set<Long> getFollowedAmong(Long followerId, Collection<Long> candidateIds);
+
+    CursorPageResponse<UserSummaryResponse> getFollowers(Long userId, String cursor, int size);
+
+    CursorPageResponse<UserSummaryResponse> getFollowing(Long userId, String cursor, int size);
+}
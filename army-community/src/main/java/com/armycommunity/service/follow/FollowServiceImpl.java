@@ -0,0 +1,205 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.request.user.NotificationRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
+import com.armycommunity.dto.response.user.UserSummaryResponse;
+import com.armycommunity.exception.ResourceNotFoundException;
+import com.armycommunity.exception.ValidationException;
+import com.armycommunity.mapper.UserMapper;
+import com.armycommunity.model.user.User;
+import com.armycommunity.repository.user.FollowEdge;
+import com.armycommunity.repository.user.FollowRepository;
+import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.service.activitylog.ActivityLogService;
+import com.armycommunity.service.notification.NotificationService;
+import com.armycommunity.service.timeline.TimelineService;
+import com.armycommunity.service.user.ProfileStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Follow graph operations on user IDs. Existence checks are answered from {@link FollowGraphCache}
+ * when it holds either end of the edge, and fall back to an index lookup otherwise.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FollowServiceImpl implements FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final FollowGraphCache followGraphCache;
+    private final TimelineService timelineService;
+    private final ProfileStatsService profileStatsService;
+    private final ActivityLogService activityLogService;
+    private final NotificationService notificationService;
+
+    @Override
+    @Transactional
+    public boolean follow(Long followerId, Long followingId) {
+        log.debug("User ID: {} following user ID: {}", followerId, followingId);
+
+        if (followerId.equals(followingId)) {
+            throw new ValidationException("You cannot follow yourself");
+        }
+        if (!userRepository.existsById(followingId)) {
+            throw new ResourceNotFoundException("User not found with id: " + followingId);
+        }
+
+        if (followRepository.insertEdge(followerId, followingId) == 0) {
+            log.debug("User ID: {} already follows user ID: {}", followerId, followingId);
+            return false;
+        }
+
+        timelineService.addAuthor(followerId, followingId);
+        profileStatsService.evict(followerId, followingId);
+        afterCommit(() -> followGraphCache.onFollow(followerId, followingId));
+
+        activityLogService.logActivity(
+                followerId,
+                "USER_FOLLOW",
+                "User",
+                followingId,
+                Collections.emptyMap());
+
+        NotificationRequest notificationRequest = NotificationRequest.builder()
+                .userId(followingId)
+                .type("NEW_FOLLOWER")
+                .message("You have a new follower")
+                .relatedEntityId(followerId)
+                .relatedEntityType("USER")
+                .build();
+        notificationService.createNotification(notificationRequest);
+
+        log.info("User ID: {} now follows user ID: {}", followerId, followingId);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean unfollow(Long followerId, Long followingId) {
+        log.debug("User ID: {} unfollowing user ID: {}", followerId, followingId);
+
+        if (followRepository.deleteEdge(followerId, followingId) == 0) {
+            log.debug("User ID: {} does not follow user ID: {}", followerId, followingId);
+            return false;
+        }
+
+        timelineService.removeAuthor(followerId, followingId);
+        profileStatsService.evict(followerId, followingId);
+        afterCommit(() -> followGraphCache.onUnfollow(followerId, followingId));
+
+        activityLogService.logActivity(
+                followerId,
+                "USER_UNFOLLOW",
+                "User",
+                followingId,
+                Collections.emptyMap());
+
+        log.info("User ID: {} unfollowed user ID: {}", followerId, followingId);
+        return true;
+    }
+
+    @Override
+    public boolean isFollowing(Long followerId, Long followingId) {
+        if (followerId == null || followingId == null || followerId.equals(followingId)) {
+            return false;
+        }
+
+        SortedLongSet following = followGraphCache.following(followerId);
+        if (following != null) {
+            return following.contains(followingId);
+        }
+        SortedLongSet followers = followGraphCache.followers(followingId);
+        if (followers != null) {
+            return followers.contains(followerId);
+        }
+        return followRepository.existsEdge(followerId, followingId);
+    }
+
+    @Override
+    public Set<Long> getFollowedAmong(Long followerId, Collection<Long> candidateIds) {
+        if (followerId == null || candidateIds.isEmpty()) {
+            return Set.of();
+        }
+
+        SortedLongSet following = followGraphCache.following(followerId);
+        if (following != null) {
+            return candidateIds.stream()
+                    .filter(following::contains)
+                    .collect(Collectors.toSet());
+        }
+        return new HashSet<>(followRepository.findFollowedAmong(followerId, Set.copyOf(candidateIds)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserSummaryResponse> getFollowers(Long userId, String cursor, int size) {
+        log.debug("Fetching followers of user ID: {} by cursor, size: {}", userId, size);
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<FollowEdge> edges = followRepository.findFollowersBefore(
+                userId, position.getCreatedAt(), position.getId(), size + 1);
+
+        return CursorPageResponse.fromRows(edges, size, this::cursorOf, this::toSummaries);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserSummaryResponse> getFollowing(Long userId, String cursor, int size) {
+        log.debug("Fetching accounts followed by user ID: {} by cursor, size: {}", userId, size);
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<FollowEdge> edges = followRepository.findFollowingBefore(
+                userId, position.getCreatedAt(), position.getId(), size + 1);
+
+        return CursorPageResponse.fromRows(edges, size, this::cursorOf, this::toSummaries);
+    }
+
+    private String cursorOf(FollowEdge edge) {
+        return new KeysetCursor(edge.getCreatedAt(), edge.getUserId()).encode();
+    }
+
+    // One query for the whole page, returned in edge order
+    private List<UserSummaryResponse> toSummaries(List<FollowEdge> edges) {
+        List<Long> userIds = edges.stream().map(FollowEdge::getUserId).toList();
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return userIds.stream()
+                .map(usersById::get)
+                .filter(user -> user != null)
+                .map(userMapper::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
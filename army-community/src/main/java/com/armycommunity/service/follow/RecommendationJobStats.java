@@ -0,0 +1,28 @@
+package com.armycommunity.service.follow;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counters of the most recent follow-recommendation run.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationJobStats {
+    private boolean running;
+    private long totalRuns;
+    private LocalDateTime lastRunStartedAt;
+    private long lastRunMillis;
+    private int usersProcessed;
+    private int chunks;
+    private int failedChunks;
+    private long recommendationsWritten;
+    private double usersPerSecond;
+    private int parallelism;
+}
@@ -0,0 +1,56 @@
+package com.armycommunity.service.follow;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of user IDs stored as a sorted {@code long[]}: 8 bytes per member and no boxing, with
+ * binary-search lookups. Updates return a copy, so readers never need a lock.
+ */
+public final class SortedLongSet {
+
+    public static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static SortedLongSet of(Collection<Long> ids) {
+        long[] values = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return values.length == 0 ? EMPTY : new SortedLongSet(values);
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public SortedLongSet with(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, insertAt);
+        copy[insertAt] = value;
+        System.arraycopy(values, insertAt, copy, insertAt + 1, values.length - insertAt);
+        return new SortedLongSet(copy);
+    }
+
+    public SortedLongSet without(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return this;
+        }
+        long[] copy = new long[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+        return new SortedLongSet(copy);
+    }
+}
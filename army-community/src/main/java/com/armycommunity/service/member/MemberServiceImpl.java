@@ -13,9 +13,13 @@ import com.armycommunity.repository.album.MemberAlbumRepository;
 import com.armycommunity.repository.member.MemberLineAssignmentRepository;
 import com.armycommunity.repository.member.MemberRepository;
 import com.armycommunity.repository.song.SongMemberRepository;
-import com.armycommunity.repository.song.SongRepository;
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.CatalogGraph;
+import com.armycommunity.service.catalog.CatalogGraphService;
+import com.armycommunity.service.catalog.EvictCatalogCaches;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,14 +38,15 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final MemberLineAssignmentRepository memberLineAssignmentRepository;
-    private final SongRepository songRepository;
     private final SongMemberRepository songMemberRepository;
     private final MemberMapper memberMapper;
     private final MemberAlbumRepository memberAlbumRepository;
+    private final CatalogGraphService catalogGraphService;
 
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public MemberDetailResponse createMember(MemberRequest request) {
         log.info("Creating member with stage name: {}", request.getStageName());
 
@@ -84,6 +89,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.MEMBERS, key = "'id:' + #memberId")
     public MemberDetailResponse getMemberById(Long memberId) {
         log.debug("Fetching member with ID: {}", memberId);
         return memberRepository.findById(memberId)
@@ -93,6 +99,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.MEMBERS, key = "'stage-name:' + #stageName")
     public MemberDetailResponse getMemberByStageName(String stageName) {
         log.debug("Fetching member with stage name: {}", stageName);
         return memberRepository.findByStageName(stageName)
@@ -102,6 +109,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public MemberDetailResponse updateMember(Long memberId, MemberRequest request) {
         log.info("Updating member with ID: {}", memberId);
 
@@ -126,8 +134,9 @@ public class MemberServiceImpl implements MemberService {
 
         // Update line type assignments
         if (request.getLineTypes() != null) {
-            // Remove existing assignments
+            // Remove existing assignments; the bulk delete skips entity callbacks, so request the rebuild here
             memberLineAssignmentRepository.deleteByMemberId(memberId);
+            catalogGraphService.rebuildAfterCommit();
 
             // Add new assignments
             if (!request.getLineTypes().isEmpty()) {
@@ -153,6 +162,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void deleteMember(Long memberId) {
         log.info("Deleting member with ID: {}", memberId);
 
@@ -179,35 +189,31 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MemberSummaryResponse> getAllMembers() {
         log.debug("Fetching all members");
-        List<Member> members = memberRepository.findAll();
-        return memberMapper.toSummaryResponseList(members);
+        return catalogGraphService.getGraph().getAllMembers();
     }
 
     @Override
-    @Transactional(readOnly =true)
     public List<MemberSummaryResponse> getMembersByLine(MemberLine lineType) {
         log.debug("Fetching members with line type: {}", lineType);
-        List<Member> members = memberRepository.findByLineType(lineType);
-        return memberMapper.toSummaryResponseList(members);
+        return catalogGraphService.getGraph().getMembersByLine(lineType);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MemberSummaryResponse> getMembersBySong(Long songId) {
         log.debug("Fetching members for song with ID: {}", songId);
-        if (!songRepository.existsById(songId)) {
+
+        CatalogGraph graph = catalogGraphService.getGraph();
+        if (!graph.hasSong(songId)) {
             throw new ResourceNotFoundException("Song not found with id: " + songId);
         }
-
-        List<Member> members = memberRepository.findBySongId(songId);
-        return memberMapper.toSummaryResponseList(members);
+        return graph.getMembersBySong(songId);
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public Member findOrCreateMember(MemberRequest request) {
         log.debug("Finding or creating member: {}", request.getStageName());
 
@@ -8,8 +8,11 @@ import com.armycommunity.model.song.MusicVideo;
 import com.armycommunity.model.song.Song;
 import com.armycommunity.repository.song.MusicVideoRepository;
 import com.armycommunity.repository.song.SongRepository;
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.EvictCatalogCaches;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public MusicVideoResponse createMusicVideo(MusicVideoRequest request) {
         log.info("Creating music video with title: {}", request.getTitle());
         // Find the song to associate with the music video
@@ -47,6 +51,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.MUSIC_VIDEOS, key = "'id:' + #id")
     public MusicVideoResponse getMusicVideoById(Long id) {
         log.info("Fetching music video with ID: {}", id);
 
@@ -57,6 +62,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public MusicVideoResponse updateMusicVideo(Long id, MusicVideoRequest request) {
         log.info("Updating music video with ID: {}", id);
 
@@ -84,6 +90,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void deleteMusicVideo(Long id) {
         log.info("Deleting music video with ID: {}", id);
 
@@ -95,6 +102,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.MUSIC_VIDEOS, key = "'song:' + #songId")
     public List<MusicVideoResponse> getMusicVideosBySong(Long songId) {
         log.debug("Fetching music videos for song ID: {}", songId);
 
@@ -118,6 +126,7 @@ public class MusicVideoServiceImpl implements MusicVideoService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.MUSIC_VIDEOS, key = "'all'")
     public List<MusicVideoResponse> getAllMusicVideos() {
         log.debug("Fetching all music videos");
         List<MusicVideo> musicVideos = musicVideoRepository.findAll();
@@ -0,0 +1,80 @@
+package com.armycommunity.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU-bounded in-process unread counter for single-instance deployments. Counts expire after
+ * {@code app.notifications.unread-counter.ttl-ms}, which bounds how long any drift can survive.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.unread-counter.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUnreadNotificationCounter implements UnreadNotificationCounter {
+
+    // Write versions are kept per stripe of users rather than per user, so they need no eviction
+    private static final int VERSION_STRIPES = 1024;
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+
+    private final Map<Long, CachedCount> counts;
+    private final long[] versions = new long[VERSION_STRIPES];
+    private final long ttlMillis;
+
+    public InMemoryUnreadNotificationCounter(@Value("${app.notifications.unread-counter.max-users:100000}") int maxUsers,
+                                             @Value("${app.notifications.unread-counter.ttl-ms:300000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.counts = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedCount> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Long get(Long userId) {
+        CachedCount cached = counts.get(userId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            counts.remove(userId);
+            return null;
+        }
+        return cached.count();
+    }
+
+    @Override
+    public synchronized long writeVersion(Long userId) {
+        return versions[stripe(userId)];
+    }
+
+    @Override
+    public synchronized void putIfUnchanged(Long userId, long count, long version) {
+        if (versions[stripe(userId)] == version) {
+            counts.put(userId, new CachedCount(Math.max(count, 0L), System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    @Override
+    public synchronized void increment(Long userId, long delta) {
+        versions[stripe(userId)]++;
+        counts.computeIfPresent(userId,
+                (id, cached) -> new CachedCount(Math.max(cached.count() + delta, 0L), cached.expiresAt()));
+    }
+
+    @Override
+    public synchronized void reset(Long userId) {
+        versions[stripe(userId)]++;
+        counts.put(userId, new CachedCount(0L, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), VERSION_STRIPES);
+    }
+}
@@ -0,0 +1,223 @@
+package com.armycommunity.service.notification;
+
+import com.armycommunity.dto.response.user.NotificationResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merges bursts of like, comment and repost notifications about the same entity into a single row
+ * ("jimin and 241 others liked your post"). Events for one (recipient, type, related entity) key
+ * are collected for the coalescing window, then written off the request thread with multi-row inserts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCoalescer {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationStreamService notificationStreamService;
+
+    @Value("${app.notifications.coalesce-window-ms:60000}")
+    private long windowMs;
+
+    private final Map<CoalesceKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Records one event. Inside a transaction the event is only counted once it commits.
+     */
+    public void add(Long recipientId, String type, Long relatedEntityId, String relatedEntityType,
+                    Long actorId, String actorUsername) {
+        CoalesceKey coalesceKey = new CoalesceKey(recipientId, type, relatedEntityId);
+        Runnable record = () -> {
+            // A bucket sealed by a concurrent flush rejects the actor; retry with a fresh bucket
+            while (!buckets.computeIfAbsent(coalesceKey,
+                            key -> new Bucket(relatedEntityType, System.currentTimeMillis()))
+                    .addActor(actorId, actorUsername)) {
+                Thread.onSpinWait();
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.coalesce-flush-ms:5000}")
+    public void flushExpired() {
+        flush(System.currentTimeMillis() - windowMs);
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(Long.MAX_VALUE);
+    }
+
+    private void flush(long openedBefore) {
+        List<PendingNotification> ready = new ArrayList<>();
+        for (Map.Entry<CoalesceKey, Bucket> entry : buckets.entrySet()) {
+            if (entry.getValue().getOpenedAt() <= openedBefore
+                    && buckets.remove(entry.getKey(), entry.getValue())) {
+                ready.add(entry.getValue().seal(entry.getKey()));
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        int written = 0;
+        for (int from = 0; from < ready.size(); from += INSERT_CHUNK_SIZE) {
+            written += writeChunk(ready.subList(from, Math.min(from + INSERT_CHUNK_SIZE, ready.size())));
+        }
+        log.debug("Wrote {} coalesced notifications", written);
+    }
+
+    private int writeChunk(List<PendingNotification> chunk) {
+        List<Long> ids;
+        try {
+            ids = insert(chunk);
+        } catch (RuntimeException e) {
+            // One bad row, e.g. a recipient deleted meanwhile, fails the whole statement; fall back to single rows
+            log.warn("Failed to write {} coalesced notifications at once, retrying one by one: {}",
+                    chunk.size(), e.getMessage());
+            return writeOneByOne(chunk);
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            deliver(chunk.get(i), ids.get(i));
+        }
+        return ids.size();
+    }
+
+    private int writeOneByOne(List<PendingNotification> chunk) {
+        int written = 0;
+        for (PendingNotification notification : chunk) {
+            Long id;
+            try {
+                id = insert(List.of(notification)).get(0);
+            } catch (RuntimeException e) {
+                log.error("Dropped {} notification for user ID: {}: {}",
+                        notification.type(), notification.recipientId(), e.getMessage());
+                continue;
+            }
+            deliver(notification, id);
+            written++;
+        }
+        return written;
+    }
+
+    private void deliver(PendingNotification notification, Long id) {
+        unreadCounter.increment(notification.recipientId(), 1);
+        notificationStreamService.publish(notification.recipientId(), notification.toResponse(id));
+    }
+
+    // One multi-row INSERT per chunk; RETURNING gives back the generated IDs
+    private List<Long> insert(List<PendingNotification> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO notifications (user_id, type, message, is_read, related_entity_id, related_entity_type, created_at) VALUES ");
+        List<Object> args = new ArrayList<>(chunk.size() * 6);
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingNotification notification = chunk.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, false, ?, ?, ?)");
+            args.add(notification.recipientId());
+            args.add(notification.type());
+            args.add(notification.message());
+            args.add(notification.relatedEntityId());
+            args.add(notification.relatedEntityType());
+            args.add(Timestamp.valueOf(notification.createdAt()));
+        }
+        sql.append(" RETURNING id");
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    static String buildMessage(String type, String latestActor, int actorCount) {
+        String action = switch (type) {
+            case "LIKE" -> "liked your post";
+            case "COMMENT" -> "commented on your post";
+            case "REPOST" -> "reposted your post";
+            default -> "interacted with your post";
+        };
+
+        if (actorCount <= 1) {
+            return String.format("%s %s", latestActor, action);
+        }
+        int others = actorCount - 1;
+        return String.format("%s and %d %s %s", latestActor, others, others == 1 ? "other" : "others", action);
+    }
+
+    record CoalesceKey(Long recipientId, String type, Long relatedEntityId) {
+    }
+
+    record PendingNotification(Long recipientId, String type, String message, Long relatedEntityId,
+                               String relatedEntityType, LocalDateTime createdAt) {
+
+        NotificationResponse toResponse(Long id) {
+            return NotificationResponse.builder()
+                    .id(id)
+                    .userId(recipientId)
+                    .type(type)
+                    .message(message)
+                    .isRead(false)
+                    .relatedEntityId(relatedEntityId)
+                    .relatedEntityType(relatedEntityType)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+
+    /**
+     * Actors collected for one key. Synchronized because request threads add while the flusher seals.
+     */
+    private static class Bucket {
+        private final String relatedEntityType;
+        @Getter
+        private final long openedAt;
+        private final Set<Long> actorIds = new HashSet<>();
+        private String latestActor;
+        private boolean sealed;
+
+        Bucket(String relatedEntityType, long openedAt) {
+            this.relatedEntityType = relatedEntityType;
+            this.openedAt = openedAt;
+        }
+
+        synchronized boolean addActor(Long actorId, String actorUsername) {
+            if (sealed) {
+                return false;
+            }
+            actorIds.add(actorId);
+            latestActor = actorUsername;
+            return true;
+        }
+
+        synchronized PendingNotification seal(CoalesceKey key) {
+            sealed = true;
+            return new PendingNotification(key.recipientId(), key.type(),
+                    buildMessage(key.type(), latestActor, actorIds.size()),
+                    key.relatedEntityId(), relatedEntityType, LocalDateTime.now());
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,20 +32,28 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final NotificationMapper notificationMapper;
+    private final NotificationCoalescer notificationCoalescer;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationStreamService notificationStreamService;
 
     @Override
     @Transactional
     public NotificationResponse createNotification(NotificationRequest request) {
         log.info("Creating notification for user ID {} with type: {}", request.getUserId(), request.getType());
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + request.getUserId()));
+        // A proxy is enough to set the foreign key; the insert itself fails if the user does not exist
+        User user = userRepository.getReferenceById(request.getUserId());
 
         Notification notification = notificationMapper.toEntity(request);
         notification.setUser(user);
         notification.setCreatedAt(LocalDateTime.now());
 
         Notification savedNotification = notificationRepository.save(notification);
-        return notificationMapper.toResponse(savedNotification);
+        NotificationResponse response = notificationMapper.toResponse(savedNotification);
+        afterCommit(() -> {
+            unreadCounter.increment(request.getUserId(), 1);
+            notificationStreamService.publish(request.getUserId(), response);
+        });
+        return response;
     }
 
     @Override
@@ -68,7 +78,7 @@ public class NotificationServiceImpl implements NotificationService {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
+        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
         return notificationMapper.toResponseList(unreadNotifications);
     }
 
@@ -77,10 +87,19 @@ public class NotificationServiceImpl implements NotificationService {
     public Long getUnreadNotificationCount(Long userId) {
         log.debug("Counting unread notification count for user ID: {}", userId);
 
+        Long cached = unreadCounter.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        // A notification committed while counting must not leave a stale count in the cache
+        long version = unreadCounter.writeVersion(userId);
+        Long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        unreadCounter.putIfUnchanged(userId, count, version);
+        return count;
     }
 
     @Override
@@ -98,6 +117,7 @@ public class NotificationServiceImpl implements NotificationService {
         if (!notification.isRead()) {
             notification.setRead(true);
             notificationRepository.save(notification);
+            afterCommit(() -> unreadCounter.increment(userId, -1));
             log.info("Successfully marked notification ID: {} as read", notificationId);
         } else {
             log.debug("Notification ID: {} was already marked as read", notificationId);
@@ -113,13 +133,11 @@ public class NotificationServiceImpl implements NotificationService {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        afterCommit(() -> unreadCounter.reset(userId));
 
-        if (!unreadNotifications.isEmpty()) {
-            unreadNotifications.forEach(notification -> notification.setRead(true));
-            notificationRepository.saveAll(unreadNotifications);
-            log.info("Successfully marked {} notifications as read for user ID: {}",
-                    unreadNotifications.size(), userId);
+        if (updated > 0) {
+            log.info("Successfully marked {} notifications as read for user ID: {}", updated, userId);
         } else {
             log.debug("No unread notifications found for user ID: {}", userId);
         }
@@ -138,6 +156,9 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!notification.isRead()) {
+            afterCommit(() -> unreadCounter.increment(userId, -1));
+        }
         log.info("Successfully deleted notification ID: {} for user ID: {}", notificationId, userId);
     }
 
@@ -150,18 +171,32 @@ public class NotificationServiceImpl implements NotificationService {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
 
-        List<Notification> userNotifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        int deleted = notificationRepository.deleteAllByUserId(userId);
+        afterCommit(() -> unreadCounter.reset(userId));
 
-        if (!userNotifications.isEmpty()) {
-            notificationRepository.deleteAll(userNotifications);
-            log.info("Successfully deleted {} notifications for user ID: {}",
-                    userNotifications.size(), userId);
+        if (deleted > 0) {
+            log.info("Successfully deleted {} notifications for user ID: {}", deleted, userId);
         } else {
             log.debug("No notifications found to delete for user ID: {}", userId);
         }
     }
 
-    // Helper methods for common notification types
+    // Keeps the cached unread counts and open streams in step with committed data only
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Helper methods for common notification types.
+    // Likes, comments and reposts go through NotificationCoalescer and are written once the coalescing window closes.
 
     /**
      * Creates a like notification
@@ -176,15 +211,7 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        NotificationRequest request = NotificationRequest.builder()
-                .userId(postOwnerId)
-                .type("LIKE")
-                .message(String.format("%s liked your post", likerUsername))
-                .relatedEntityId(postId)
-                .relatedEntityType("POST")
-                .build();
-
-        createNotification(request);
+        notificationCoalescer.add(postOwnerId, "LIKE", postId, "POST", likerId, likerUsername);
     }
 
     /**
@@ -200,15 +227,7 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        NotificationRequest request = NotificationRequest.builder()
-                .userId(postOwnerId)
-                .type("COMMENT")
-                .message(String.format("%s commented on your post", commenterUsername))
-                .relatedEntityId(postId)
-                .relatedEntityType("POST")
-                .build();
-
-        createNotification(request);
+        notificationCoalescer.add(postOwnerId, "COMMENT", postId, "POST", commenterId, commenterUsername);
     }
 
     /**
@@ -260,14 +279,6 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        NotificationRequest request = NotificationRequest.builder()
-                .userId(postOwnerId)
-                .type("REPOST")
-                .message(String.format("%s reposted your post", reposterUsername))
-                .relatedEntityId(postId)
-                .relatedEntityType("POST")
-                .build();
-
-        createNotification(request);
+        notificationCoalescer.add(postOwnerId, "REPOST", postId, "POST", reposterId, reposterUsername);
     }
 }
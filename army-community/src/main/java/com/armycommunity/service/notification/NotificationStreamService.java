@@ -0,0 +1,23 @@
+package com.armycommunity.service.notification;
+
+import com.armycommunity.dto.response.user.NotificationResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes new notifications to connected clients over Server-Sent Events.
+ */
+public interface NotificationStreamService {
+
+    /**
+     * Opens a stream for the user. When {@code lastEventId} is given, notifications newer than it
+     * are replayed from the database before live events.
+     */
+    SseEmitter subscribe(Long userId, Long lastEventId);
+
+    /**
+     * Delivers a committed notification to the user's open streams, if any.
+     */
+    void publish(Long userId, NotificationResponse notification);
+
+    int getConnectionCount();
+}
@@ -0,0 +1,244 @@
+package com.armycommunity.service.notification;
+
+import com.armycommunity.dto.response.user.NotificationResponse;
+import com.armycommunity.mapper.NotificationMapper;
+import com.armycommunity.repository.post.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory mailbox of open SSE connections per user. Streams run on servlet async, so an idle
+ * connection holds no request thread; events are written by a small dispatcher pool through a
+ * bounded per-connection queue. A connection whose queue overflows is closed, and the client
+ * catches up by reconnecting with Last-Event-ID.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationStreamServiceImpl implements NotificationStreamService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationMapper notificationMapper;
+
+    @Value("${app.notifications.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.notifications.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.notifications.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.notifications.stream.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private final Map<Long, List<Connection>> mailboxes = new ConcurrentHashMap<>();
+    private ExecutorService dispatcher;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        mailboxes.values().forEach(connections -> connections.forEach(Connection::close));
+        dispatcher.shutdown();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter, lastEventId != null);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(connection));
+
+        // Register before replaying so nothing published in between is missed
+        List<Connection> evicted = new ArrayList<>();
+        mailboxes.compute(userId, (id, connections) -> {
+            List<Connection> updated = connections == null ? new CopyOnWriteArrayList<>() : connections;
+            updated.add(connection);
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return updated;
+        });
+        evicted.forEach(Connection::close);
+
+        if (lastEventId != null) {
+            List<NotificationResponse> missed = List.of();
+            try {
+                missed = notificationMapper.toResponseList(notificationRepository
+                        .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastEventId, PageRequest.of(0, bufferSize)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to replay notifications after ID: {} for user ID: {}: {}", lastEventId, userId, e.getMessage());
+            }
+            connection.finishReplay(missed);
+            log.debug("Replayed {} notifications after ID: {} for user ID: {}", missed.size(), lastEventId, userId);
+        }
+
+        log.debug("Opened notification stream for user ID: {}", userId);
+        return emitter;
+    }
+
+    @Override
+    public void publish(Long userId, NotificationResponse notification) {
+        List<Connection> connections = mailboxes.get(userId);
+        if (connections == null) {
+            return;
+        }
+        connections.forEach(connection -> connection.offerNotification(notification));
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return mailboxes.values().stream().mapToInt(List::size).sum();
+    }
+
+    // Keeps proxies and load balancers from dropping idle streams and surfaces dead ones
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        mailboxes.values().forEach(connections -> connections.forEach(Connection::offerHeartbeat));
+    }
+
+    private void remove(Connection connection) {
+        mailboxes.computeIfPresent(connection.userId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * One open stream. Events are queued under the connection's lock and written in order by at most
+     * one dispatcher thread at a time.
+     */
+    private class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        // Live events arriving while the replay query runs; null once the replay is done
+        private List<NotificationResponse> heldDuringReplay;
+        private boolean draining;
+        private boolean closed;
+
+        Connection(Long userId, SseEmitter emitter, boolean replaying) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.heldDuringReplay = replaying ? new ArrayList<>() : null;
+        }
+
+        synchronized void offerNotification(NotificationResponse notification) {
+            if (heldDuringReplay == null) {
+                enqueue(toEvent(notification));
+            } else if (heldDuringReplay.size() < bufferSize) {
+                heldDuringReplay.add(notification);
+            } else {
+                overflow();
+            }
+        }
+
+        synchronized void finishReplay(List<NotificationResponse> missed) {
+            List<NotificationResponse> held = heldDuringReplay;
+            heldDuringReplay = null;
+
+            long lastReplayedId = 0L;
+            for (NotificationResponse notification : missed) {
+                enqueue(toEvent(notification));
+                lastReplayedId = Math.max(lastReplayedId, notification.getId());
+            }
+            for (NotificationResponse notification : held) {
+                // Committed before the replay query ran, so already sent above
+                if (notification.getId() == null || notification.getId() > lastReplayedId) {
+                    enqueue(toEvent(notification));
+                }
+            }
+        }
+
+        synchronized void offerHeartbeat() {
+            if (pending.isEmpty()) {
+                enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            pending.clear();
+            emitter.complete();
+        }
+
+        private SseEmitter.SseEventBuilder toEvent(NotificationResponse notification) {
+            return SseEmitter.event()
+                    .id(String.valueOf(notification.getId()))
+                    .name("notification")
+                    .data(notification, MediaType.APPLICATION_JSON);
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (pending.size() >= bufferSize) {
+                overflow();
+                return;
+            }
+            pending.add(event);
+            if (!draining) {
+                draining = true;
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void overflow() {
+            log.debug("Notification stream buffer full for user ID: {}, closing so the client resumes from Last-Event-ID", userId);
+            close();
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = pending.poll();
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // The container reports the broken connection through onError/onCompletion
+                    synchronized (this) {
+                        closed = true;
+                        pending.clear();
+                        draining = false;
+                    }
+                    remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.armycommunity.service.notification;
+
+/**
+ * Cache of per-user unread notification counts. The default is in-process
+ * ({@code app.notifications.unread-counter.type=memory}); a shared backend can be plugged in by
+ * setting the property to another value and declaring a bean of this type.
+ */
+public interface UnreadNotificationCounter {
+
+    /**
+     * Returns the cached count, or null if this user's count is not cached.
+     */
+    Long get(Long userId);
+
+    /**
+     * Version to read before counting from the database; pass it to {@link #putIfUnchanged}.
+     */
+    long writeVersion(Long userId);
+
+    /**
+     * Caches a count loaded from the database unless the user's count was adjusted or reset since
+     * {@code version} was read, in which case the load may have missed that change.
+     */
+    void putIfUnchanged(Long userId, long count, long version);
+
+    /**
+     * Adjusts a cached count; users without a cached count are left alone and get recounted on next read.
+     */
+    void increment(Long userId, long delta);
+
+    void reset(Long userId);
+}
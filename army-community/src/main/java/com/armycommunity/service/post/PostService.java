@@ -1,6 +1,7 @@
 package com.armycommunity.service.post;
 
 import com.armycommunity.dto.request.post.PostRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.post.PostResponse;
 import com.armycommunity.model.post.Post;
 import org.springframework.data.domain.Page;
@@ -28,13 +29,23 @@ public interface PostService {
 
     List<PostResponse> getUserPosts(Long userId, int page, int size);
 
-    List<PostResponse> getTrendingPosts(int page, int size);
+    List<PostResponse> getTrendingPosts(Long currentUserId, int page, int size);
 
     List<PostResponse> searchPosts(String query, int page, int size);
 
-    List<PostResponse> getPostsByTag(String tagName, int page, int size);
+    List<PostResponse> getPostsByTag(String tagName, Long currentUserId, int page, int size);
 
     List<PostResponse> getAllPosts(int page, int size);
 
+    CursorPageResponse<PostResponse> getFeedPostsByCursor(Long userId, String cursor, int size);
+
+    CursorPageResponse<PostResponse> getUserPostsByCursor(Long userId, String cursor, int size);
+
+    CursorPageResponse<PostResponse> getAllPostsByCursor(String cursor, int size);
+
+    CursorPageResponse<PostResponse> searchPostsByCursor(String query, String cursor, int size);
+
     List<Post> getPostsForModeration();
+
+    void reconcileEngagementCounters();
 }
@@ -1,6 +1,9 @@
 package com.armycommunity.service.post;
 
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.request.SearchCursor;
 import com.armycommunity.dto.request.post.PostRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.request.user.NotificationRequest;
 import com.armycommunity.dto.response.post.PostResponse;
 import com.armycommunity.exception.ResourceNotFoundException;
@@ -14,9 +17,17 @@ import com.armycommunity.model.post.Tag;
 import com.armycommunity.model.user.User;
 import com.armycommunity.repository.post.*;
 import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.security.PrincipalCache;
+import com.armycommunity.security.UserPrincipal;
 import com.armycommunity.service.activitylog.ActivityLogService;
 import com.armycommunity.service.filestorage.FileStorageService;
 import com.armycommunity.service.notification.NotificationService;
+import com.armycommunity.service.search.RankedResult;
+import com.armycommunity.service.search.SearchService;
+import com.armycommunity.service.timeline.TimelineService;
+import com.armycommunity.service.trending.TrendingEventType;
+import com.armycommunity.service.trending.TrendingService;
+import com.armycommunity.service.user.ProfileStatsService;
 import com.armycommunity.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,8 +35,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -46,11 +60,19 @@ public class PostServiceImpl implements PostService {
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
     private final UserService userService;
+    private final PostViewerStateResolver viewerStateResolver;
+    private final TimelineService timelineService;
+    private final TrendingService trendingService;
+    private final PrincipalCache principalCache;
+    private final ProfileStatsService profileStatsService;
+    private final SearchService searchService;
+    private final PlatformTransactionManager transactionManager;
 
     private static final int MAX_IMAGES_PER_POST = 4;
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
     );
+    private static final int COUNTER_RECONCILIATION_BATCH_SIZE = 10_000;
 
     @Override
     @Transactional
@@ -78,6 +100,13 @@ public class PostServiceImpl implements PostService {
         // Save post first to get ID
         Post savedPost = postRepository.save(post);
         log.debug("Saved post with ID: {}", savedPost.getId());
+        profileStatsService.evict(userId);
+
+        if (savedPost.getOriginalPost() != null) {
+            adjustRepostCount(savedPost.getOriginalPost(), 1);
+        }
+
+        timelineService.fanOut(savedPost);
 
         // Handle tags
         if (request.hasTags()) {
@@ -181,7 +210,8 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public void moderatePost(Long postId, Long moderatorId, String action, String reason) {
-        User moderator = userService.findById(moderatorId).orElseThrow(() -> new IllegalArgumentException("Moderator not found"));
+        UserPrincipal moderator = principalCache.get(moderatorId)
+                .orElseThrow(() -> new IllegalArgumentException("Moderator not found"));
 
         if (!moderator.canModerate()) {
             throw new SecurityException("Insufficient permissions to moderate posts");
@@ -191,7 +221,13 @@ public class PostServiceImpl implements PostService {
 
         switch (action.toUpperCase()) {
             case "DELETE":
+                if (!post.getIsDeleted() && post.getOriginalPost() != null) {
+                    adjustRepostCount(post.getOriginalPost(), -1);
+                }
                 post.setIsDeleted(true);
+                profileStatsService.evict(post.getUser().getId());
+                timelineService.removePost(postId);
+                trendingService.removePost(postId);
                 break;
             case "HIDE":
                 // TODO: Implement hiding logic if needed
@@ -233,9 +269,16 @@ public class PostServiceImpl implements PostService {
             throw new UnauthorizedException("You can only delete your own posts or must be a moderator");
         }
 
+        if (!post.getIsDeleted() && post.getOriginalPost() != null) {
+            adjustRepostCount(post.getOriginalPost(), -1);
+        }
+
         // Soft delete
         post.setIsDeleted(true);
+        profileStatsService.evict(post.getUser().getId());
         postRepository.save(post);
+        timelineService.removePost(postId);
+        trendingService.removePost(postId);
 
         // Delete associated images
         if (post.getImagePath() != null) {
@@ -273,6 +316,8 @@ public class PostServiceImpl implements PostService {
                 .build();
 
         reactionRepository.save(reaction);
+        adjustLikeCount(post, 1);
+        trendingService.recordEvent(postId, TrendingEventType.LIKE);
 
         // Send notification to post author (if not self-like)
         if (!post.getUser().getId().equals(userId)) {
@@ -310,6 +355,8 @@ public class PostServiceImpl implements PostService {
         }
 
         reactionRepository.deleteByUserIdAndPostId(userId, postId);
+        adjustLikeCount(post, -1);
+        trendingService.recordEvent(postId, TrendingEventType.UNLIKE);
 
         // Log activity
         Map<String, Object> activityDetails = new HashMap<>();
@@ -325,15 +372,14 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public List<PostResponse> getFeedPosts(Long userId, int page, int size) {
         log.debug("Fetching feed posts for user ID: {}, page: {}, size: {}", userId, page, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> posts = postRepository.findPostsFromFollowedUsers(userId, pageable);
+        List<Post> posts = timelineService.getTimelinePosts(userId, page, size);
 
-        List<PostResponse> responses = postMapper.toResponseList(posts.getContent());
-        responses.forEach(response -> enrichPostResponse(response, userId));
+        List<PostResponse> responses = postMapper.toResponseList(posts);
+        viewerStateResolver.apply(responses, userId);
         return responses;
     }
 
@@ -346,19 +392,31 @@ public class PostServiceImpl implements PostService {
         Page<Post> posts = postRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
         List<PostResponse> responses = postMapper.toResponseList(posts.getContent());
-        responses.forEach(response -> enrichPostResponse(response, userId));
+        viewerStateResolver.apply(responses, userId);
         return responses;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponse> getTrendingPosts(int page, int size) {
+    public List<PostResponse> getTrendingPosts(Long currentUserId, int page, int size) {
         log.debug("Fetching trending posts, page: {}, size: {}", page, size);
 
-        LocalDateTime since = LocalDateTime.now().minusDays(7); // Get trending posts from last 7 days
-        List<Post> posts = postRepository.findTrendingPosts(since, size);
+        List<Long> postIds = trendingService.getTrendingPostIds(page * size, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Keep the scoreboard order; skip posts deleted since the last refresh
+        Map<Long, Post> postsById = new HashMap<>();
+        postRepository.findAllById(postIds).forEach(post -> postsById.put(post.getId(), post));
+        List<Post> posts = postIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && !post.getIsDeleted())
+                .toList();
 
-        return postMapper.toResponseList(posts);
+        List<PostResponse> responses = postMapper.toResponseList(posts);
+        viewerStateResolver.apply(responses, currentUserId);
+        return responses;
     }
 
     @Override
@@ -370,15 +428,16 @@ public class PostServiceImpl implements PostService {
             throw new ValidationException("Search query must be at least 2 characters long");
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> posts = postRepository.searchPosts(query.trim(), pageable);
+        List<Post> posts = searchService.searchPosts(query.trim(), SearchCursor.firstPage(), page * size, size).stream()
+                .map(RankedResult::getItem)
+                .toList();
 
-        return postMapper.toResponseList(posts.getContent());
+        return postMapper.toResponseList(posts);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostResponse> getPostsByTag(String tagName, int page, int size) {
+    public List<PostResponse> getPostsByTag(String tagName, Long currentUserId, int page, int size) {
         log.debug("Fetching posts by tag: '{}', page: {}, size: {}", tagName, page, size);
 
         if (tagName == null || tagName.trim().isEmpty()) {
@@ -394,7 +453,9 @@ public class PostServiceImpl implements PostService {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Post> posts = postRepository.findPostsByTagId(tag.getId(), pageable);
 
-        return postMapper.toResponseList(posts.getContent());
+        List<PostResponse> responses = postMapper.toResponseList(posts.getContent());
+        viewerStateResolver.apply(responses, currentUserId);
+        return responses;
     }
 
     @Override
@@ -411,6 +472,58 @@ public class PostServiceImpl implements PostService {
         return responses;
     }
 
+    @Override
+    @Transactional
+    public CursorPageResponse<PostResponse> getFeedPostsByCursor(Long userId, String cursor, int size) {
+        log.debug("Fetching feed posts for user ID: {} by cursor, size: {}", userId, size);
+
+        KeysetCursor.validatePageSize(size);
+        List<Post> posts = timelineService.getTimelinePostsBefore(userId, KeysetCursor.decode(cursor), size + 1);
+
+        return toCursorPage(posts, size, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getUserPostsByCursor(Long userId, String cursor, int size) {
+        log.debug("Fetching posts for user ID: {} by cursor, size: {}", userId, size);
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<Post> posts = postRepository.findUserPostsBefore(userId, position.getCreatedAt(), position.getId(), size + 1);
+
+        return toCursorPage(posts, size, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getAllPostsByCursor(String cursor, int size) {
+        log.debug("Fetching all posts by cursor, size: {}", size);
+
+        KeysetCursor.validatePageSize(size);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<Post> posts = postRepository.findActivePostsBefore(position.getCreatedAt(), position.getId(), size + 1);
+
+        return CursorPageResponse.fromRows(posts, size, this::cursorOf, postMapper::toResponseList);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> searchPostsByCursor(String query, String cursor, int size) {
+        log.debug("Searching posts with query: '{}' by cursor, size: {}", query, size);
+
+        if (query == null || query.trim().length() < 2) {
+            throw new ValidationException("Search query must be at least 2 characters long");
+        }
+        KeysetCursor.validatePageSize(size);
+        List<RankedResult<Post>> results = searchService.searchPosts(
+                query.trim(), SearchCursor.decode(cursor), 0, size + 1);
+
+        return CursorPageResponse.fromRows(results, size,
+                result -> new SearchCursor(result.getRank(), result.getItem().getId()).encode(),
+                page -> postMapper.toResponseList(page.stream().map(RankedResult::getItem).toList()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Post> getPostsForModeration() {
@@ -424,6 +537,32 @@ public class PostServiceImpl implements PostService {
     }
 
 
+    // Repairs counter drift left behind by failed transactions or manual data fixes. Walks the posts by
+    // ID range, one short transaction per batch, so no single statement locks or scans the whole table
+    @Override
+    @Scheduled(cron = "${app.posts.counter-reconciliation-cron:0 30 3 * * *}")
+    public void reconcileEngagementCounters() {
+        log.debug("Reconciling post engagement counters");
+
+        TransactionTemplate batchTransaction = new TransactionTemplate(transactionManager);
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += COUNTER_RECONCILIATION_BATCH_SIZE) {
+            long toId = fromId + COUNTER_RECONCILIATION_BATCH_SIZE;
+            long batchStart = fromId;
+            Integer batchRepaired = batchTransaction.execute(
+                    status -> postRepository.reconcileEngagementCounters(batchStart, toId));
+            repaired += batchRepaired != null ? batchRepaired : 0;
+        }
+
+        if (repaired > 0) {
+            log.warn("Repaired engagement counters on {} posts", repaired);
+        } else {
+            log.debug("Post engagement counters are consistent");
+        }
+    }
+
+
     // Helper methods
 
     private void validatePostRequest(PostRequest request) {
@@ -453,6 +592,11 @@ public class PostServiceImpl implements PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
     }
 
+    private UserPrincipal getPrincipal(Long userId) {
+        return principalCache.get(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+    }
+
     private void handleRepost(Post post, PostRequest request, User user) {
         Post originalPost = getPostById(request.getOriginalPostId());
 
@@ -474,14 +618,8 @@ public class PostServiceImpl implements PostService {
 
     private String handleImageUploads(List<MultipartFile> images, Long userId) {
         try {
-            List<String> imagePaths = new ArrayList<>();
-
-            for (MultipartFile image : images) {
-                String fileName = String.format("posts/%d/%d_%s",
-                        userId, System.currentTimeMillis(), image.getOriginalFilename());
-                String savedPath = fileStorageService.storeFile(image, fileName);
-                imagePaths.add(savedPath);
-            }
+            // Stored in parallel; the paths come back in upload order
+            List<String> imagePaths = fileStorageService.storeFiles(images, String.format("posts/%d", userId));
 
             return String.join(";", imagePaths);
         } catch (Exception e) {
@@ -540,6 +678,30 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    private CursorPageResponse<PostResponse> toCursorPage(List<Post> posts, int size, Long viewerId) {
+        return CursorPageResponse.fromRows(posts, size, this::cursorOf, page -> {
+            List<PostResponse> responses = postMapper.toResponseList(page);
+            viewerStateResolver.apply(responses, viewerId);
+            return responses;
+        });
+    }
+
+    private String cursorOf(Post post) {
+        return new KeysetCursor(post.getCreatedAt(), post.getId()).encode();
+    }
+
+    private void adjustLikeCount(Post post, long delta) {
+        postRepository.adjustLikeCount(post.getId(), delta);
+        post.setLikeCount(Math.max(post.getLikeCount() + delta, 0L));
+    }
+
+    private void adjustRepostCount(Post originalPost, long delta) {
+        postRepository.adjustRepostCount(originalPost.getId(), delta);
+        originalPost.setRepostCount(Math.max(originalPost.getRepostCount() + delta, 0L));
+        trendingService.recordEvent(originalPost.getId(),
+                delta > 0 ? TrendingEventType.REPOST : TrendingEventType.REPOST_DELETED);
+    }
+
     private void enrichPostResponse(PostResponse response, Long currentUserId) {
         if (currentUserId != null) {
             response.setIsLikedByUser(
@@ -562,9 +724,8 @@ public class PostServiceImpl implements PostService {
     private boolean canViewDeletedPost(Post post, Long currentUserId) {
         if (currentUserId == null) return false;
 
-        User currentUser = getUserById(currentUserId);
         return post.getUser().getId().equals(currentUserId) ||
-                currentUser.canModerate();
+                getPrincipal(currentUserId).canModerate();
     }
 
     private boolean canEditPost(Post post, Long userId) {
@@ -572,8 +733,7 @@ public class PostServiceImpl implements PostService {
     }
 
     private boolean canDeletePost(Post post, Long userId) {
-        User user = getUserById(userId);
-        return post.getUser().getId().equals(userId) || user.canModerate();
+        return post.getUser().getId().equals(userId) || getPrincipal(userId).canModerate();
     }
 
     private String truncateString(String str, int maxLength) {
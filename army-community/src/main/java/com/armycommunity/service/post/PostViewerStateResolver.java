@@ -0,0 +1,87 @@
+package com.armycommunity.service.post;
+
+import com.armycommunity.dto.response.post.PostResponse;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.post.ReactionRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the "liked by me" / "reposted by me" flags for a whole page of posts at once.
+ * Costs two IN-list queries per page regardless of the page size.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewerStateResolver {
+
+    private final ReactionRepository reactionRepository;
+    private final PostRepository postRepository;
+
+    public ViewerState resolve(Long viewerId, Collection<Long> postIds) {
+        if (viewerId == null || postIds == null || postIds.isEmpty()) {
+            return ViewerState.EMPTY;
+        }
+
+        Set<Long> likedPostIds = reactionRepository.findLikedPostIds(viewerId, postIds);
+        Set<Long> repostedPostIds = postRepository.findRepostedOriginalPostIds(viewerId, postIds);
+
+        log.debug("Resolved viewer state for user ID: {} across {} posts ({} liked, {} reposted)",
+                viewerId, postIds.size(), likedPostIds.size(), repostedPostIds.size());
+        return new ViewerState(likedPostIds, repostedPostIds);
+    }
+
+    /**
+     * Resolves and applies the viewer flags to every response in the list.
+     */
+    public void apply(List<PostResponse> responses, Long viewerId) {
+        if (responses == null || responses.isEmpty()) {
+            return;
+        }
+
+        Set<Long> postIds = responses.stream()
+                .map(PostResponse::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        ViewerState state = resolve(viewerId, postIds);
+
+        for (PostResponse response : responses) {
+            response.setIsLikedByUser(state.isLiked(response.getId()));
+            response.setIsRepostedByUser(state.isReposted(response.getId()));
+            response.setNeedsModeration(false);
+        }
+    }
+
+    /**
+     * Liked and reposted post IDs of a single viewer within one page of posts.
+     */
+    @Getter
+    public static class ViewerState {
+        static final ViewerState EMPTY = new ViewerState(Set.of(), Set.of());
+
+        private final Set<Long> likedPostIds;
+        private final Set<Long> repostedPostIds;
+
+        ViewerState(Set<Long> likedPostIds, Set<Long> repostedPostIds) {
+            this.likedPostIds = likedPostIds;
+            this.repostedPostIds = repostedPostIds;
+        }
+
+        public boolean isLiked(Long postId) {
+            return likedPostIds.contains(postId);
+        }
+
+        public boolean isReposted(Long postId) {
+            return repostedPostIds.contains(postId);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.armycommunity.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A search match together with the relevance rank it was ordered by.
+ */
+@Getter
+@AllArgsConstructor
+public class RankedResult<T> {
+    private final T item;
+    private final double rank;
+}
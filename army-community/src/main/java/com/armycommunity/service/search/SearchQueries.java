@@ -0,0 +1,50 @@
+package com.armycommunity.service.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free-form user input into safe PostgreSQL search expressions.
+ */
+final class SearchQueries {
+
+    private SearchQueries() {
+    }
+
+    /**
+     * Builds a {@code to_tsquery} expression that ANDs every word and prefix-matches the last one,
+     * so "butter smo" finds "Butter (Smooth Like Butter)" while typing. Only letters and digits survive,
+     * which keeps tsquery operators in the input from being interpreted. Returns null if nothing is left.
+     */
+    static String toPrefixTsQuery(String input) {
+        if (input == null) {
+            return null;
+        }
+
+        String[] terms = Arrays.stream(input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toArray(String[]::new);
+        if (terms.length == 0) {
+            return null;
+        }
+
+        terms[terms.length - 1] = terms[terms.length - 1] + ":*";
+        return Arrays.stream(terms).collect(Collectors.joining(" & "));
+    }
+
+    static String toContainsPattern(String input) {
+        return "%" + escapeLike(input.trim()) + "%";
+    }
+
+    static String toPrefixPattern(String input) {
+        return escapeLike(input.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    private static String escapeLike(String input) {
+        return input
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,22 @@
+package com.armycommunity.service.search;
+
+import com.armycommunity.dto.request.SearchCursor;
+import com.armycommunity.model.album.Album;
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.song.Song;
+import com.armycommunity.repository.user.UserSearchHit;
+
+import java.util.List;
+
+public interface SearchService {
+
+    List<RankedResult<Post>> searchPosts(String query, SearchCursor after, int offset, int limit);
+
+    List<RankedResult<Song>> searchSongs(String query, SearchCursor after, int offset, int limit);
+
+    List<RankedResult<Album>> searchAlbums(String query, SearchCursor after, int offset, int limit);
+
+    List<RankedResult<UserSearchHit>> searchUsers(String query, SearchCursor after, int limit);
+
+    List<String> autocompleteUsernames(String prefix, int limit);
+}
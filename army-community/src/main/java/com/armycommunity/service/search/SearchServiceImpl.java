@@ -0,0 +1,132 @@
+package com.armycommunity.service.search;
+
+import com.armycommunity.dto.request.SearchCursor;
+import com.armycommunity.model.album.Album;
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.song.Song;
+import com.armycommunity.repository.SearchHit;
+import com.armycommunity.repository.album.AlbumRepository;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.song.SongRepository;
+import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.repository.user.UserSearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Ranked full-text search backed by the generated {@code search_vector} columns and their GIN indexes.
+ * Each search runs one ranked ID query and one primary-key lookup for the matched rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    // Rank given to posts matched only through the author's username; a typical single-term content hit scores ~0.06
+    private static final double AUTHOR_MATCH_RANK = 0.05;
+
+    // Shorter terms have no trigram to use idx_users_username_trgm, so the username branch would scan every post
+    private static final int MIN_AUTHOR_MATCH_LENGTH = 3;
+
+    private final PostRepository postRepository;
+    private final SongRepository songRepository;
+    private final AlbumRepository albumRepository;
+    private final UserRepository userRepository;
+    private final UsernameAutocompleteIndex usernameAutocompleteIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedResult<Post>> searchPosts(String query, SearchCursor after, int offset, int limit) {
+        String tsquery = SearchQueries.toPrefixTsQuery(query);
+        if (tsquery == null) {
+            return List.of();
+        }
+
+        boolean matchAuthors = query.trim().length() >= MIN_AUTHOR_MATCH_LENGTH;
+        List<SearchHit> hits = postRepository.searchPostIds(tsquery, matchAuthors,
+                SearchQueries.toContainsPattern(query), AUTHOR_MATCH_RANK, after.getRank(), after.getId(),
+                limit, offset);
+        log.debug("Post search '{}' matched {} posts", tsquery, hits.size());
+
+        return resolve(hits, postRepository::findAllById, Post::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedResult<Song>> searchSongs(String query, SearchCursor after, int offset, int limit) {
+        String tsquery = SearchQueries.toPrefixTsQuery(query);
+        if (tsquery == null) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = songRepository.searchSongIds(tsquery, after.getRank(), after.getId(), limit, offset);
+        log.debug("Song search '{}' matched {} songs", tsquery, hits.size());
+
+        return resolve(hits, songRepository::findAllById, Song::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedResult<Album>> searchAlbums(String query, SearchCursor after, int offset, int limit) {
+        String tsquery = SearchQueries.toPrefixTsQuery(query);
+        if (tsquery == null) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = albumRepository.searchAlbumIds(tsquery, after.getRank(), after.getId(), limit, offset);
+        log.debug("Album search '{}' matched {} albums", tsquery, hits.size());
+
+        return resolve(hits, albumRepository::findAllById, Album::getId);
+    }
+
+    /**
+     * Matches usernames only. The summary columns come back with the ranked IDs, so no entity is loaded.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RankedResult<UserSearchHit>> searchUsers(String query, SearchCursor after, int limit) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        List<UserSearchHit> hits = userRepository.searchUsers(term, SearchQueries.toPrefixPattern(term),
+                SearchQueries.toContainsPattern(term), after.getRank(), after.getId(), limit);
+        log.debug("User search '{}' matched {} users", term, hits.size());
+
+        return hits.stream()
+                .map(hit -> new RankedResult<>(hit, hit.getRank()))
+                .toList();
+    }
+
+    @Override
+    public List<String> autocompleteUsernames(String prefix, int limit) {
+        return usernameAutocompleteIndex.complete(prefix, limit);
+    }
+
+    // Loads the matched rows and puts them back into rank order
+    private <T> List<RankedResult<T>> resolve(List<SearchHit> hits,
+                                              Function<List<Long>, List<T>> loader,
+                                              Function<T, Long> idOf) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, T> byId = new HashMap<>();
+        loader.apply(hits.stream().map(SearchHit::getId).toList())
+                .forEach(item -> byId.put(idOf.apply(item), item));
+
+        return hits.stream()
+                .filter(hit -> byId.containsKey(hit.getId()))
+                .map(hit -> new RankedResult<>(byId.get(hit.getId()), hit.getRank()))
+                .toList();
+    }
+}
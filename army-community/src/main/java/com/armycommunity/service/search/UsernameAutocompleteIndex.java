@@ -0,0 +1,163 @@
+package com.armycommunity.service.search;
+
+import com.armycommunity.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory username completion over a sorted array of lower-cased usernames, answered with a binary
+ * search for the prefix and a scan of the following entries. Registrations and deletions are applied
+ * incrementally to a small overlay that is folded into the array once it grows past
+ * {@code app.search.autocomplete.merge-threshold}; a scheduled rebuild from the database catches
+ * anything else.
+ */
+@Component
+@Slf4j
+public class UsernameAutocompleteIndex {
+
+    // Immutable once published: lower-cased keys in order, and the usernames as registered
+    private record Snapshot(String[] keys, String[] usernames) {
+    }
+
+    private final UserRepository userRepository;
+    private final int mergeThreshold;
+
+    private volatile Snapshot snapshot = new Snapshot(new String[0], new String[0]);
+    private final ConcurrentSkipListMap<String, String> added = new ConcurrentSkipListMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+    public UsernameAutocompleteIndex(UserRepository userRepository,
+                                     @Value("${app.search.autocomplete.merge-threshold:1024}") int mergeThreshold) {
+        this.userRepository = userRepository;
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    /**
+     * Up to {@code limit} usernames starting with {@code prefix}, case-insensitively, in alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        String key = toKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        List<String> matches = new ArrayList<>(limit);
+        int index = lowerBound(current.keys(), key);
+        Map.Entry<String, String> overlay = added.ceilingEntry(key);
+
+        // Merges the array and the overlay, both sorted by key
+        while (matches.size() < limit) {
+            boolean fromArray = index < current.keys().length && current.keys()[index].startsWith(key);
+            boolean fromOverlay = overlay != null && overlay.getKey().startsWith(key);
+            if (!fromArray && !fromOverlay) {
+                break;
+            }
+
+            String matchKey;
+            String username;
+            if (fromArray && (!fromOverlay || current.keys()[index].compareTo(overlay.getKey()) <= 0)) {
+                matchKey = current.keys()[index];
+                username = current.usernames()[index];
+                index++;
+                if (fromOverlay && matchKey.equals(overlay.getKey())) {
+                    overlay = added.higherEntry(overlay.getKey());
+                }
+            } else {
+                matchKey = overlay.getKey();
+                username = overlay.getValue();
+                overlay = added.higherEntry(overlay.getKey());
+            }
+
+            if (!removed.contains(matchKey)) {
+                matches.add(username);
+            }
+        }
+        return matches;
+    }
+
+    public void add(String username) {
+        String key = toKey(username);
+        removed.remove(key);
+        added.put(key, username);
+        if (added.size() >= mergeThreshold) {
+            merge();
+        }
+    }
+
+    public void remove(String username) {
+        String key = toKey(username);
+        added.remove(key);
+        removed.add(key);
+        if (removed.size() >= mergeThreshold) {
+            merge();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.autocomplete.rebuild-ms:21600000}", initialDelay = 0)
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        List<String> usernames = userRepository.findActiveUsernames();
+
+        TreeMap<String, String> sorted = new TreeMap<>();
+        usernames.forEach(username -> sorted.put(toKey(username), username));
+        synchronized (this) {
+            // Changes made while the rows were loading are kept on top of the fresh snapshot
+            snapshot = toSnapshot(sorted);
+        }
+        log.info("Rebuilt username autocomplete index with {} usernames in {} ms",
+                sorted.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // Folds the overlay into a new array; readers keep using the old one until it is swapped in
+    private synchronized void merge() {
+        Snapshot current = snapshot;
+        NavigableMap<String, String> pendingAdds = new TreeMap<>(added);
+        Set<String> pendingRemovals = Set.copyOf(removed);
+
+        TreeMap<String, String> merged = new TreeMap<>();
+        for (int i = 0; i < current.keys().length; i++) {
+            if (!pendingRemovals.contains(current.keys()[i])) {
+                merged.put(current.keys()[i], current.usernames()[i]);
+            }
+        }
+        pendingAdds.forEach((key, username) -> {
+            if (!pendingRemovals.contains(key)) {
+                merged.put(key, username);
+            }
+        });
+
+        snapshot = toSnapshot(merged);
+        pendingAdds.keySet().forEach(key -> added.remove(key, pendingAdds.get(key)));
+        removed.removeAll(pendingRemovals);
+        log.debug("Merged {} additions and {} removals into the username autocomplete index",
+                pendingAdds.size(), pendingRemovals.size());
+    }
+
+    private static Snapshot toSnapshot(NavigableMap<String, String> sorted) {
+        return new Snapshot(sorted.keySet().toArray(String[]::new), sorted.values().toArray(String[]::new));
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int index = Arrays.binarySearch(keys, key, Comparator.naturalOrder());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static String toKey(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -8,6 +8,11 @@ import java.util.Map;
 public interface SettingService {
     void saveSetting(Long userId, String key, String value);
 
+    /**
+     * Creates or updates several settings of a user in one statement.
+     */
+    void saveSettings(Long userId, Map<String, String> settings);
+
     String getUserSetting(Long userId, String key);
 
     List<Setting> getUserSettings(Long userId);
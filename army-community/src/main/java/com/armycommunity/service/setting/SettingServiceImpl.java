@@ -4,14 +4,19 @@ import com.armycommunity.model.user.Setting;
 import com.armycommunity.repository.user.SettingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +24,8 @@ import java.util.Optional;
 public class SettingServiceImpl implements SettingService {
 
     private final SettingRepository settingRepository;
+    private final SettingsCache settingsCache;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final Map<String, String> DEFAULT_USER_SETTINGS = Map.of(
             "theme", "light",
@@ -30,38 +37,45 @@ public class SettingServiceImpl implements SettingService {
             "show_online_status", "true"
     );
 
+    // One statement for any number of keys; the key and value arrays are unnested pairwise
+    private static final String UPSERT_USER_SETTINGS_SQL = """
+            INSERT INTO settings (user_id, setting_key, setting_value, is_global)
+            SELECT ?, entry.setting_key, entry.setting_value, false
+            FROM unnest(?::text[], ?::text[]) AS entry(setting_key, setting_value)
+            ON CONFLICT (user_id, setting_key) DO UPDATE
+            SET setting_value = EXCLUDED.setting_value, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String INSERT_MISSING_USER_SETTINGS_SQL = """
+            INSERT INTO settings (user_id, setting_key, setting_value, is_global)
+            SELECT ?, entry.setting_key, entry.setting_value, false
+            FROM unnest(?::text[], ?::text[]) AS entry(setting_key, setting_value)
+            ON CONFLICT (user_id, setting_key) DO NOTHING
+            """;
+
     @Override
     @Transactional
     public void saveSetting(Long userId, String key, String value) {
         log.debug("Saving user setting - userId: {}, key: {}, value: {}", userId, key, value);
-        Optional<Setting> existingSetting = settingRepository.findByUserIdAndSettingKey(userId, key);
+        // setting_value is nullable and a null value reads as unset, so it is stored as given
+        saveSettings(userId, Collections.singletonMap(key, value));
+    }
 
-        if (existingSetting.isPresent()) {
-            Setting setting = existingSetting.get();
-            setting.setSettingValue(value);
-            setting.setUpdatedAt(LocalDateTime.now());
-            settingRepository.save(setting);
-            log.debug("Updated user setting - userId: {}, key: {}", userId, key);
-        } else {
-            Setting newSetting = Setting.builder()
-                    .user(userId)
-                    .settingKey(key)
-                    .settingValue(value)
-                    .isGlobal(false)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-            settingRepository.save(newSetting);
-            log.debug("Created new user setting - userId: {}, key: {}", userId, key);
+    @Override
+    @Transactional
+    public void saveSettings(Long userId, Map<String, String> settings) {
+        if (settings.isEmpty()) {
+            return;
         }
+        log.debug("Saving {} user settings - userId: {}", settings.size(), userId);
+        writeUserSettings(UPSERT_USER_SETTINGS_SQL, userId, settings);
     }
 
     @Override
     public String getUserSetting(Long userId, String key) {
         log.debug("Fetching user setting - userId: {}, key: {}", userId, key);
-        return settingRepository.findByUserIdAndSettingKey(userId, key)
-                .map(Setting::getSettingValue)
-                .orElse(DEFAULT_USER_SETTINGS.get(key));
+        String value = loadUserSettings(userId).get(key);
+        return value != null ? value : DEFAULT_USER_SETTINGS.get(key);
     }
 
     @Override
@@ -72,13 +86,7 @@ public class SettingServiceImpl implements SettingService {
 
     @Override
     public Map<String, String> getUserSettingsAsMap(Long userId) {
-        List<Setting> settings = getUserSettings(userId);
-        Map<String, String> settingsMap = new HashMap<>();
-
-        for (Setting setting : settings) {
-            settingsMap.put(setting.getSettingKey(), setting.getSettingValue());
-        }
-
+        Map<String, String> settingsMap = new HashMap<>(loadUserSettings(userId));
         log.debug("Retrieved {} settings for user: {}", settingsMap.size(), userId);
         return settingsMap;
     }
@@ -91,6 +99,7 @@ public class SettingServiceImpl implements SettingService {
 
         if (setting.isPresent()) {
             settingRepository.delete(setting.get());
+            evictUserUntilCompletion(userId);
             log.info("Deleted user setting - userId: {}, key: {}", userId, key);
         } else {
             log.warn("Attempted to delete non-existent setting - userId: {}, key: {}", userId, key);
@@ -112,7 +121,7 @@ public class SettingServiceImpl implements SettingService {
             log.info("Updated global setting - key: {}", key);
         } else {
             Setting newSetting = Setting.builder()
-                    .user(null)
+                    .userId(null)
                     .settingKey(key)
                     .settingValue(value)
                     .isGlobal(true)
@@ -122,16 +131,22 @@ public class SettingServiceImpl implements SettingService {
             settingRepository.save(newSetting);
             log.info("Created new global setting - key: {}", key);
         }
+
+        // Readers keep the old snapshot until the new one is swapped in after commit; a rollback drops
+        // any snapshot that may have been loaded from this transaction's uncommitted rows
+        afterCompletion(committed -> {
+            if (committed) {
+                settingsCache.replaceGlobalSettings(toMap(settingRepository.findByIsGlobalTrue()));
+            } else {
+                settingsCache.evictGlobal();
+            }
+        });
     }
 
     @Override
     public String getGlobalSetting(String key) {
         log.debug("Fetching global setting - key: {}", key);
-        return settingRepository.findByIsGlobalTrue().stream()
-                .filter(setting -> key.equals(setting.getSettingKey()))
-                .map(Setting::getSettingValue)
-                .findFirst()
-                .orElse(null);
+        return loadGlobalSettings().get(key);
     }
 
     @Override
@@ -142,13 +157,7 @@ public class SettingServiceImpl implements SettingService {
 
     @Override
     public Map<String, String> getGlobalSettingsAsMap() {
-        List<Setting> settings = getAllGlobalSettings();
-        Map<String, String> settingsMap = new HashMap<>();
-
-        for (Setting setting : settings) {
-            settingsMap.put(setting.getSettingKey(), setting.getSettingValue());
-        }
-
+        Map<String, String> settingsMap = new HashMap<>(loadGlobalSettings());
         log.debug("Retrieved {} global settings", settingsMap.size());
         return settingsMap;
     }
@@ -156,9 +165,7 @@ public class SettingServiceImpl implements SettingService {
     // Helper method to get setting with fallback to global then default
     @Override
     public String getSettingWithGlobalFallback(Long userId, String key) {
-        String userSetting = settingRepository.findByUserIdAndSettingKey(userId, key)
-                .map(Setting::getSettingValue)
-                .orElse(null);
+        String userSetting = loadUserSettings(userId).get(key);
 
         if (userSetting != null) {
             return userSetting;
@@ -182,23 +189,8 @@ public class SettingServiceImpl implements SettingService {
     public void initializeUserSettings(Long userId) {
         log.info("Initializing default settings for user: {}", userId);
 
-        for (Map.Entry<String, String> entry : DEFAULT_USER_SETTINGS.entrySet()) {
-            String key = entry.getKey();
-            String defaultValue = entry.getValue();
-
-            // Only create if setting doesn't already exist
-            if (!settingRepository.findByUserIdAndSettingKey(userId, key).isPresent()) {
-                Setting setting = Setting.builder()
-                        .user(userId)
-                        .settingKey(key)
-                        .settingValue(defaultValue)
-                        .isGlobal(false)
-                        .createdAt(LocalDateTime.now())
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-                settingRepository.save(setting);
-            }
-        }
+        // Only creates settings that don't already exist
+        writeUserSettings(INSERT_MISSING_USER_SETTINGS_SQL, userId, DEFAULT_USER_SETTINGS);
 
         log.info("Default settings initialized for user: {}", userId);
     }
@@ -225,4 +217,74 @@ public class SettingServiceImpl implements SettingService {
     public String getUserTimezone(Long userId) {
         return getSettingWithGlobalFallback(userId, "time_zone");
     }
+
+    private void writeUserSettings(String sql, Long userId, Map<String, String> settings) {
+        String[] keys = new String[settings.size()];
+        String[] values = new String[settings.size()];
+        int index = 0;
+        for (Map.Entry<String, String> entry : settings.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+
+        jdbcTemplate.update(sql, userId, keys, values);
+        evictUserUntilCompletion(userId);
+    }
+
+    // One query loads every setting of the user; the map is cached until the user's settings change
+    private Map<String, String> loadUserSettings(Long userId) {
+        Map<String, String> cached = settingsCache.getUserSettings(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = settingsCache.writeVersion();
+        Map<String, String> settings = toMap(settingRepository.findByUserId(userId));
+        settingsCache.putUserSettingsIfUnchanged(userId, settings, version);
+        return settings;
+    }
+
+    private Map<String, String> loadGlobalSettings() {
+        Map<String, String> snapshot = settingsCache.getGlobalSettings();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long version = settingsCache.writeVersion();
+        Map<String, String> settings = toMap(settingRepository.findByIsGlobalTrue());
+        settingsCache.loadGlobalSettingsIfUnchanged(settings, version);
+        return settings;
+    }
+
+    // Settings without a value are left out; readers treat them as unset
+    private static Map<String, String> toMap(List<Setting> settings) {
+        Map<String, String> settingsMap = new HashMap<>();
+        for (Setting setting : settings) {
+            if (setting.getSettingKey() != null && setting.getSettingValue() != null) {
+                settingsMap.put(setting.getSettingKey(), setting.getSettingValue());
+            }
+        }
+        return settingsMap;
+    }
+
+    // Evicted now so this transaction reads its own writes, and again once it ends, committed or not, so
+    // neither a map loaded from its uncommitted rows nor one loaded by a concurrent reader is left behind
+    private void evictUserUntilCompletion(Long userId) {
+        settingsCache.evictUser(userId);
+        afterCompletion(committed -> settingsCache.evictUser(userId));
+    }
+
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.armycommunity.service.setting;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process settings cache: each user's full settings map behind an LRU, and the global settings as
+ * one immutable snapshot that is replaced wholesale on write. Cached maps are immutable.
+ * <p>
+ * Loaders read {@link #writeVersion()} before querying and cache through the {@code IfUnchanged}
+ * methods, so a load that overlapped an eviction or replacement cannot leave the old value behind.
+ */
+@Component
+public class SettingsCache {
+
+    private final Map<Long, Map<String, String>> userSettings;
+    private volatile Map<String, String> globalSettings;
+
+    // Bumped on every eviction and replacement
+    private final AtomicLong writes = new AtomicLong();
+
+    public SettingsCache(@Value("${app.settings.cache.max-users:50000}") int maxUsers) {
+        this.userSettings = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<String, String>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public synchronized Map<String, String> getUserSettings(Long userId) {
+        return userSettings.get(userId);
+    }
+
+    public long writeVersion() {
+        return writes.get();
+    }
+
+    public synchronized void putUserSettingsIfUnchanged(Long userId, Map<String, String> settings, long version) {
+        if (writes.get() == version) {
+            userSettings.put(userId, Map.copyOf(settings));
+        }
+    }
+
+    public synchronized void evictUser(Long userId) {
+        writes.incrementAndGet();
+        userSettings.remove(userId);
+    }
+
+    /**
+     * The current global snapshot, or null if it has not been loaded yet.
+     */
+    public Map<String, String> getGlobalSettings() {
+        return globalSettings;
+    }
+
+    public synchronized void replaceGlobalSettings(Map<String, String> settings) {
+        writes.incrementAndGet();
+        globalSettings = Map.copyOf(settings);
+    }
+
+    public synchronized void loadGlobalSettingsIfUnchanged(Map<String, String> settings, long version) {
+        if (writes.get() == version) {
+            globalSettings = Map.copyOf(settings);
+        }
+    }
+
+    public synchronized void evictGlobal() {
+        writes.incrementAndGet();
+        globalSettings = null;
+    }
+}
@@ -1,11 +1,12 @@
 package com.armycommunity.service.song;
 
 import com.armycommunity.dto.request.song.SongRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.song.SongDetailResponse;
 import com.armycommunity.dto.response.song.SongSummaryResponse;
 import com.armycommunity.model.song.Song;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -26,7 +27,9 @@ public interface SongService {
 
     List<SongSummaryResponse> getSongsByLanguage(String language);
 
-    Page<SongSummaryResponse> searchSongs(String query, Pageable pageable);
+    Slice<SongSummaryResponse> searchSongs(String query, Pageable pageable);
+
+    CursorPageResponse<SongSummaryResponse> searchSongsByCursor(String query, String cursor, int size);
 
     List<SongSummaryResponse> getSongsByArtist(String artist);
 
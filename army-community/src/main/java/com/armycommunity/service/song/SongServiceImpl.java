@@ -1,6 +1,9 @@
 package com.armycommunity.service.song;
 
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.request.SearchCursor;
 import com.armycommunity.dto.request.song.SongRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.member.MemberSummaryResponse;
 import com.armycommunity.dto.response.song.SongDetailResponse;
 import com.armycommunity.dto.response.song.SongSummaryResponse;
@@ -15,10 +18,18 @@ import com.armycommunity.repository.album.AlbumRepository;
 import com.armycommunity.repository.member.MemberRepository;
 import com.armycommunity.repository.song.SongMemberRepository;
 import com.armycommunity.repository.song.SongRepository;
+import com.armycommunity.service.catalog.CatalogCaches;
+import com.armycommunity.service.catalog.CatalogGraph;
+import com.armycommunity.service.catalog.CatalogGraphService;
+import com.armycommunity.service.catalog.EvictCatalogCaches;
+import com.armycommunity.service.search.RankedResult;
+import com.armycommunity.service.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,9 +49,12 @@ public class SongServiceImpl implements SongService {
     private final MemberRepository memberRepository;
     private final SongMemberRepository songMemberRepository;
     private final SongMapper songMapper;
+    private final SearchService searchService;
+    private final CatalogGraphService catalogGraphService;
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public SongDetailResponse createSong(SongRequest request) {
         log.info("Creating new song with title: {}", request.getTitle());
 
@@ -74,6 +88,7 @@ public class SongServiceImpl implements SongService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CatalogCaches.SONGS, key = "'id:' + #songId")
     public SongDetailResponse getSongById(Long songId) {
         log.debug("Retrieving song with ID: {}", songId);
 
@@ -86,6 +101,7 @@ public class SongServiceImpl implements SongService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public SongDetailResponse updateSong(Long songId, SongRequest request) {
         log.info("Updating song with ID: {}", songId);
 
@@ -125,6 +141,7 @@ public class SongServiceImpl implements SongService {
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public void deleteSong(Long songId) {
         log.info("Deleting song with ID: {}", songId);
 
@@ -139,44 +156,40 @@ public class SongServiceImpl implements SongService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<SongSummaryResponse> getSongsByAlbum(Long albumId) {
         log.debug("Retrieving songs for album with ID: {}", albumId);
 
-        if (!albumRepository.existsById(albumId)) {
+        CatalogGraph graph = catalogGraphService.getGraph();
+        if (!graph.hasAlbum(albumId)) {
             throw new ResourceNotFoundException("Album not found with id: " + albumId);
         }
 
-        List<Song> songs = songRepository.findByAlbumId(albumId);
+        List<SongSummaryResponse> songs = graph.getSongsByAlbum(albumId);
         log.debug("Found {} songs for album ID: {}", songs.size(), albumId);
-
-        return songMapper.toSummaryResponseList(songs);
+        return songs;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<SongSummaryResponse> getTitleTracks() {
         log.debug("Retrieving all title tracks");
 
-        List<Song> titleTracks = songRepository.findByIsTitleTrue();
+        List<SongSummaryResponse> titleTracks = catalogGraphService.getGraph().getTitleTracks();
         log.debug("Found {} title tracks", titleTracks.size());
-
-        return songMapper.toSummaryResponseList(titleTracks);
+        return titleTracks;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<SongSummaryResponse> getSongsByMember(Long memberId) {
         log.debug("Retrieving songs for member ID: {}", memberId);
 
-        if (!memberRepository.existsById(memberId)) {
+        CatalogGraph graph = catalogGraphService.getGraph();
+        if (!graph.hasMember(memberId)) {
             throw new ResourceNotFoundException("Member not found with ID: " + memberId);
         }
 
-        List<Song> songs = songRepository.findSongsByMemberId(memberId);
+        List<SongSummaryResponse> songs = graph.getSongsByMember(memberId);
         log.debug("Found {} songs for member ID: {}", songs.size(), memberId);
-
-        return songMapper.toSummaryResponseList(songs);
+        return songs;
     }
 
     @Override
@@ -192,12 +205,32 @@ public class SongServiceImpl implements SongService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<SongSummaryResponse> searchSongs(String query, Pageable pageable) {
+    public Slice<SongSummaryResponse> searchSongs(String query, Pageable pageable) {
         log.debug("Searching songs with query: {}", query);
 
-        Page<Song> songPage = songRepository.searchSongs(query, pageable);
-        log.debug("Found {} songs matching query: {}", songPage.getTotalElements(), query);
-        return songPage.map(songMapper::toSummaryResponse);
+        // One extra row tells whether another page exists; no total is computed, so this is a Slice
+        List<Song> matches = searchService.searchSongs(query, SearchCursor.firstPage(),
+                        (int) pageable.getOffset(), pageable.getPageSize() + 1).stream()
+                .map(RankedResult::getItem)
+                .collect(Collectors.toList());
+        boolean hasNext = matches.size() > pageable.getPageSize();
+        List<Song> songs = hasNext ? matches.subList(0, pageable.getPageSize()) : matches;
+
+        log.debug("Found {} songs matching query: {}", songs.size(), query);
+        return new SliceImpl<>(songMapper.toSummaryResponseList(songs), pageable, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SongSummaryResponse> searchSongsByCursor(String query, String cursor, int size) {
+        log.debug("Searching songs with query: {} by cursor", query);
+
+        KeysetCursor.validatePageSize(size);
+        List<RankedResult<Song>> results = searchService.searchSongs(query, SearchCursor.decode(cursor), 0, size + 1);
+
+        return CursorPageResponse.fromRows(results, size,
+                result -> new SearchCursor(result.getRank(), result.getItem().getId()).encode(),
+                page -> songMapper.toSummaryResponseList(page.stream().map(RankedResult::getItem).toList()));
     }
 
     @Override
@@ -223,19 +256,18 @@ public class SongServiceImpl implements SongService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<SongSummaryResponse> getFeaturingSongs() {
         log.debug("Retrieving songs where BTS members feature");
 
         // Songs where BTS members participate but BTS is not the main artist
-        List<Song> songs = songRepository.findFeaturingSongs();
+        List<SongSummaryResponse> songs = catalogGraphService.getGraph().getFeaturingSongs();
         log.debug("Found {} featuring songs", songs.size());
-
-        return songMapper.toSummaryResponseList(songs);
+        return songs;
     }
 
     @Override
     @Transactional
+    @EvictCatalogCaches
     public Song findOrCreateSong(SongRequest request) {
         log.debug("Finding or creating song with title: {}", request.getTitle());
 
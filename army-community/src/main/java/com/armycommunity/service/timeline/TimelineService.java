@@ -0,0 +1,27 @@
+package com.armycommunity.service.timeline;
+
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.model.post.Post;
+
+import java.util.List;
+
+public interface TimelineService {
+
+    void fanOut(Post post);
+
+    void removePost(Long postId);
+
+    void addAuthor(Long userId, Long authorId);
+
+    void removeAuthor(Long userId, Long authorId);
+
+    List<Post> getTimelinePosts(Long userId, int page, int size);
+
+    List<Post> getTimelinePostsBefore(Long userId, KeysetCursor cursor, int limit);
+
+    boolean isHighFollowerAccount(Long userId);
+
+    void refreshHighFollowerAccounts();
+
+    void trimTimelines();
+}
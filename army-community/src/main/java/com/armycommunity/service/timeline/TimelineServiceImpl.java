@@ -0,0 +1,264 @@
+package com.armycommunity.service.timeline;
+
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.post.TimelineEntry;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.post.TimelineRepository;
+import com.armycommunity.service.follow.FollowGraphCache;
+import com.armycommunity.service.follow.SortedLongSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Home timeline built with fan-out-on-write. Posts are pushed into every follower's
+ * timeline when created, except for accounts above the follower threshold; their posts
+ * are pulled at read time and merged into the precomputed timeline.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineServiceImpl implements TimelineService {
+
+    private final TimelineRepository timelineRepository;
+    private final PostRepository postRepository;
+    private final FollowGraphCache followGraphCache;
+
+    @Value("${app.timeline.fanout-follower-threshold:10000}")
+    private long fanOutFollowerThreshold;
+
+    @Value("${app.timeline.max-entries:800}")
+    private int maxEntriesPerTimeline;
+
+    // Refreshed on a schedule and mirrored in home_timeline_pulled_accounts, so posts an account made while
+    // pulled can be copied to its followers once it drops below the threshold
+    private volatile Set<Long> highFollowerAccounts = Set.of();
+
+    /**
+     * Pushes the post to every follower's timeline with one INSERT ... SELECT. This runs synchronously in
+     * the caller's transaction, so the post and its timeline rows commit or roll back together; the
+     * follower threshold bounds it to fanout-follower-threshold rows.
+     */
+    @Override
+    @Transactional
+    public void fanOut(Post post) {
+        Long authorId = post.getUser().getId();
+
+        if (isHighFollowerAccount(authorId)) {
+            log.debug("Skipping fan-out for post ID: {}, author ID: {} is served on read", post.getId(), authorId);
+            return;
+        }
+
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        int delivered = timelineRepository.fanOutToFollowers(post.getId(), authorId, createdAt);
+        log.debug("Fanned out post ID: {} to {} timelines", post.getId(), delivered);
+    }
+
+    @Override
+    @Transactional
+    public void removePost(Long postId) {
+        int removed = timelineRepository.deleteByPostId(postId);
+        log.debug("Removed post ID: {} from {} timelines", postId, removed);
+    }
+
+    @Override
+    @Transactional
+    public void addAuthor(Long userId, Long authorId) {
+        // Posts of pulled accounts are merged in at read time; a timeline not yet backfilled gets them on first read
+        if (isHighFollowerAccount(authorId) || !timelineRepository.isBackfilled(userId)) {
+            return;
+        }
+        int added = timelineRepository.insertAuthorPosts(userId, authorId, maxEntriesPerTimeline);
+        log.debug("Added {} posts of author ID: {} to timeline of user ID: {}", added, authorId, userId);
+    }
+
+    @Override
+    @Transactional
+    public void removeAuthor(Long userId, Long authorId) {
+        int removed = timelineRepository.deleteByUserIdAndAuthorId(userId, authorId);
+        log.debug("Removed {} posts of author ID: {} from timeline of user ID: {}", removed, authorId, userId);
+    }
+
+    @Override
+    @Transactional
+    public List<Post> getTimelinePosts(Long userId, int page, int size) {
+        int window = (page + 1) * size;
+        ensureBackfilled(userId);
+
+        List<TimelineEntry> pushed = timelineRepository.findTimeline(userId, PageRequest.of(0, window));
+
+        Set<Long> pullAuthors = pullAuthorsFor(userId);
+        List<Post> pulled = pullAuthors.isEmpty()
+                ? List.of()
+                : timelineRepository.findRecentPostsFromFollowedAuthors(userId, pullAuthors, window);
+
+        return loadMergedPage(pushed, pulled, page * size, size);
+    }
+
+    @Override
+    @Transactional
+    public List<Post> getTimelinePostsBefore(Long userId, KeysetCursor cursor, int limit) {
+        ensureBackfilled(userId);
+
+        List<TimelineEntry> pushed = timelineRepository.findTimelineBefore(
+                userId, cursor.getCreatedAt(), cursor.getId(), PageRequest.of(0, limit));
+
+        Set<Long> pullAuthors = pullAuthorsFor(userId);
+        List<Post> pulled = pullAuthors.isEmpty()
+                ? List.of()
+                : timelineRepository.findPostsFromFollowedAuthorsBefore(
+                        userId, pullAuthors, cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return loadMergedPage(pushed, pulled, 0, limit);
+    }
+
+    // Narrowed to the pulled accounts the user follows, which usually skips the pull query entirely
+    private Set<Long> pullAuthorsFor(Long userId) {
+        Set<Long> accounts = highFollowerAccounts;
+        SortedLongSet following = accounts.isEmpty() ? null : followGraphCache.following(userId);
+        if (following == null) {
+            return accounts;
+        }
+        return accounts.stream()
+                .filter(following::contains)
+                .collect(Collectors.toSet());
+    }
+
+    // Tracked by an explicit marker: a user can hold fan-out rows before their first read, or follow nobody
+    private void ensureBackfilled(Long userId) {
+        if (!timelineRepository.isBackfilled(userId) && timelineRepository.markBackfilled(userId) > 0) {
+            int seeded = timelineRepository.backfill(userId, maxEntriesPerTimeline);
+            log.debug("Backfilled timeline for user ID: {} with {} posts", userId, seeded);
+        }
+    }
+
+    // Both sources only return live posts, so the merge cuts the page at the right length
+    private List<Post> loadMergedPage(List<TimelineEntry> pushed, List<Post> pulled, int offset, int limit) {
+        List<Long> pageIds = mergePostIds(pushed, pulled, offset, limit);
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postsById = new HashMap<>();
+        pulled.forEach(post -> postsById.put(post.getId(), post));
+
+        List<Long> missingIds = pageIds.stream()
+                .filter(id -> !postsById.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            postsById.putAll(postRepository.findAllById(missingIds).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity())));
+        }
+
+        return pageIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && !post.getIsDeleted())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isHighFollowerAccount(Long userId) {
+        return highFollowerAccounts.contains(userId);
+    }
+
+    /**
+     * Reloads the accounts served on read. Posts made while an account was pulled were never fanned out,
+     * so an account that drops below the threshold has them copied to its followers' timelines, and again
+     * on the next refresh to catch posts whose transactions were still open during the first copy.
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedRateString = "${app.timeline.high-follower-refresh-ms:600000}", initialDelay = 0)
+    public void refreshHighFollowerAccounts() {
+        Set<Long> accounts = Set.copyOf(timelineRepository.findHighFollowerAccountIds(fanOutFollowerThreshold));
+        // Published first, so posts created from here on by released accounts are fanned out again
+        highFollowerAccounts = accounts;
+
+        Set<Long> released = timelineRepository.findReleasedAccountIds().stream()
+                .filter(accountId -> !accounts.contains(accountId))
+                .collect(Collectors.toSet());
+        released.forEach(this::copyPulledPosts);
+        if (!released.isEmpty()) {
+            timelineRepository.deleteReleasedAccounts(released);
+        }
+
+        Set<Long> pulled = Set.copyOf(timelineRepository.findPulledAccountIds());
+        Set<Long> leaving = pulled.stream()
+                .filter(accountId -> !accounts.contains(accountId))
+                .collect(Collectors.toSet());
+        leaving.forEach(this::copyPulledPosts);
+        if (!leaving.isEmpty()) {
+            timelineRepository.markReleased(leaving);
+        }
+
+        Set<Long> joining = accounts.stream()
+                .filter(accountId -> !pulled.contains(accountId))
+                .collect(Collectors.toSet());
+        if (!joining.isEmpty()) {
+            timelineRepository.insertPulledAccounts(joining);
+        }
+
+        log.debug("Refreshed high-follower accounts, {} accounts are served on read, {} released",
+                accounts.size(), leaving.size());
+    }
+
+    private void copyPulledPosts(Long accountId) {
+        int copied = timelineRepository.insertPulledPostsForFollowers(accountId, maxEntriesPerTimeline);
+        log.debug("Copied {} timeline entries of released account ID: {}", copied, accountId);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.timeline.trim-cron:0 15 * * * *}")
+    public void trimTimelines() {
+        int removed = timelineRepository.trimTimelines(maxEntriesPerTimeline);
+        if (removed > 0) {
+            log.info("Trimmed {} entries from home timelines", removed);
+        }
+    }
+
+    // Merges both newest-first sources by (createdAt, id) and returns one page of distinct post IDs
+    static List<Long> mergePostIds(List<TimelineEntry> pushed, List<Post> pulled, int offset, int limit) {
+        List<Long> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        int skipped = 0;
+
+        while (result.size() < limit && (i < pushed.size() || j < pulled.size())) {
+            Long postId;
+            if (j >= pulled.size() || (i < pushed.size()
+                    && isNewer(pushed.get(i).getCreatedAt(), pushed.get(i).getPostId(),
+                               pulled.get(j).getCreatedAt(), pulled.get(j).getId()))) {
+                postId = pushed.get(i++).getPostId();
+            } else {
+                postId = pulled.get(j++).getId();
+            }
+
+            if (!seen.add(postId)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add(postId);
+        }
+        return result;
+    }
+
+    private static boolean isNewer(LocalDateTime leftTime, Long leftId, LocalDateTime rightTime, Long rightId) {
+        int byTime = leftTime.compareTo(rightTime);
+        return byTime != 0 ? byTime > 0 : leftId > rightId;
+    }
+}
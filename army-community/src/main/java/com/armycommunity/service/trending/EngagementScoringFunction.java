@@ -0,0 +1,19 @@
+package com.armycommunity.service.trending;
+
+/**
+ * Default scoring, matching the original trending query: {@code likes * 2 + comments}.
+ * Reposts do not count.
+ */
+public class EngagementScoringFunction implements TrendingScoringFunction {
+
+    @Override
+    public double weight(TrendingEventType eventType) {
+        return switch (eventType) {
+            case LIKE -> 2.0;
+            case UNLIKE -> -2.0;
+            case COMMENT -> 1.0;
+            case COMMENT_DELETED -> -1.0;
+            case REPOST, REPOST_DELETED -> 0.0;
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.armycommunity.service.trending;
+
+/**
+ * Engagement events that move a post's trending score.
+ */
+public enum TrendingEventType {
+    LIKE,
+    UNLIKE,
+    COMMENT,
+    COMMENT_DELETED,
+    REPOST,
+    REPOST_DELETED
+}
@@ -0,0 +1,13 @@
+package com.armycommunity.service.trending;
+
+/**
+ * Decides how much each engagement event contributes to a post's trending score.
+ * Declare a single bean of this type to replace the default {@link EngagementScoringFunction}.
+ */
+public interface TrendingScoringFunction {
+
+    /**
+     * Score added by a single event before time decay; negative values undo earlier events.
+     */
+    double weight(TrendingEventType eventType);
+}
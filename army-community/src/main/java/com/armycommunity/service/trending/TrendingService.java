@@ -0,0 +1,16 @@
+package com.armycommunity.service.trending;
+
+import java.util.List;
+
+public interface TrendingService {
+
+    void recordEvent(Long postId, TrendingEventType eventType);
+
+    void removePost(Long postId);
+
+    List<Long> getTrendingPostIds(int offset, int limit);
+
+    void refreshTopPosts();
+
+    void snapshotScores();
+}
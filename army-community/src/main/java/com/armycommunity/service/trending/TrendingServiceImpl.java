@@ -0,0 +1,246 @@
+package com.armycommunity.service.trending;
+
+import com.armycommunity.model.post.TrendingScore;
+import com.armycommunity.repository.post.TrendingScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trending scoreboard with exponential time decay.
+ *
+ * Scores are kept relative to a fixed reference time: an event at time t adds
+ * {@code weight * 2^((t - reference) / halfLife)}. Old scores therefore never have to be
+ * touched when time passes, and ordering by stored value equals ordering by decayed score.
+ * The reference is moved forward once the multipliers grow large.
+ */
+@Service
+@Slf4j
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final double REBASE_AFTER_HALF_LIVES = 64;
+
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO trending_scores (post_id, score, snapshot_at) VALUES (?, ?, ?)";
+
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingScoringFunction scoringFunction;
+
+    @Value("${app.trending.half-life-hours:24}")
+    private long halfLifeHours;
+
+    @Value("${app.trending.window-days:7}")
+    private int windowDays;
+
+    @Value("${app.trending.top-k:500}")
+    private int topK;
+
+    @Value("${app.trending.max-tracked-posts:20000}")
+    private int maxTrackedPosts;
+
+    @Value("${app.trending.snapshot-size:2000}")
+    private int snapshotSize;
+
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+
+    // Event recording shares the read lock; rebasing the reference time takes the write lock
+    private final ReadWriteLock scaleLock = new ReentrantReadWriteLock();
+
+    private volatile LocalDateTime referenceTime = LocalDateTime.now();
+    private volatile List<Long> topPostIds = List.of();
+
+    public TrendingServiceImpl(TrendingScoreRepository trendingScoreRepository,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectProvider<TrendingScoringFunction> scoringFunction) {
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // An application-defined scoring bean replaces the default, regardless of configuration order
+        this.scoringFunction = scoringFunction.getIfUnique(EngagementScoringFunction::new);
+    }
+
+    @Override
+    public void recordEvent(Long postId, TrendingEventType eventType) {
+        double weight = scoringFunction.weight(eventType);
+        if (postId == null || weight == 0.0) {
+            return;
+        }
+
+        // Only count engagement that actually committed
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addScore(postId, weight, LocalDateTime.now());
+                }
+            });
+        } else {
+            addScore(postId, weight, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void removePost(Long postId) {
+        scores.remove(postId);
+        List<Long> current = topPostIds;
+        if (current.contains(postId)) {
+            List<Long> updated = new ArrayList<>(current);
+            updated.remove(postId);
+            topPostIds = List.copyOf(updated);
+        }
+    }
+
+    @Override
+    public List<Long> getTrendingPostIds(int offset, int limit) {
+        List<Long> current = topPostIds;
+        if (offset >= current.size()) {
+            return List.of();
+        }
+        return current.subList(offset, Math.min(offset + limit, current.size()));
+    }
+
+    /**
+     * Recomputes the top-K list, drops posts that decayed out of the window and keeps
+     * the number of tracked posts bounded.
+     */
+    @Override
+    @Scheduled(fixedRateString = "${app.trending.refresh-ms:30000}")
+    public void refreshTopPosts() {
+        LocalDateTime now = LocalDateTime.now();
+        rebaseIfNeeded(now);
+
+        // A post that only got a single comment decays below this after the trending window
+        double minimumScore = relativeScore(1.0, now.minusDays(windowDays));
+        scores.entrySet().removeIf(entry -> entry.getValue() < minimumScore);
+
+        List<Map.Entry<Long, Double>> ranked = topEntries(Math.max(topK, maxTrackedPosts));
+        if (scores.size() > maxTrackedPosts) {
+            Set<Long> keep = new HashSet<>(ranked.size());
+            ranked.forEach(entry -> keep.add(entry.getKey()));
+            scores.keySet().retainAll(keep);
+        }
+
+        topPostIds = ranked.stream()
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        log.debug("Refreshed trending posts: tracking {} posts, top {} published", scores.size(), topPostIds.size());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedRateString = "${app.trending.snapshot-ms:300000}", initialDelayString = "${app.trending.snapshot-ms:300000}")
+    public void snapshotScores() {
+        LocalDateTime now = LocalDateTime.now();
+        double scaleToNow = Math.pow(2, -halfLivesBetween(referenceTime, now));
+
+        List<Map.Entry<Long, Double>> snapshot = topEntries(snapshotSize);
+        Timestamp snapshotAt = Timestamp.valueOf(now);
+
+        // Plain batched inserts; saveAll would merge each row with an assigned ID and SELECT it first
+        trendingScoreRepository.deleteAllInBatch();
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, snapshot, snapshot.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setDouble(2, entry.getValue() * scaleToNow);
+            ps.setTimestamp(3, snapshotAt);
+        });
+        log.debug("Saved trending snapshot of {} posts", snapshot.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadScores() {
+        List<TrendingScore> snapshot = trendingScoreRepository.findAll();
+
+        if (!snapshot.isEmpty()) {
+            snapshot.forEach(row -> addScore(row.getPostId(), row.getScore(), row.getSnapshotAt()));
+            log.info("Restored {} trending scores from snapshot", snapshot.size());
+        } else {
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            double likeWeight = scoringFunction.weight(TrendingEventType.LIKE);
+            double commentWeight = scoringFunction.weight(TrendingEventType.COMMENT);
+
+            // Up to the tracking bound is loaded; refreshTopPosts ranks them with the decayed weights
+            List<TrendingScoreRepository.TrendingCandidate> candidates =
+                    trendingScoreRepository.findTrendingCandidates(since, maxTrackedPosts);
+            candidates.forEach(candidate -> addScore(
+                    candidate.getPostId(),
+                    candidate.getLikeCount() * likeWeight + candidate.getCommentCount() * commentWeight,
+                    candidate.getCreatedAt()));
+            log.info("Seeded trending scores from {} recent posts", candidates.size());
+        }
+
+        refreshTopPosts();
+    }
+
+    private void addScore(Long postId, double weight, LocalDateTime occurredAt) {
+        scaleLock.readLock().lock();
+        try {
+            scores.merge(postId, relativeScore(weight, occurredAt), Double::sum);
+        } finally {
+            scaleLock.readLock().unlock();
+        }
+    }
+
+    private double relativeScore(double weight, LocalDateTime occurredAt) {
+        return weight * Math.pow(2, halfLivesBetween(referenceTime, occurredAt));
+    }
+
+    private double halfLivesBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toMillis() / (double) Duration.ofHours(halfLifeHours).toMillis();
+    }
+
+    private void rebaseIfNeeded(LocalDateTime now) {
+        double elapsed = halfLivesBetween(referenceTime, now);
+        if (elapsed < REBASE_AFTER_HALF_LIVES) {
+            return;
+        }
+
+        scaleLock.writeLock().lock();
+        try {
+            double factor = Math.pow(2, -halfLivesBetween(referenceTime, now));
+            scores.replaceAll((postId, score) -> score * factor);
+            referenceTime = now;
+            log.debug("Rebased trending scores to {}", now);
+        } finally {
+            scaleLock.writeLock().unlock();
+        }
+    }
+
+    // Bounded min-heap selection of the highest scores, returned highest first
+    private List<Map.Entry<Long, Double>> topEntries(int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (entry.getValue() > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        List<Map.Entry<Long, Double>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        return result;
+    }
+}
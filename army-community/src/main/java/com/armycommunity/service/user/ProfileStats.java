@@ -0,0 +1,9 @@
+package com.armycommunity.service.user;
+
+/**
+ * Counters shown on a user profile.
+ */
+public record ProfileStats(int postCount, int followerCount, int followingCount, int collectionsCount) {
+
+    public static final ProfileStats EMPTY = new ProfileStats(0, 0, 0, 0);
+}
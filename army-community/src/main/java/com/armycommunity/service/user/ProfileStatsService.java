@@ -0,0 +1,14 @@
+package com.armycommunity.service.user;
+
+public interface ProfileStatsService {
+
+    /**
+     * Profile counters for a user, served from cache when fresh.
+     */
+    ProfileStats getStats(Long userId);
+
+    /**
+     * Drops the cached counters of the given users once the surrounding transaction commits.
+     */
+    void evict(Long... userIds);
+}
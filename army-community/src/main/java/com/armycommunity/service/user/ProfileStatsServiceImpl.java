@@ -0,0 +1,90 @@
+package com.armycommunity.service.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes profile counters with one statement of index-backed counts instead of initializing the
+ * user's post, follow and collection collections, and keeps hot profiles in a TTL-bounded LRU.
+ */
+@Service
+@Slf4j
+public class ProfileStatsServiceImpl implements ProfileStatsService {
+
+    private static final String STATS_SQL = """
+            SELECT (SELECT count(*) FROM posts WHERE user_id = ? AND is_deleted = false) AS post_count,
+                   (SELECT count(*) FROM follows WHERE following_id = ?) AS follower_count,
+                   (SELECT count(*) FROM follows WHERE follower_id = ?) AS following_count,
+                   (SELECT count(*) FROM user_collections WHERE user_id = ?) AS collections_count
+            """;
+
+    private record Entry(ProfileStats stats, long loadedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final Map<Long, Entry> cache;
+
+    public ProfileStatsServiceImpl(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.users.profile-stats.ttl-ms:60000}") long ttlMillis,
+                                   @Value("${app.users.profile-stats.cache-size:10000}") int cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public ProfileStats getStats(Long userId) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry entry = cache.get(userId);
+            if (entry != null && now - entry.loadedAt() < ttlMillis) {
+                return entry.stats();
+            }
+        }
+
+        ProfileStats stats = jdbcTemplate.queryForObject(STATS_SQL, (rs, rowNum) -> new ProfileStats(
+                        rs.getInt("post_count"),
+                        rs.getInt("follower_count"),
+                        rs.getInt("following_count"),
+                        rs.getInt("collections_count")),
+                userId, userId, userId, userId);
+        log.debug("Loaded profile stats for user {}: {}", userId, stats);
+
+        synchronized (this) {
+            cache.put(userId, new Entry(stats, now));
+        }
+        return stats;
+    }
+
+    @Override
+    public void evict(Long... userIds) {
+        remove(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userIds);
+                }
+            });
+        }
+    }
+
+    private synchronized void remove(Long... userIds) {
+        for (Long userId : userIds) {
+            cache.remove(userId);
+        }
+    }
+}
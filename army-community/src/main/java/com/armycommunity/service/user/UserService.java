@@ -1,8 +1,8 @@
 package com.armycommunity.service.user;
 
-
 import com.armycommunity.dto.request.user.UserRegistrationRequest;
 import com.armycommunity.dto.request.user.UserUpdateRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.user.UserDetailResponse;
 import com.armycommunity.dto.response.user.UserRoleStatistics;
 import com.armycommunity.dto.response.user.UserSummaryResponse;
@@ -27,7 +27,9 @@ public interface UserService {
 
     void deleteUser(Long userId);
 
-    List<UserSummaryResponse> searchUsers(String query);
+    CursorPageResponse<UserSummaryResponse> searchUsers(String query, String cursor, int size);
+
+    List<String> autocompleteUsernames(String prefix, int limit);
 
     boolean existsByUsername(String username);
 
@@ -1,20 +1,30 @@
 package com.armycommunity.service.user;
 
+import com.armycommunity.dto.request.KeysetCursor;
+import com.armycommunity.dto.request.SearchCursor;
 import com.armycommunity.dto.request.user.UserRegistrationRequest;
 import com.armycommunity.dto.request.user.UserUpdateRequest;
+import com.armycommunity.dto.response.CursorPageResponse;
 import com.armycommunity.dto.response.user.UserDetailResponse;
 import com.armycommunity.dto.response.user.UserRoleStatistics;
 import com.armycommunity.dto.response.user.UserSummaryResponse;
 import com.armycommunity.exception.ResourceNotFoundException;
+import com.armycommunity.exception.ValidationException;
 import com.armycommunity.mapper.UserMapper;
 import com.armycommunity.model.user.User;
 import com.armycommunity.model.user.UserRole;
-import com.armycommunity.repository.user.FollowRepository;
 import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.repository.user.UserSearchHit;
+import com.armycommunity.security.PrincipalCache;
 import com.armycommunity.service.activitylog.ActivityLogService;
 import com.armycommunity.service.filestorage.FileStorageService;
+import com.armycommunity.service.filestorage.ImageVariant;
+import com.armycommunity.service.follow.FollowService;
 import com.armycommunity.service.notification.NotificationService;
 import com.armycommunity.dto.request.user.NotificationRequest;
+import com.armycommunity.service.search.RankedResult;
+import com.armycommunity.service.search.SearchService;
+import com.armycommunity.service.search.UsernameAutocompleteIndex;
 import com.armycommunity.service.setting.SettingService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +36,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
@@ -36,14 +48,20 @@ import java.util.*;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_AUTOCOMPLETE_RESULTS = 20;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
-    private final FollowRepository followRepository;
     private final NotificationService notificationService;
     private final FileStorageService fileStorageService;
     private final ActivityLogService activityLogService;
     private final SettingService settingService;
+    private final PrincipalCache principalCache;
+    private final ProfileStatsService profileStatsService;
+    private final FollowService followService;
+    private final SearchService searchService;
+    private final UsernameAutocompleteIndex usernameAutocompleteIndex;
 
     @Override
     @Transactional
@@ -75,6 +93,7 @@ public class UserServiceImpl implements UserService {
 
         // Save user
         User savedUser = userRepository.save(user);
+        afterCommit(() -> usernameAutocompleteIndex.add(savedUser.getUsername()));
 
         // Initialize default settings for new user
         try {
@@ -92,7 +111,7 @@ public class UserServiceImpl implements UserService {
                 Map.of("username", savedUser.getUsername(), "email", savedUser.getEmail()));
 
         log.info("Successfully registered user with ID: {} and username: {}", savedUser.getId(), savedUser.getUsername());
-        return userMapper.toDetailResponse(savedUser);
+        return userMapper.toDetailResponse(savedUser, ProfileStats.EMPTY);
     }
 
     @Override
@@ -105,7 +124,7 @@ public class UserServiceImpl implements UserService {
 
         updateLastLogin(user);
 
-        return userMapper.toDetailResponse(user);
+        return userMapper.toDetailResponse(user, profileStatsService.getStats(userId));
     }
 
     @Override
@@ -116,14 +135,14 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
 
-        UserDetailResponse response = userMapper.toDetailResponse(user);
+        UserDetailResponse response = userMapper.toDetailResponse(user, profileStatsService.getStats(user.getId()));
 
         // Set context flags
         response.setOwnProfile(currentUserId != null && currentUserId.equals(user.getId()));
 
         if (currentUserId != null && !response.isOwnProfile()) {
             // Check if current user is following this profile
-            response.setFollowing(isFollowing(currentUserId, user.getId()));
+            response.setFollowing(followService.isFollowing(currentUserId, user.getId()));
         } else {
             response.setFollowing(false);
         }
@@ -221,7 +240,7 @@ public class UserServiceImpl implements UserService {
                     userId,
                     changes);
 
-            return userMapper.toDetailResponse(updatedUser);
+            return userMapper.toDetailResponse(updatedUser, profileStatsService.getStats(userId));
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to update user profile", e);
@@ -281,22 +300,31 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.delete(user);
+        principalCache.invalidate(userId);
+        afterCommit(() -> usernameAutocompleteIndex.remove(user.getUsername()));
         log.info("User deleted successfully with ID: {}", userId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserSummaryResponse> searchUsers(String query) {
-        log.debug("Searching users with query: {}", query);
-
-        try {
-            List<User> users = userRepository.searchUsers(query);
-            log.debug("Found {} users for query: {}", users.size(), query);
-            return userMapper.toSummaryResponseList(users);
+    public CursorPageResponse<UserSummaryResponse> searchUsers(String query, String cursor, int size) {
+        log.debug("Searching users with query: '{}' by cursor, size: {}", query, size);
 
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to search users", e);
+        if (query == null || query.trim().length() < 2) {
+            throw new ValidationException("Search query must be at least 2 characters long");
         }
+        KeysetCursor.validatePageSize(size);
+        List<RankedResult<UserSearchHit>> results = searchService.searchUsers(
+                query.trim(), SearchCursor.decode(cursor), size + 1);
+
+        return CursorPageResponse.fromRows(results, size,
+                result -> new SearchCursor(result.getRank(), result.getItem().getId()).encode(),
+                page -> page.stream().map(result -> toSummaryResponse(result.getItem())).toList());
+    }
+
+    @Override
+    public List<String> autocompleteUsernames(String prefix, int limit) {
+        return searchService.autocompleteUsernames(prefix, Math.min(limit, MAX_AUTOCOMPLETE_RESULTS));
     }
 
     @Override
@@ -379,6 +407,7 @@ public class UserServiceImpl implements UserService {
 
         UserRole oldRole = user.getUserRole();
         user.setUserRole(newRole);
+        principalCache.invalidate(userId);
 
         if (newRole.hasPermissionLevel(UserRole.VERIFIED) && user.getVerifiedAt() == null) {
             user.setVerifiedAt(LocalDateTime.now());
@@ -432,6 +461,7 @@ public class UserServiceImpl implements UserService {
 
         if (!user.hasMinimumRole(UserRole.VERIFIED)) {
             user.setUserRole(UserRole.VERIFIED);
+            principalCache.invalidate(userId);
         }
         user.setVerifiedAt(LocalDateTime.now());
         user.setVerificationType(verificationType);
@@ -486,6 +516,7 @@ public class UserServiceImpl implements UserService {
 
         UserRole oldRole = user.getUserRole();
         user.setUserRole(newRole);
+        principalCache.invalidate(userId);
 
         // Clear verification if demoting below VERIFIED
         if (!newRole.hasPermissionLevel(UserRole.VERIFIED)) {
@@ -547,6 +578,7 @@ public class UserServiceImpl implements UserService {
         user.setActive(false);
         user.setSuspendedUntil(suspendUntil);
         user.setSuspensionReason(reason);
+        principalCache.invalidate(userId);
 
         User savedUser = saveUser(user);
 
@@ -596,6 +628,7 @@ public class UserServiceImpl implements UserService {
         user.setActive(true);
         user.setSuspendedUntil(null);
         user.setSuspensionReason(null);
+        principalCache.invalidate(userId);
 
         User savedUser = saveUser(user);
 
@@ -695,6 +728,7 @@ public class UserServiceImpl implements UserService {
             user.setActive(true);
             user.setSuspendedUntil(null);
             user.setSuspensionReason(null);
+            principalCache.invalidate(user.getId());
 
             saveUser(user);
 
@@ -738,43 +772,50 @@ public class UserServiceImpl implements UserService {
     }
 
     // Helper methods
-    private String getFileExtension(String fileName) {
-        if (fileName == null || fileName.lastIndexOf('.') == -1) {
-            return "";
-        }
-        return fileName.substring(fileName.lastIndexOf('.'));
+    private UserSummaryResponse toSummaryResponse(UserSearchHit hit) {
+        UserRole role = UserRole.valueOf(hit.getUserRole());
+        boolean active = !Boolean.FALSE.equals(hit.getIsActive());
+        return UserSummaryResponse.builder()
+                .id(hit.getId())
+                .username(hit.getUsername())
+                .profileImagePath(ImageVariant.THUMB.pathFor(hit.getProfileImagePath()))
+                .userRole(role)
+                .isVerified(role.hasPermissionLevel(UserRole.VERIFIED))
+                .isSuspended(!active || (hit.getSuspendedUntil() != null
+                        && LocalDateTime.now().isBefore(hit.getSuspendedUntil())))
+                .build();
     }
 
-    private boolean isFollowing(Long followerId, Long followingId) {
-        if (followerId == null || followingId == null || followerId.equals(followingId)) {
-            return false;
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
+    }
 
-        try {
-            User follower = userRepository.findById(followerId).orElse(null);
-            User following = userRepository.findById(followingId).orElse(null);
-
-            if (follower == null || following == null) {
-                return false;
-            }
-
-            return followRepository.existsByFollowerAndFollowing(follower, following);
-
-        } catch (Exception e) {
-            log.warn("Error checking follow relationship between user {} and {}: {}",
-                    followerId, followingId, e.getMessage());
-            return false;
+    private String getFileExtension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') == -1) {
+            return "";
         }
+        return fileName.substring(fileName.lastIndexOf('.'));
     }
 
     private void updateUserSettings(Long userId, UserUpdateRequest request) {
         try {
+            Map<String, String> settings = new HashMap<>();
             if (request.getLanguagePreference() != null) {
-                settingService.saveSetting(userId, "language_preference", request.getLanguagePreference());
+                settings.put("language_preference", request.getLanguagePreference());
             }
             if (request.getTimezone() != null) {
-                settingService.saveSetting(userId, "time_zone", request.getTimezone());
+                settings.put("time_zone", request.getTimezone());
             }
+            settingService.saveSettings(userId, settings);
         } catch (Exception e) {
             log.warn("Failed to update settings for user {}: {}", userId, e.getMessage());
         }
@@ -1,4 +1,7 @@
 select * from users;
+-- Extensions
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Enum tables
 -- MEMBER_LINES enum type
 create type member_line as ENUM ('RAP_LINE', 'VOCAL_LINE', 'HYUNG_LINE', 'MAKNAE_LINE', 'DANCE_LINE');
@@ -42,6 +45,8 @@ CREATE TABLE users (
     last_login_at timestamp
 );
 CREATE INDEX idx_users_username on users(username);
+CREATE INDEX idx_users_username_trgm on users USING GIN (username gin_trgm_ops);
+CREATE INDEX idx_users_username_prefix on users (lower(username) text_pattern_ops);
 CREATE INDEX idx_users_email on users(email);
 CREATE INDEX idx_users_user_role ON users(user_role);
 CREATE INDEX idx_users_verified_at ON users(verified_at);
@@ -71,8 +76,10 @@ CREATE INDEX idx_settings_key on settings(setting_key);
 CREATE INDEX idx_settings_global on settings(is_global);
 
 -- ACTIVITY_LOGS table to track user activities
+-- Range-partitioned by month; ActivityLogMaintenanceService creates upcoming partitions
+-- and drops the ones past the retention period
 CREATE TABLE activity_logs (
-    id bigserial primary key,
+    id bigserial,
     user_id bigint references users(id),
     action_type varchar(50) not null,
     entity_type varchar(50) not null,
@@ -80,11 +87,31 @@ CREATE TABLE activity_logs (
     ip_address varchar(50),
     user_agent text,
     details jsonb,
-    created_at timestamp not null default current_timestamp
-);
+    created_at timestamp not null default current_timestamp,
+    primary key (id, created_at)
+) PARTITION BY RANGE (created_at);
+CREATE TABLE activity_logs_default PARTITION OF activity_logs DEFAULT;
 CREATE INDEX idx_activity_logs_user_id on activity_logs(user_id);
 CREATE INDEX idx_activity_logs_action on activity_logs(action_type);
 CREATE INDEX idx_activity_logs_created_at on activity_logs(created_at);
+CREATE INDEX idx_activity_logs_user_keyset on activity_logs(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_activity_logs_action_created on activity_logs(action_type, created_at);
+
+-- ACTIVITY_DAILY_ROLLUPS table: activity counts per day, action type and user (0 = anonymous)
+CREATE TABLE activity_daily_rollups (
+    activity_date date not null,
+    action_type varchar(50) not null,
+    user_id bigint not null default 0,
+    activity_count bigint not null,
+    primary key (activity_date, action_type, user_id)
+);
+CREATE INDEX idx_activity_rollups_type_date on activity_daily_rollups(action_type, activity_date);
+CREATE INDEX idx_activity_rollups_user_date on activity_daily_rollups(user_id, activity_date);
+-- Single row: the last day folded into activity_daily_rollups, so a catch-up resumes from there
+CREATE TABLE activity_rollup_progress (
+    id smallint primary key default 1 check (id = 1),
+    rolled_up_through date not null
+);
 
 -- MEMBERS table to store BTS members with their details
 CREATE TABLE members (
@@ -117,7 +144,7 @@ CREATE TABLE eras (
     created_at timestamp not null default current_timestamp,
     updated_at timestamp not null default current_timestamp
 );
-CREATE INDEX idx_eras_name on eras(name);
+CREATE UNIQUE INDEX idx_eras_name on eras(name);
 CREATE INDEX idx_eras_date_range on eras(start_date, end_date);
 
 -- ALBUMS table for all types of releases
@@ -133,12 +160,20 @@ create table albums (
     cover_image_path varchar(255),
     description text,
     created_at timestamp not null default current_timestamp,
-    updated_at timestamp not null default current_timestamp
+    updated_at timestamp not null default current_timestamp,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(korean_title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(artist, '')), 'B')
+    ) STORED
 );
 CREATE INDEX idx_albums_title on albums(title);
+CREATE INDEX idx_albums_search_vector on albums USING GIN (search_vector);
 CREATE INDEX idx_albums_release_date on albums(release_date);
 CREATE INDEX idx_albums_artist on albums(artist);
 CREATE INDEX idx_albums_era_id on albums(era_id);
+-- Natural key used by the catalog importer's upserts
+CREATE UNIQUE INDEX idx_albums_title_artist on albums(title, artist);
 
 -- SONGS table to store all songs across all albums
 create table songs (
@@ -149,6 +184,8 @@ create table songs (
     duration integer not null, -- in seconds
     track_number integer, -- Can be NULL for standalone releases
     isTitle boolean default false, -- TRUE for title tracks
+    doolset_url varchar(255),
+    genius_url varchar(255),
     lyrics text,
     language varchar(20),
     featuring_artist text[], -- Array of featuring artists
@@ -157,12 +194,20 @@ create table songs (
     artist varchar(100), -- Only needed for standalone tracks
     url varchar(255), -- Direct link for standalone tracks (SoundCloud, YouTube, etc.)
     created_at timestamp not null default current_timestamp,
-    updated_at timestamp not null default current_timestamp
+    updated_at timestamp not null default current_timestamp,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(korean_title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(lyrics, '')), 'D')
+    ) STORED
 );
 create INDEX idx_songs_title on songs(title);
+create INDEX idx_songs_search_vector on songs USING GIN (search_vector);
 create INDEX idx_songs_album_id on songs(album_id);
 create INDEX idx_songs_isTitle on songs(isTitle);
 create INDEX idx_songs_release_date on songs(release_date);
+-- Natural key used by the catalog importer's upserts; standalone songs share album 0
+create UNIQUE INDEX idx_songs_album_title on songs((COALESCE(album_id, 0)), title);
 
 -- SONG_MEMBERS junction table to track which members perform on which songs
 create table song_members (
@@ -195,6 +240,7 @@ create table music_videos (
 );
 create INDEX idx_music_videos_song_id on music_videos(song_id);
 create INDEX idx_music_videos_type on music_videos(video_type);
+create UNIQUE INDEX idx_music_videos_song_title on music_videos(song_id, title);
 
 -- POSTS table
 create TABLE posts (
@@ -205,14 +251,21 @@ create TABLE posts (
     original_post_id BIGINT REFERENCES posts(id) ON DELETE SET NULL,
     repost_comment VARCHAR(500),
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    comment_count BIGINT NOT NULL DEFAULT 0,
+    repost_count BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    search_vector TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED
 );
 CREATE INDEX idx_posts_user_id ON posts(user_id);
 CREATE INDEX idx_posts_created_at ON posts(created_at DESC);
 CREATE INDEX idx_posts_original_post_id ON posts(original_post_id);
 CREATE INDEX idx_posts_is_deleted ON posts(is_deleted);
-CREATE INDEX idx_posts_user_created ON posts(user_id, created_at DESC);
+CREATE INDEX idx_posts_search_vector ON posts USING GIN (search_vector);
+CREATE INDEX idx_posts_user_created ON posts(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_posts_active_keyset ON posts(created_at DESC, id DESC) WHERE is_deleted = false;
+CREATE INDEX idx_posts_user_active ON posts(user_id) WHERE is_deleted = false;
 
 -- COMMENTS table
 create table comments (
@@ -228,16 +281,49 @@ create table comments (
 create INDEX idx_comments_post_id on comments(post_id);
 create INDEX idx_comments_user_id on comments(user_id);
 create INDEX idx_comments_parent_id on comments(parent_comment_id);
+create INDEX idx_comments_post_keyset on comments(post_id, created_at DESC, id DESC);
 
 -- FOLLOWS table
 create table follows (
     follower_id bigint not null references users(id),
     following_id bigint not null references users(id),
     created_at timestamp not null default current_timestamp,
-    primary key (follower_id, following_id)
+    primary key (follower_id, following_id),
+    check (follower_id <> following_id)
+);
+-- Keyset listings of a user's followers and followings, newest first
+create INDEX idx_follows_follower on follows(follower_id, created_at DESC, following_id DESC);
+create INDEX idx_follows_following on follows(following_id, created_at DESC, follower_id DESC);
+
+-- HOME_TIMELINE table (fan-out-on-write feed)
+create table home_timeline (
+    user_id bigint not null references users(id) on delete cascade,
+    post_id bigint not null references posts(id) on delete cascade,
+    author_id bigint not null references users(id) on delete cascade,
+    created_at timestamp not null,
+    primary key (user_id, post_id)
+);
+create INDEX idx_home_timeline_user_created on home_timeline(user_id, created_at DESC, post_id DESC);
+create INDEX idx_home_timeline_post_id on home_timeline(post_id);
+-- One row per user whose timeline has been seeded from their follows; fan-out rows alone do not imply it
+create table home_timeline_backfills (
+    user_id bigint primary key references users(id) on delete cascade,
+    backfilled_at timestamp not null default current_timestamp
+);
+-- Accounts served on read instead of fanned out; their posts since pulled_since are not in home_timeline.
+-- released_at is set when an account drops below the threshold and its posts are copied to its followers
+create table home_timeline_pulled_accounts (
+    user_id bigint primary key references users(id) on delete cascade,
+    pulled_since timestamp not null default current_timestamp,
+    released_at timestamp
+);
+
+-- TRENDING_SCORES table (snapshot of the in-memory trending scoreboard)
+create table trending_scores (
+    post_id bigint primary key references posts(id) on delete cascade,
+    score double precision not null,
+    snapshot_at timestamp not null
 );
-create INDEX idx_follows_follower on follows(follower_id);
-create INDEX idx_follows_following on follows(following_id);
 
 -- REACTIONS table
 create table reactions (
@@ -313,5 +399,33 @@ create table notifications (
 );
 create INDEX idx_notifications_user_id on notifications(user_id);
 create INDEX idx_notifications_is_read on notifications(is_read);
+create INDEX idx_notifications_user_read_created on notifications(user_id, is_read, created_at DESC);
 
+-- FILE_BLOBS table for content-addressed uploads; one row per distinct file content
+create table file_blobs (
+    digest varchar(64) primary key, -- hex SHA-256 of the content
+    path varchar(255) not null unique,
+    size_bytes bigint not null,
+    ref_count integer not null default 0,
+    created_at timestamp not null default current_timestamp,
+    updated_at timestamp not null default current_timestamp
+);
+create INDEX idx_file_blobs_unreferenced on file_blobs(updated_at) WHERE ref_count = 0;
 
+-- FOLLOW_RECOMMENDATIONS table: precomputed who-to-follow candidates, top-N per user
+create table follow_recommendations (
+    user_id bigint not null references users(id) on delete cascade,
+    candidate_id bigint not null references users(id) on delete cascade,
+    score double precision not null,
+    mutual_count integer not null default 0, -- accounts the user follows that follow the candidate
+    shared_member_id bigint references members(id) on delete set null,
+    primary key (user_id, candidate_id)
+);
+create INDEX idx_follow_recommendations_rank on follow_recommendations(user_id, score DESC, candidate_id);
+
+-- When each user's recommendations were last computed; drives the incremental job
+create table follow_recommendation_runs (
+    user_id bigint primary key references users(id) on delete cascade,
+    computed_at timestamp not null
+);
+create INDEX idx_follow_recommendation_runs_computed_at on follow_recommendation_runs(computed_at);
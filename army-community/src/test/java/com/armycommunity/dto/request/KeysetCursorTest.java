@@ -0,0 +1,63 @@
+package com.armycommunity.dto.request;
+
+import com.armycommunity.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 6, 13, 9, 30, 15, 123_000_000), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void nullOrBlankCursorIsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isSameAs(KeysetCursor.firstPage());
+        assertThat(KeysetCursor.decode("  ")).isSameAs(KeysetCursor.firstPage());
+    }
+
+    @Test
+    void firstPageSortsAfterEveryRealRow() {
+        KeysetCursor firstPage = KeysetCursor.firstPage();
+
+        assertThat(firstPage.getCreatedAt()).isAfter(LocalDateTime.now().plusYears(100));
+        assertThat(firstPage.getId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String withoutSeparator = encodeRaw("2024-06-13T09:30");
+        String badDate = encodeRaw("yesterday|42");
+        String badId = encodeRaw("2024-06-13T09:30|forty-two");
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(withoutSeparator)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badDate)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badId)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void pageSizeMustBeWithinBounds() {
+        KeysetCursor.validatePageSize(1);
+        KeysetCursor.validatePageSize(KeysetCursor.MAX_PAGE_SIZE);
+
+        assertThatThrownBy(() -> KeysetCursor.validatePageSize(0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.validatePageSize(KeysetCursor.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.armycommunity.dto.request;
+
+import com.armycommunity.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void encodedCursorResumesOnExactRank() {
+        SearchCursor cursor = new SearchCursor(0.0607927106320858, 42L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void nullOrBlankCursorIsFirstPage() {
+        assertThat(SearchCursor.decode(null)).isSameAs(SearchCursor.firstPage());
+        assertThat(SearchCursor.decode("")).isSameAs(SearchCursor.firstPage());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String withoutSeparator = encodeRaw("0.5");
+        String badRank = encodeRaw("high|7");
+
+        assertThatThrownBy(() -> SearchCursor.decode("not base64!")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(withoutSeparator)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(badRank)).isInstanceOf(ValidationException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
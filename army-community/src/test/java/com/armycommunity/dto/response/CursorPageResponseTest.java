@@ -0,0 +1,42 @@
+package com.armycommunity.dto.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageResponseTest {
+
+    private static final Function<Integer, String> CURSOR_OF = row -> "cursor-" + row;
+    private static final Function<List<Integer>, List<String>> MAPPER =
+            rows -> rows.stream().map(row -> "item-" + row).toList();
+
+    @Test
+    void extraRowSignalsNextPageAndIsDropped() {
+        CursorPageResponse<String> page = CursorPageResponse.fromRows(List.of(1, 2, 3, 4), 3, CURSOR_OF, MAPPER);
+
+        assertThat(page.getItems()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("cursor-3");
+    }
+
+    @Test
+    void fullPageWithoutExtraRowIsLast() {
+        CursorPageResponse<String> page = CursorPageResponse.fromRows(List.of(1, 2, 3), 3, CURSOR_OF, MAPPER);
+
+        assertThat(page.getItems()).containsExactly("item-1", "item-2", "item-3");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyRowsGiveEmptyLastPage() {
+        CursorPageResponse<String> page = CursorPageResponse.fromRows(List.of(), 3, CURSOR_OF, MAPPER);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,138 @@
+package com.armycommunity.security;
+
+import com.armycommunity.model.user.UserRole;
+import com.armycommunity.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+
+    private static final UserPrincipal USER = new UserPrincipal(1L, UserRole.USER, true, null);
+    private static final UserPrincipal MODERATOR = new UserPrincipal(1L, UserRole.MODERATOR, true, null);
+
+    private UserRepository userRepository;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        principalCache = new PrincipalCache(userRepository, 60_000L, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void principalIsLoadedOnceWithinTtl() {
+        when(userRepository.findPrincipalById(1L)).thenReturn(Optional.of(USER));
+
+        assertThat(principalCache.get(1L)).contains(USER);
+        assertThat(principalCache.get(1L)).contains(USER);
+
+        verify(userRepository, times(1)).findPrincipalById(1L);
+    }
+
+    @Test
+    void expiredPrincipalIsReloaded() {
+        principalCache = new PrincipalCache(userRepository, 0L, 100);
+        when(userRepository.findPrincipalById(1L)).thenReturn(Optional.of(USER), Optional.of(MODERATOR));
+
+        principalCache.get(1L);
+
+        assertThat(principalCache.get(1L)).contains(MODERATOR);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        when(userRepository.findPrincipalById(2L)).thenReturn(Optional.empty());
+
+        assertThat(principalCache.get(2L)).isEmpty();
+        assertThat(principalCache.get(2L)).isEmpty();
+        assertThat(principalCache.get(null)).isEmpty();
+
+        verify(userRepository, times(2)).findPrincipalById(2L);
+    }
+
+    @Test
+    void invalidatedPrincipalIsReloaded() {
+        when(userRepository.findPrincipalById(1L)).thenReturn(Optional.of(USER), Optional.of(MODERATOR));
+        principalCache.get(1L);
+
+        principalCache.invalidate(1L);
+
+        assertThat(principalCache.get(1L)).contains(MODERATOR);
+    }
+
+    @Test
+    void principalLoadedBeforeCommitIsEvictedAfterCommit() {
+        when(userRepository.findPrincipalById(1L)).thenReturn(Optional.of(USER), Optional.of(MODERATOR));
+        TransactionSynchronizationManager.initSynchronization();
+
+        principalCache.invalidate(1L);
+        // A concurrent reader still sees the old role and caches it
+        principalCache.get(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(principalCache.get(1L)).contains(MODERATOR);
+    }
+
+    @Test
+    void principalLoadedFromRolledBackChangeIsEvicted() {
+        when(userRepository.findPrincipalById(1L)).thenReturn(Optional.of(MODERATOR), Optional.of(USER));
+        TransactionSynchronizationManager.initSynchronization();
+
+        principalCache.invalidate(1L);
+        // Read inside the transaction, so the uncommitted role is loaded and cached
+        principalCache.get(1L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(principalCache.get(1L)).contains(USER);
+    }
+
+    @Test
+    void loadOverlappedByInvalidationIsNotCached() {
+        when(userRepository.findPrincipalById(1L))
+                .thenAnswer(invocation -> {
+                    // The role changes while the old row is being read
+                    principalCache.invalidate(1L);
+                    return Optional.of(USER);
+                })
+                .thenReturn(Optional.of(MODERATOR));
+
+        assertThat(principalCache.get(1L)).contains(USER);
+
+        assertThat(principalCache.get(1L)).contains(MODERATOR);
+        verify(userRepository, times(2)).findPrincipalById(1L);
+    }
+
+    @Test
+    void suspendedOrInactivePrincipalIsSuspended() {
+        assertThat(new UserPrincipal(1L, UserRole.USER, false, null).isSuspended()).isTrue();
+        assertThat(new UserPrincipal(1L, UserRole.USER, true, LocalDateTime.now().plusDays(1)).isSuspended())
+                .isTrue();
+        assertThat(USER.isSuspended()).isFalse();
+        assertThat(MODERATOR.hasMinimumRole(UserRole.VERIFIED)).isTrue();
+        assertThat(USER.hasMinimumRole(UserRole.MODERATOR)).isFalse();
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
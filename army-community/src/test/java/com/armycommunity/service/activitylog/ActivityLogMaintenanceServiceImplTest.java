@@ -0,0 +1,139 @@
+package com.armycommunity.service.activitylog;
+
+import com.armycommunity.repository.user.ActivityDailyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityLogMaintenanceServiceImplTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ActivityDailyRollupRepository rollupRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ActivityLogMaintenanceServiceImpl maintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(maintenanceService, "partitionsAhead", 2);
+        ReflectionTestUtils.setField(maintenanceService, "retentionMonths", 12);
+        ReflectionTestUtils.setField(maintenanceService, "rollupDays", 2);
+    }
+
+    @Test
+    void unpartitionedTableIsLeftAlone() {
+        givenPartitioned(false);
+
+        maintenanceService.ensurePartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void createsCurrentAndUpcomingMonths() {
+        givenPartitioned(true);
+        givenPartitionExists(false);
+        givenPartitions();
+
+        maintenanceService.ensurePartitions();
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= 2; i++) {
+            YearMonth month = current.plusMonths(i);
+            verify(jdbcTemplate).execute(startsWith("CREATE TABLE " + partitionOf(month) + " (LIKE activity_logs"));
+            verify(jdbcTemplate).execute("ALTER TABLE activity_logs ATTACH PARTITION " + partitionOf(month)
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        verify(jdbcTemplate, never()).execute(contains(partitionOf(current.plusMonths(3))));
+    }
+
+    @Test
+    void rowsInDefaultPartitionAreMovedBeforeAttaching() {
+        givenPartitioned(true);
+        givenPartitionExists(false);
+        givenPartitions();
+
+        maintenanceService.ensurePartitions();
+
+        YearMonth current = YearMonth.now();
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute(startsWith("CREATE TABLE " + partitionOf(current)));
+        inOrder.verify(jdbcTemplate).update(
+                eq("WITH moved AS (DELETE FROM activity_logs_default WHERE created_at >= ? AND created_at < ? "
+                        + "RETURNING *) INSERT INTO " + partitionOf(current) + " SELECT * FROM moved"),
+                eq(current.atDay(1).atStartOfDay()), eq(current.plusMonths(1).atDay(1).atStartOfDay()));
+        inOrder.verify(jdbcTemplate).execute(startsWith("ALTER TABLE activity_logs ATTACH PARTITION " + partitionOf(current)));
+    }
+
+    @Test
+    void existingPartitionIsLeftAlone() {
+        givenPartitioned(true);
+        givenPartitionExists(true);
+        givenPartitions();
+
+        maintenanceService.ensurePartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void dropsOnlyMonthsPastRetention() {
+        YearMonth current = YearMonth.now();
+        String oldestKept = partitionOf(current.minusMonths(11));
+        String expired = partitionOf(current.minusMonths(12));
+        givenPartitions("activity_logs_default", expired, oldestKept, partitionOf(current));
+
+        maintenanceService.dropExpiredPartitions();
+
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS " + expired);
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS " + oldestKept);
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS activity_logs_default");
+        verify(jdbcTemplate).update("DELETE FROM activity_logs_default WHERE created_at < ?",
+                current.minusMonths(11).atDay(1).atStartOfDay());
+    }
+
+    private void givenPartitioned(boolean partitioned) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("activity_logs"))).thenReturn(partitioned);
+    }
+
+    private void givenPartitionExists(boolean exists) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), startsWith("activity_logs_y"))).thenReturn(exists);
+    }
+
+    private void givenPartitions(String... partitions) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("activity_logs"))).thenReturn(List.of(partitions));
+    }
+
+    private static String partitionOf(YearMonth month) {
+        return "activity_logs_" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,178 @@
+package com.armycommunity.service.activitylog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FlakyJdbcTemplate jdbcTemplate = new FlakyJdbcTemplate();
+    private ActivityLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    void queuedEntriesAreWrittenInBatchesAndDrainedOnStop() {
+        writer = newWriter("async", ActivityLogOverflowPolicy.BLOCK);
+        writer.start();
+
+        for (int i = 0; i < 25; i++) {
+            writer.submit(activity(i));
+        }
+        writer.stop();
+
+        ActivityLogWriterStats stats = writer.getStats();
+        assertThat(stats.getEnqueued()).isEqualTo(25);
+        assertThat(stats.getWritten()).isEqualTo(25);
+        assertThat(stats.getFlushCount()).isGreaterThanOrEqualTo(3);
+        assertThat(stats.getDropped()).isZero();
+    }
+
+    @Test
+    void synchronousModeStartsNoWriter() {
+        writer = newWriter("sync", ActivityLogOverflowPolicy.BLOCK);
+        writer.start();
+
+        assertThat(writer.isEnabled()).isFalse();
+        assertThat(writer.getStats().getQueueDepth()).isZero();
+    }
+
+    @Test
+    void rejectedRowIsDroppedAndRestOfBatchIsWritten() {
+        jdbcTemplate.failBatches = true;
+        jdbcTemplate.rejectedRow = 3;
+        writer = newWriter("async", ActivityLogOverflowPolicy.BLOCK);
+        writer.start();
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(activity(i));
+        }
+        writer.stop();
+
+        ActivityLogWriterStats stats = writer.getStats();
+        assertThat(stats.getWritten()).isEqualTo(4);
+        assertThat(stats.getDropped()).isEqualTo(1);
+        assertThat(stats.getFailedBatches()).isPositive();
+    }
+
+    @Test
+    void batchIsKeptAndRetriedAfterOutage() {
+        jdbcTemplate.unavailableBatches.set(2);
+        writer = newWriter("async", ActivityLogOverflowPolicy.BLOCK);
+        writer.start();
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(activity(i));
+        }
+        await(() -> writer.getStats().getWritten() == 5);
+
+        ActivityLogWriterStats stats = writer.getStats();
+        assertThat(stats.getFailedBatches()).isEqualTo(2);
+        assertThat(stats.getDropped()).isZero();
+    }
+
+    @Test
+    void unwrittenRowsAreSpilledWhenStoppingDuringOutage() throws Exception {
+        jdbcTemplate.unavailableBatches.set(Integer.MAX_VALUE);
+        writer = newWriter("async", ActivityLogOverflowPolicy.SPILL);
+        writer.start();
+
+        for (int i = 0; i < 3; i++) {
+            writer.submit(activity(i));
+        }
+        await(() -> writer.getStats().getFailedBatches() > 0);
+        writer.stop();
+
+        ActivityLogWriterStats stats = writer.getStats();
+        assertThat(stats.getWritten()).isZero();
+        assertThat(stats.getSpilled()).isEqualTo(3);
+        assertThat(Files.readAllLines(tempDir.resolve("spill.jsonl"))).hasSize(3);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private ActivityLogWriter newWriter(String mode, ActivityLogOverflowPolicy overflowPolicy) {
+        ActivityLogWriter activityLogWriter = new ActivityLogWriter(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(activityLogWriter, "mode", mode);
+        ReflectionTestUtils.setField(activityLogWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(activityLogWriter, "batchSize", 10);
+        ReflectionTestUtils.setField(activityLogWriter, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(activityLogWriter, "overflowPolicy", overflowPolicy);
+        ReflectionTestUtils.setField(activityLogWriter, "blockTimeoutMs", 500L);
+        ReflectionTestUtils.setField(activityLogWriter, "spillFile", tempDir.resolve("spill.jsonl").toString());
+        ReflectionTestUtils.setField(activityLogWriter, "maxBackoffMs", 40L);
+        return activityLogWriter;
+    }
+
+    private static PendingActivity activity(int index) {
+        return PendingActivity.builder()
+                .userId((long) index)
+                .actionType("POST_CREATE")
+                .entityType("POST")
+                .entityId(100L + index)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // Counts rows instead of binding them; batches and single rows fail on demand
+    private static class FlakyJdbcTemplate extends JdbcTemplate {
+
+        final AtomicInteger unavailableBatches = new AtomicInteger();
+        volatile boolean failBatches;
+        volatile int rejectedRow = -1;
+        private final AtomicInteger rowCalls = new AtomicInteger();
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            if (unavailableBatches.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+            if (failBatches) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            return new int[][]{new int[batchArgs.size()]};
+        }
+
+        @Override
+        public int update(String sql, PreparedStatementSetter pss) {
+            if (rowCalls.incrementAndGet() == rejectedRow) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            return 1;
+        }
+    }
+}
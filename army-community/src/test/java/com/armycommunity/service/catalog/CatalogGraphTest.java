@@ -0,0 +1,64 @@
+package com.armycommunity.service.catalog;
+
+import com.armycommunity.dto.response.album.EraSummaryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogGraphTest {
+
+    private static final CatalogGraph GRAPH = CatalogGraph.builder()
+            .era(new CatalogGraph.EraNode(1L, "Debut", null, LocalDate.of(2013, 12, 31), null))
+            .era(new CatalogGraph.EraNode(2L, "School", LocalDate.of(2013, 6, 13), LocalDate.of(2014, 8, 19), null))
+            .era(new CatalogGraph.EraNode(3L, "Wings", LocalDate.of(2016, 10, 10), LocalDate.of(2017, 2, 12), null))
+            .era(new CatalogGraph.EraNode(4L, "Youth", LocalDate.of(2015, 1, 1), LocalDate.of(2019, 12, 31), null))
+            .era(new CatalogGraph.EraNode(5L, "Ongoing", LocalDate.of(2021, 1, 1), null, null))
+            .build();
+
+    @Test
+    void eraWithoutStartDateIsOpenInThePast() {
+        assertThat(eraIdAt(LocalDate.of(1990, 1, 1))).isEqualTo(1L);
+        assertThat(eraIdAt(LocalDate.of(2013, 1, 1))).isEqualTo(1L);
+    }
+
+    @Test
+    void overlappingErasPreferLatestStart() {
+        assertThat(eraIdAt(LocalDate.of(2013, 7, 1))).isEqualTo(2L);
+        assertThat(eraIdAt(LocalDate.of(2016, 12, 1))).isEqualTo(3L);
+    }
+
+    @Test
+    void rangesIncludeBothEnds() {
+        assertThat(eraIdAt(LocalDate.of(2013, 6, 13))).isEqualTo(2L);
+        assertThat(eraIdAt(LocalDate.of(2014, 8, 19))).isEqualTo(2L);
+        assertThat(eraIdAt(LocalDate.of(2021, 1, 1))).isEqualTo(5L);
+    }
+
+    @Test
+    void walksBackPastShorterLaterEra() {
+        // Wings starts later but has already ended; Youth still covers the date
+        assertThat(eraIdAt(LocalDate.of(2017, 6, 1))).isEqualTo(4L);
+    }
+
+    @Test
+    void datesInGapsHaveNoEra() {
+        assertThat(GRAPH.getEraByDate(LocalDate.of(2014, 10, 1))).isEmpty();
+        assertThat(GRAPH.getEraByDate(LocalDate.of(2020, 6, 1))).isEmpty();
+    }
+
+    @Test
+    void eraWithoutEndDateIsOngoing() {
+        assertThat(eraIdAt(LocalDate.of(2030, 1, 1))).isEqualTo(5L);
+    }
+
+    @Test
+    void emptyGraphHasNoEra() {
+        assertThat(CatalogGraph.builder().build().getEraByDate(LocalDate.of(2020, 1, 1))).isEmpty();
+    }
+
+    private static Long eraIdAt(LocalDate date) {
+        return GRAPH.getEraByDate(date).map(EraSummaryResponse::getId).orElse(null);
+    }
+}
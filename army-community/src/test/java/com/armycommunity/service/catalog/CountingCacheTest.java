@@ -0,0 +1,51 @@
+package com.armycommunity.service.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingCacheTest {
+
+    private final CountingCache cache = new CountingCache(new ConcurrentMapCache("albums"));
+
+    @Test
+    void countsHitsAndMissesOnLookup() {
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, "Map of the Soul: 7");
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("Map of the Soul: 7");
+        assertThat(cache.get(1L).get()).isEqualTo("Map of the Soul: 7");
+
+        CatalogCacheStats stats = cache.getStats(1);
+        assertThat(stats.name()).isEqualTo("albums");
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void valueLoaderRunsOnlyOnMiss() {
+        assertThat(cache.get(1L, () -> "BE")).isEqualTo("BE");
+        assertThat(cache.get(1L, () -> "Proof")).isEqualTo("BE");
+
+        CatalogCacheStats stats = cache.getStats(1);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void clearIsCountedAndEmptiesDelegate() {
+        cache.put(1L, "Wings");
+
+        cache.clear();
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.getStats(0).clears()).isEqualTo(1);
+    }
+
+    @Test
+    void unusedCacheReportsZeroHitRatio() {
+        assertThat(cache.getStats(0).hitRatio()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package com.armycommunity.service.comment;
+
+import com.armycommunity.exception.UnauthorizedException;
+import com.armycommunity.mapper.CommentMapper;
+import com.armycommunity.model.post.Comment;
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.user.User;
+import com.armycommunity.repository.post.CommentRepository;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.user.UserRepository;
+import com.armycommunity.service.activitylog.ActivityLogService;
+import com.armycommunity.service.notification.NotificationService;
+import com.armycommunity.service.trending.TrendingEventType;
+import com.armycommunity.service.trending.TrendingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceImplTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CommentMapper commentMapper;
+    @Mock
+    private ActivityLogService activityLogService;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private TrendingService trendingService;
+
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @Test
+    void deletingCommentDecrementsPostCounter() {
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment(false)));
+
+        commentService.deleteComment(5L, 1L);
+
+        verify(postRepository).adjustCommentCount(100L, -1);
+        verify(trendingService).recordEvent(100L, TrendingEventType.COMMENT_DELETED);
+    }
+
+    @Test
+    void deletingAlreadyDeletedCommentLeavesCounterAlone() {
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment(true)));
+
+        commentService.deleteComment(5L, 1L);
+
+        verify(postRepository, never()).adjustCommentCount(anyLong(), anyLong());
+        verify(trendingService, never()).recordEvent(anyLong(), any());
+    }
+
+    @Test
+    void rejectedDeleteLeavesCounterAlone() {
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment(false)));
+
+        assertThatThrownBy(() -> commentService.deleteComment(5L, 2L)).isInstanceOf(UnauthorizedException.class);
+
+        verify(postRepository, never()).adjustCommentCount(anyLong(), anyLong());
+    }
+
+    private static Comment comment(boolean deleted) {
+        User author = User.builder().id(1L).username("author").build();
+        Post post = Post.builder().id(100L).user(author).build();
+        return Comment.builder()
+                .id(5L)
+                .post(post)
+                .user(author)
+                .content("Nice")
+                .isDeleted(deleted)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.armycommunity.service.datainitialization;
+
+import com.armycommunity.service.catalog.CatalogCacheService;
+import com.armycommunity.service.catalog.CatalogGraphService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogImportServiceImplTest {
+
+    @TempDir
+    Path dataDir;
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private CatalogGraphService catalogGraphService;
+    private CatalogCacheService catalogCacheService;
+    private CatalogImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate();
+        catalogGraphService = mock(CatalogGraphService.class);
+        catalogCacheService = mock(CatalogCacheService.class);
+        importService = new CatalogImportServiceImpl(jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                new DefaultResourceLoader(), catalogGraphService, catalogCacheService);
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+    }
+
+    @Test
+    void upsertsOneStatementPerChunkAndSkipsDuplicateKeys() throws IOException {
+        Files.writeString(dataDir.resolve("members.json"), """
+                [
+                  {"stageName": "RM", "birthday": "1994-09-12", "lineTypes": ["RAP_LINE"]},
+                  {"stageName": "RM", "birthday": "1994-09-12", "lineTypes": ["RAP_LINE", "HYUNG_LINE"]},
+                  {"stageName": "Jin", "birthday": "1992-12-04", "lineTypes": ["VOCAL_LINE"]},
+                  {"realName": "No stage name"}
+                ]
+                """);
+
+        CatalogImportReport report = importService.importCatalog(dataDir.toUri().toString());
+
+        assertThat(jdbcTemplate.upserts).hasSize(2);
+        assertThat(jdbcTemplate.upserts.get(0)).startsWith("INSERT INTO members").contains("ON CONFLICT (stage_name)");
+        assertThat(jdbcTemplate.linkRows).hasSize(3);
+        assertThat(report.getEntities())
+                .extracting(EntityImportStats::getEntity, EntityImportStats::getRows,
+                        EntityImportStats::getLinks, EntityImportStats::getSkipped)
+                .contains(tuple("members", 2L, 3L, 2L));
+    }
+
+    @Test
+    void missingFilesAreSkipped() {
+        CatalogImportReport report = importService.importCatalog(dataDir.toUri().toString());
+
+        assertThat(jdbcTemplate.upserts).isEmpty();
+        assertThat(report.getEntities()).extracting(EntityImportStats::getRows).containsOnly(0L);
+        assertThat(report.getLocation()).endsWith("/");
+    }
+
+    @Test
+    void refreshesCachesAndGraphAfterImport() {
+        importService.importCatalog(dataDir.toUri().toString());
+
+        verify(catalogCacheService).evictAll();
+        verify(catalogGraphService).rebuildAfterCommit();
+    }
+
+    /**
+     * Answers each upsert with one generated ID per row, taking the natural key from the first
+     * bound value of the row.
+     */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> upserts = new ArrayList<>();
+        private final List<Object[]> linkRows = new ArrayList<>();
+        private long nextId = 1;
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            // Natural-key lookups start from an empty catalog
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            upserts.add(sql);
+            int rows = sql.split("\\(\\?", -1).length - 1;
+            int columns = args.length / rows;
+            for (int i = 0; i < args.length; i += columns) {
+                processRow(rch, String.valueOf(args[i]), nextId++);
+            }
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            linkRows.addAll(batchArgs);
+            int[] counts = new int[batchArgs.size()];
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            return counts;
+        }
+
+        private static void processRow(RowCallbackHandler rch, String naturalKey, long id) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("natural_key")).thenReturn(naturalKey);
+                when(rs.getLong("id")).thenReturn(id);
+                rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
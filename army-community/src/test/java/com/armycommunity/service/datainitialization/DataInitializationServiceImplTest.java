@@ -0,0 +1,63 @@
+package com.armycommunity.service.datainitialization;
+
+import com.armycommunity.service.setting.SettingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataInitializationServiceImplTest {
+
+    @Mock
+    private SettingService settingService;
+    @Mock
+    private CatalogImportService catalogImportService;
+
+    @InjectMocks
+    private DataInitializationServiceImpl dataInitializationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dataInitializationService, "importLocation", "classpath:data/");
+    }
+
+    @Test
+    void initializedDatabaseIsNotImportedAgain() throws Exception {
+        when(settingService.getGlobalSetting("data_initialized")).thenReturn("true");
+
+        dataInitializationService.run();
+
+        verifyNoInteractions(catalogImportService);
+    }
+
+    @Test
+    void markerIsWrittenAfterSuccessfulImport() throws Exception {
+        when(settingService.getGlobalSetting("data_initialized")).thenReturn(null);
+        when(catalogImportService.importCatalog("classpath:data/")).thenReturn(CatalogImportReport.builder().build());
+
+        dataInitializationService.run();
+
+        verify(settingService).saveGlobalSetting("data_initialized", "true");
+    }
+
+    @Test
+    void failedImportLeavesMarkerUnset() {
+        when(settingService.getGlobalSetting("data_initialized")).thenReturn(null);
+        when(catalogImportService.importCatalog("classpath:data/")).thenThrow(new IllegalStateException("bad file"));
+
+        assertThatThrownBy(() -> dataInitializationService.run()).isInstanceOf(RuntimeException.class);
+
+        verify(settingService, never()).saveGlobalSetting(anyString(), anyString());
+    }
+}
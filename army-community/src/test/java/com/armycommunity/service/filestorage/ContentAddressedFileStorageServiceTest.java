@@ -0,0 +1,127 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ContentAddressedFileStorageServiceTest {
+
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+    @TempDir
+    Path storageDir;
+
+    private FakeBlobTable blobTable;
+    private ImageProcessingService imageProcessingService;
+    private ContentAddressedFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        blobTable = new FakeBlobTable();
+        imageProcessingService = mock(ImageProcessingService.class);
+        storageService = new ContentAddressedFileStorageService(imageProcessingService, blobTable, null);
+        ReflectionTestUtils.setField(storageService, "storageBasePath", storageDir.toString());
+        ReflectionTestUtils.setField(storageService, "maxFileSize", 1024L);
+        ReflectionTestUtils.setField(storageService, "uploadBufferSize", 16);
+    }
+
+    @Test
+    void blobIsNamedByDigestOfItsContentAndDetectedFormat() throws IOException {
+        MockMultipartFile file = upload("photo.PNG", "butter");
+
+        String path = storageService.storeFile(file, "post");
+
+        assertThat(path).matches("blobs/([0-9a-f]{2})/([0-9a-f]{2})/\\1\\2[0-9a-f]{60}\\.jpg");
+        assertThat(storageDir.resolve(path)).hasBinaryContent(file.getBytes());
+    }
+
+    @Test
+    void contentThatIsNotAnImageIsRejected() {
+        MockMultipartFile file = new MockMultipartFile("file", "a.jpg", "image/jpeg",
+                "<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> storageService.storeFile(file, "post")).isInstanceOf(IOException.class);
+        assertThat(blobTable.refCounts).isEmpty();
+    }
+
+    @Test
+    void identicalUploadsShareOneBlob() throws IOException {
+        String first = storageService.storeFile(upload("a.jpg", "dynamite"), "post");
+        String second = storageService.storeFile(upload("b.jpg", "dynamite"), "profile");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(blobTable.refCounts).containsEntry(first, 2);
+        verify(imageProcessingService, times(1)).submit(any());
+    }
+
+    @Test
+    void noTempFilesAreLeftBehind() throws IOException {
+        storageService.storeFile(upload("a.jpg", "dynamite"), "post");
+        storageService.storeFile(upload("b.jpg", "dynamite"), "post");
+
+        try (var files = Files.walk(storageDir)) {
+            assertThat(files).noneMatch(file -> file.getFileName().toString().endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    void deleteReleasesReferenceAndKeepsFile() throws IOException {
+        String path = storageService.storeFile(upload("a.jpg", "dynamite"), "post");
+
+        storageService.deleteFile(path);
+
+        assertThat(blobTable.refCounts).containsEntry(path, 0);
+        assertThat(storageDir.resolve(path)).exists();
+    }
+
+    private static MockMultipartFile upload(String filename, String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = Arrays.copyOf(JPEG_HEADER, JPEG_HEADER.length + body.length);
+        System.arraycopy(body, 0, bytes, JPEG_HEADER.length, body.length);
+        return new MockMultipartFile("file", filename, "image/jpeg", bytes);
+    }
+
+    /**
+     * Stands in for the file_blobs table: the acquire upsert and the release update.
+     */
+    private static class FakeBlobTable extends JdbcTemplate {
+        private final Map<String, Integer> refCounts = new HashMap<>();
+
+        @Override
+        public Map<String, Object> queryForMap(String sql, Object... args) {
+            String path = (String) args[1];
+            boolean inserted = !refCounts.containsKey(path);
+            refCounts.merge(path, 1, Integer::sum);
+            return Map.of("path", path, "inserted", inserted);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            String path = (String) args[0];
+            Integer refCount = refCounts.get(path);
+            if (refCount == null || refCount == 0) {
+                return 0;
+            }
+            refCounts.put(path, refCount - 1);
+            return 1;
+        }
+    }
+}
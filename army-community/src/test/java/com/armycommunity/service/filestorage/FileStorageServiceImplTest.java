@@ -0,0 +1,92 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class FileStorageServiceImplTest {
+
+    @TempDir
+    Path storageDir;
+
+    private FileStorageServiceImpl storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new FileStorageServiceImpl(mock(ImageProcessingService.class));
+        ReflectionTestUtils.setField(storageService, "storageBasePath", storageDir.toString());
+        ReflectionTestUtils.setField(storageService, "maxFileSize", 1024L);
+        ReflectionTestUtils.setField(storageService, "uploadBufferSize", 16);
+        ReflectionTestUtils.setField(storageService, "uploadThreads", 2);
+        storageService.startUploadWorkers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storageService.stopUploadWorkers();
+    }
+
+    @Test
+    void storedFileIsNamedAfterDetectedFormat() throws IOException {
+        String path = storageService.storeFile(gif("photo.png", "proof"), "post");
+
+        assertThat(path).startsWith("post/").endsWith(".gif");
+        assertThat(storageDir.resolve(path)).hasBinaryContent(gif("photo.png", "proof").getBytes());
+    }
+
+    @Test
+    void storeFilesKeepsRequestOrder() throws IOException {
+        List<MultipartFile> files = List.of(gif("a.gif", "first"), gif("b.gif", "second"), gif("c.gif", "third"));
+
+        List<String> paths = storageService.storeFiles(files, "post/1");
+
+        assertThat(paths).hasSize(3);
+        for (int i = 0; i < paths.size(); i++) {
+            assertThat(storageDir.resolve(paths.get(i))).hasBinaryContent(files.get(i).getBytes());
+        }
+    }
+
+    @Test
+    void oneInvalidFileFailsBatchWithoutLeavingStagedFiles() throws IOException {
+        List<MultipartFile> files = List.of(gif("a.gif", "first"),
+                new MockMultipartFile("file", "b.gif", "image/gif", "plain text".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> storageService.storeFiles(files, "post/1")).isInstanceOf(IOException.class);
+
+        try (var staged = Files.list(storageDir.resolve(FileStorageServiceImpl.STAGING_DIRECTORY))) {
+            assertThat(staged).isEmpty();
+        }
+        assertThat(storageDir.resolve("post")).doesNotExist();
+    }
+
+    @Test
+    void sizeLimitAppliesToBytesActuallyRead() {
+        ReflectionTestUtils.setField(storageService, "maxFileSize", 20L);
+        MultipartFile file = new MockMultipartFile("file", "a.gif", "image/gif", gif("a.gif", "x".repeat(30)).getBytes()) {
+            @Override
+            public long getSize() {
+                return 10;
+            }
+        };
+
+        assertThatThrownBy(() -> storageService.storeFile(file, "post")).isInstanceOf(IOException.class);
+    }
+
+    private static MockMultipartFile gif(String filename, String body) {
+        return new MockMultipartFile("file", filename, "image/gif", ("GIF89a" + body).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,53 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageFormatTest {
+
+    @Test
+    void detectsJpeg() {
+        byte[] header = header((byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0);
+
+        assertThat(ImageFormat.detect(header)).contains(ImageFormat.JPEG);
+    }
+
+    @Test
+    void detectsPng() {
+        byte[] header = header(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+        assertThat(ImageFormat.detect(header)).contains(ImageFormat.PNG);
+    }
+
+    @Test
+    void detectsBothGifVersions() {
+        assertThat(ImageFormat.detect(header("GIF87a".getBytes(StandardCharsets.US_ASCII)))).contains(ImageFormat.GIF);
+        assertThat(ImageFormat.detect(header("GIF89a".getBytes(StandardCharsets.US_ASCII)))).contains(ImageFormat.GIF);
+    }
+
+    @Test
+    void detectsWebpOnlyWithFormTypeAfterRiffSize() {
+        byte[] webp = "RIFF\0\0\0\0WEBP".getBytes(StandardCharsets.US_ASCII);
+        byte[] wave = "RIFF\0\0\0\0WAVE".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(ImageFormat.detect(webp)).contains(ImageFormat.WEBP);
+        assertThat(ImageFormat.detect(wave)).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownAndTruncatedHeaders() {
+        assertThat(ImageFormat.detect("<svg xmlns=".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(ImageFormat.detect(new byte[]{(byte) 0xFF, (byte) 0xD8})).isEmpty();
+        assertThat(ImageFormat.detect("RIFF\0\0\0\0WE".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(ImageFormat.detect(new byte[0])).isEmpty();
+    }
+
+    // Pads the signature to a full header, as read from the start of an upload
+    private static byte[] header(byte... signature) {
+        return Arrays.copyOf(signature, Math.max(signature.length, ImageFormat.HEADER_LENGTH));
+    }
+}
@@ -0,0 +1,92 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageProcessingServiceImplTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageProcessingServiceImpl imageProcessingService;
+
+    @BeforeEach
+    void setUp() {
+        imageProcessingService = new ImageProcessingServiceImpl();
+        ReflectionTestUtils.setField(imageProcessingService, "jpegQuality", 0.82f);
+        ReflectionTestUtils.setField(imageProcessingService, "maxPixels", 40_000_000L);
+    }
+
+    @Test
+    void writesEveryVariantScaledToItsLongestSide() throws IOException {
+        Path source = writePng("abc.png", 2000, 1000);
+
+        assertThat(imageProcessingService.process(source)).isTrue();
+
+        assertThat(dimensionsOf(uploadDir.resolve("abc_full.jpg"))).containsExactly(1600, 800);
+        assertThat(dimensionsOf(uploadDir.resolve("abc_feed.jpg"))).containsExactly(800, 400);
+        assertThat(dimensionsOf(uploadDir.resolve("abc_thumb.jpg"))).containsExactly(200, 100);
+    }
+
+    @Test
+    void smallImagesAreNotUpscaled() throws IOException {
+        Path source = writePng("small.png", 120, 90);
+
+        assertThat(imageProcessingService.process(source)).isTrue();
+
+        assertThat(dimensionsOf(uploadDir.resolve("small_full.jpg"))).containsExactly(120, 90);
+        assertThat(dimensionsOf(uploadDir.resolve("small_thumb.jpg"))).containsExactly(120, 90);
+    }
+
+    @Test
+    void undecodableFilesKeepOnlyTheOriginal() throws IOException {
+        Path source = Files.writeString(uploadDir.resolve("notes.png"), "not an image");
+
+        assertThat(imageProcessingService.process(source)).isFalse();
+
+        assertThat(uploadDir.resolve("notes_feed.jpg")).doesNotExist();
+    }
+
+    @Test
+    void oversizedRastersAreSkipped() throws IOException {
+        ReflectionTestUtils.setField(imageProcessingService, "maxPixels", 1_000L);
+        Path source = writePng("large.png", 100, 100);
+
+        assertThat(imageProcessingService.process(source)).isFalse();
+    }
+
+    @Test
+    void deleteVariantsRemovesEveryVariantButTheSource() throws IOException {
+        Path source = writePng("abc.png", 400, 300);
+        imageProcessingService.process(source);
+
+        imageProcessingService.deleteVariants(source);
+
+        assertThat(source).exists();
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files).containsExactly(source);
+        }
+    }
+
+    private Path writePng(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Path path = uploadDir.resolve(name);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+
+    private static int[] dimensionsOf(Path path) throws IOException {
+        BufferedImage image = ImageIO.read(path.toFile());
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+}
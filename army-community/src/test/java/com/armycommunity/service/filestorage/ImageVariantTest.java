@@ -0,0 +1,31 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+    @Test
+    void variantPathReplacesSourceExtension() {
+        assertThat(ImageVariant.FEED.pathFor("post/2025/01/01/abc.png")).isEqualTo("post/2025/01/01/abc_feed.jpg");
+        assertThat(ImageVariant.THUMB.pathFor("profile/abc.jpeg")).isEqualTo("profile/abc_thumb.jpg");
+    }
+
+    @Test
+    void dotInDirectoryIsNotTreatedAsExtension() {
+        assertThat(ImageVariant.FULL.pathFor("post/v1.2/abc")).isEqualTo("post/v1.2/abc_full.jpg");
+    }
+
+    @Test
+    void missingSourcePathIsPassedThrough() {
+        assertThat(ImageVariant.FEED.pathFor(null)).isNull();
+        assertThat(ImageVariant.FEED.pathFor("")).isEmpty();
+    }
+
+    @Test
+    void sourceBaseIsRecoveredFromVariantPath() {
+        assertThat(ImageVariant.sourceBaseOf("post/abc_thumb.jpg")).isEqualTo("post/abc");
+        assertThat(ImageVariant.sourceBaseOf("post/abc.jpg")).isNull();
+    }
+}
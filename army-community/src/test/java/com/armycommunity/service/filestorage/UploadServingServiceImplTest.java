@@ -0,0 +1,102 @@
+package com.armycommunity.service.filestorage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadServingServiceImplTest {
+
+    private static final String DIGEST = "ab".repeat(32);
+
+    @TempDir
+    Path tempDir;
+
+    private Path storageDir;
+    private UploadServingServiceImpl uploadServingService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storageDir = Files.createDirectory(tempDir.resolve("uploads"));
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.getStorageDirectory()).thenReturn(storageDir);
+        uploadServingService = new UploadServingServiceImpl(fileStorageService, 100, 60_000L);
+    }
+
+    @Test
+    void blobIsTaggedByTheDigestInItsName() throws IOException {
+        write("blobs/ab/ab/" + DIGEST + ".png", "butter");
+
+        UploadFile upload = uploadServingService.resolve("blobs/ab/ab/" + DIGEST + ".png").orElseThrow();
+
+        assertThat(upload.etag()).isEqualTo("\"" + DIGEST + "\"");
+        assertThat(upload.contentAddressed()).isTrue();
+        assertThat(upload.contentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(upload.size()).isEqualTo(6);
+    }
+
+    @Test
+    void datedFileIsTaggedBySizeAndModificationTime() throws IOException {
+        Path file = write("post/2025/01/01/abc.png", "butter");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0x1234_5678L));
+
+        UploadFile upload = uploadServingService.resolve("post/2025/01/01/abc.png").orElseThrow();
+
+        assertThat(upload.etag()).isEqualTo("\"6-12345678\"");
+        assertThat(upload.lastModified()).isEqualTo(0x1234_5678L);
+        assertThat(upload.contentAddressed()).isFalse();
+    }
+
+    @Test
+    void missingVariantFallsBackToOriginal() throws IOException {
+        Path original = write("post/2025/01/01/abc.PNG", "butter");
+
+        UploadFile upload = uploadServingService.resolve("post/2025/01/01/abc_feed.jpg").orElseThrow();
+
+        assertThat(upload.file()).isEqualTo(original);
+        assertThat(upload.fallback()).isTrue();
+        assertThat(upload.etag()).startsWith("W/");
+    }
+
+    @Test
+    void pathsOutsideStorageDirectoryAreNotResolved() throws IOException {
+        Files.writeString(tempDir.resolve("secret.png"), "butter");
+
+        assertThat(uploadServingService.resolve("../secret.png")).isEmpty();
+    }
+
+    @Test
+    void unknownPathIsNotResolved() {
+        assertThat(uploadServingService.resolve("post/2025/01/01/missing.png")).isEmpty();
+        assertThat(uploadServingService.resolve("post/2025/01/01/missing_thumb.jpg")).isEmpty();
+    }
+
+    @Test
+    void resolvedMetadataIsServedFromCacheUntilEvicted() throws IOException {
+        Path file = write("post/2025/01/01/abc.png", "butter");
+        uploadServingService.resolve("post/2025/01/01/abc.png");
+        Files.delete(file);
+
+        Optional<UploadFile> cached = uploadServingService.resolve("post/2025/01/01/abc.png");
+        uploadServingService.evict("post/2025/01/01/abc.png");
+
+        assertThat(cached).isPresent();
+        assertThat(uploadServingService.resolve("post/2025/01/01/abc.png")).isEmpty();
+    }
+
+    private Path write(String relativePath, String content) throws IOException {
+        Path file = storageDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,82 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.repository.user.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FollowGraphCacheTest {
+
+    private static final int MAX_FOLLOWING = 3;
+
+    private FollowRepository followRepository;
+    private FollowGraphCache cache;
+
+    @BeforeEach
+    void setUp() {
+        followRepository = mock(FollowRepository.class);
+        cache = new FollowGraphCache(followRepository, 100, MAX_FOLLOWING, 10, 1000L);
+    }
+
+    @Test
+    void loadedSetIsCachedAndPatchedOnFollowAndUnfollow() {
+        when(followRepository.findFollowingIds(1L, MAX_FOLLOWING + 1)).thenReturn(List.of(2L));
+
+        cache.following(1L);
+        cache.onFollow(1L, 3L);
+        cache.onUnfollow(1L, 2L);
+        SortedLongSet following = cache.following(1L);
+
+        assertThat(following.contains(3L)).isTrue();
+        assertThat(following.contains(2L)).isFalse();
+        verify(followRepository, times(1)).findFollowingIds(1L, MAX_FOLLOWING + 1);
+    }
+
+    @Test
+    void loadOverlappedByFollowIsNotCached() {
+        // The follow commits while the rows are loading, so the loaded set may predate it
+        when(followRepository.findFollowingIds(1L, MAX_FOLLOWING + 1))
+                .thenAnswer(invocation -> {
+                    cache.onFollow(1L, 3L);
+                    return List.of(2L);
+                })
+                .thenReturn(List.of(2L, 3L));
+
+        cache.following(1L);
+        SortedLongSet following = cache.following(1L);
+
+        assertThat(following.contains(3L)).isTrue();
+        verify(followRepository, times(2)).findFollowingIds(1L, MAX_FOLLOWING + 1);
+    }
+
+    @Test
+    void userFollowingTooManyIsNotCachedButRemembered() {
+        when(followRepository.findFollowingIds(1L, MAX_FOLLOWING + 1)).thenReturn(List.of(2L, 3L, 4L, 5L));
+
+        assertThat(cache.following(1L)).isNull();
+        cache.onFollow(1L, 6L);
+        assertThat(cache.following(1L)).isNull();
+        verify(followRepository, times(1)).findFollowingIds(1L, MAX_FOLLOWING + 1);
+    }
+
+    @Test
+    void followersAreOnlyCachedForHeavyAccounts() {
+        when(followRepository.findAccountIdsWithFollowersAtLeast(1000L)).thenReturn(List.of(9L));
+        when(followRepository.findFollowerIds(9L)).thenReturn(List.of(1L, 2L));
+
+        cache.refreshHeavyAccounts();
+
+        assertThat(cache.followers(8L)).isNull();
+        assertThat(cache.followers(9L).contains(2L)).isTrue();
+        cache.onUnfollow(2L, 9L);
+        assertThat(cache.followers(9L).contains(2L)).isFalse();
+        verify(followRepository, times(1)).findFollowerIds(9L);
+    }
+}
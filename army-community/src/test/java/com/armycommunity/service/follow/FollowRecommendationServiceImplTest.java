@@ -0,0 +1,114 @@
+package com.armycommunity.service.follow;
+
+import com.armycommunity.dto.response.user.FollowRecommendationResponse;
+import com.armycommunity.dto.response.user.UserSummaryResponse;
+import com.armycommunity.mapper.UserMapper;
+import com.armycommunity.model.user.User;
+import com.armycommunity.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class FollowRecommendationServiceImplTest {
+
+    private RecommendationRows jdbcTemplate;
+    private FollowService followService;
+    private UserRepository userRepository;
+    private UserMapper userMapper;
+    private FollowRecommendationServiceImpl recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecommendationRows();
+        followService = mock(FollowService.class);
+        userRepository = mock(UserRepository.class);
+        userMapper = mock(UserMapper.class);
+        recommendationService = new FollowRecommendationServiceImpl(jdbcTemplate, null, followService,
+                userRepository, userMapper);
+        ReflectionTestUtils.setField(recommendationService, "enabled", true);
+    }
+
+    @Test
+    void accountsFollowedSinceLastRunAreDropped() {
+        jdbcTemplate.rows.add(new Object[]{5L, 3, null});
+        jdbcTemplate.rows.add(new Object[]{6L, 0, 2L});
+        jdbcTemplate.rows.add(new Object[]{7L, 0, 4L});
+        when(followService.getFollowedAmong(1L, List.of(5L, 6L, 7L))).thenReturn(Set.of(6L));
+        when(userRepository.findAllById(List.of(5L, 7L))).thenReturn(List.of(user(5L), user(7L)));
+        when(userMapper.toSummaryResponse(any(User.class)))
+                .thenAnswer(invocation -> UserSummaryResponse.builder().id(invocation.<User>getArgument(0).getId()).build());
+
+        List<FollowRecommendationResponse> recommendations = recommendationService.getRecommendations(1L, 2);
+
+        assertThat(recommendations)
+                .extracting(response -> response.getUser().getId(), FollowRecommendationResponse::getMutualFollowCount,
+                        FollowRecommendationResponse::getSharedMemberId)
+                .containsExactly(tuple(5L, 3, null), tuple(7L, 0, 4L));
+        // Spare rows cover candidates dropped as already followed
+        assertThat(jdbcTemplate.args).containsExactly(1L, 4);
+    }
+
+    @Test
+    void userWithoutRecommendationsCostsOneQuery() {
+        assertThat(recommendationService.getRecommendations(1L, 10)).isEmpty();
+
+        verifyNoInteractions(followService, userRepository, userMapper);
+    }
+
+    @Test
+    void disabledJobDoesNotRun() {
+        ReflectionTestUtils.setField(recommendationService, "enabled", false);
+
+        RecommendationJobStats stats = recommendationService.refreshRecommendations();
+
+        assertThat(stats.getTotalRuns()).isZero();
+        assertThat(stats.isRunning()).isFalse();
+        assertThat(jdbcTemplate.args).isNull();
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).build();
+    }
+
+    /**
+     * Serves stored (candidate_id, mutual_count, shared_member_id) rows to the recommendations query.
+     */
+    private static class RecommendationRows extends JdbcTemplate {
+        private final List<Object[]> rows = new ArrayList<>();
+        private Object[] args;
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            this.args = args;
+            List<T> mapped = new ArrayList<>();
+            try {
+                for (int i = 0; i < rows.size(); i++) {
+                    Object[] row = rows.get(i);
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong("candidate_id")).thenReturn((Long) row[0]);
+                    when(rs.getInt("mutual_count")).thenReturn((Integer) row[1]);
+                    when(rs.getObject("shared_member_id", Long.class)).thenReturn((Long) row[2]);
+                    mapped.add(rowMapper.mapRow(rs, i));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return mapped;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.armycommunity.service.follow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedLongSetTest {
+
+    @Test
+    void ofSortsAndDropsDuplicates() {
+        SortedLongSet set = SortedLongSet.of(List.of(30L, 10L, 20L, 10L));
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(10L)).isTrue();
+        assertThat(set.contains(20L)).isTrue();
+        assertThat(set.contains(30L)).isTrue();
+        assertThat(set.contains(15L)).isFalse();
+    }
+
+    @Test
+    void emptyCollectionGivesSharedEmptySet() {
+        assertThat(SortedLongSet.of(List.of())).isSameAs(SortedLongSet.EMPTY);
+        assertThat(SortedLongSet.EMPTY.contains(1L)).isFalse();
+    }
+
+    @Test
+    void withInsertsAtEveryPositionAndLeavesOriginalUnchanged() {
+        SortedLongSet original = SortedLongSet.of(List.of(10L, 20L));
+
+        SortedLongSet updated = original.with(5L).with(15L).with(25L);
+
+        assertThat(updated.size()).isEqualTo(5);
+        assertThat(updated.contains(5L)).isTrue();
+        assertThat(updated.contains(15L)).isTrue();
+        assertThat(updated.contains(25L)).isTrue();
+        assertThat(original.size()).isEqualTo(2);
+        assertThat(original.contains(15L)).isFalse();
+    }
+
+    @Test
+    void withExistingValueReturnsSameSet() {
+        SortedLongSet set = SortedLongSet.of(List.of(10L, 20L));
+
+        assertThat(set.with(10L)).isSameAs(set);
+    }
+
+    @Test
+    void withoutRemovesValueAndIgnoresMissingOnes() {
+        SortedLongSet set = SortedLongSet.of(List.of(10L, 20L, 30L));
+
+        SortedLongSet updated = set.without(20L);
+
+        assertThat(updated.size()).isEqualTo(2);
+        assertThat(updated.contains(20L)).isFalse();
+        assertThat(updated.contains(10L)).isTrue();
+        assertThat(updated.contains(30L)).isTrue();
+        assertThat(set.contains(20L)).isTrue();
+        assertThat(set.without(25L)).isSameAs(set);
+    }
+}
@@ -0,0 +1,85 @@
+package com.armycommunity.service.notification;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryUnreadNotificationCounterTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Test
+    void countLoadedWithoutConcurrentWritesIsCached() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, TTL_MILLIS);
+
+        counter.putIfUnchanged(1L, 5L, counter.writeVersion(1L));
+
+        assertThat(counter.get(1L)).isEqualTo(5L);
+    }
+
+    @Test
+    void countLoadedBeforeIncrementIsDropped() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, TTL_MILLIS);
+
+        long version = counter.writeVersion(1L);
+        counter.increment(1L, 1L);
+        counter.putIfUnchanged(1L, 5L, version);
+
+        assertThat(counter.get(1L)).isNull();
+    }
+
+    @Test
+    void countLoadedBeforeResetDoesNotOverwriteIt() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, TTL_MILLIS);
+
+        long version = counter.writeVersion(1L);
+        counter.reset(1L);
+        counter.putIfUnchanged(1L, 5L, version);
+
+        assertThat(counter.get(1L)).isZero();
+    }
+
+    @Test
+    void incrementAdjustsCachedCountWithoutGoingNegative() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, TTL_MILLIS);
+        counter.putIfUnchanged(1L, 2L, counter.writeVersion(1L));
+
+        counter.increment(1L, 3L);
+        assertThat(counter.get(1L)).isEqualTo(5L);
+
+        counter.increment(1L, -10L);
+        assertThat(counter.get(1L)).isZero();
+    }
+
+    @Test
+    void incrementOfUncachedUserCachesNothing() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, TTL_MILLIS);
+
+        counter.increment(1L, 1L);
+
+        assertThat(counter.get(1L)).isNull();
+    }
+
+    @Test
+    void expiredCountIsReloaded() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(100, 0L);
+
+        counter.putIfUnchanged(1L, 5L, counter.writeVersion(1L));
+
+        assertThat(counter.get(1L)).isNull();
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvictedPastCapacity() {
+        InMemoryUnreadNotificationCounter counter = new InMemoryUnreadNotificationCounter(2, TTL_MILLIS);
+        counter.putIfUnchanged(1L, 1L, counter.writeVersion(1L));
+        counter.putIfUnchanged(2L, 2L, counter.writeVersion(2L));
+
+        counter.get(1L);
+        counter.putIfUnchanged(3L, 3L, counter.writeVersion(3L));
+
+        assertThat(counter.get(1L)).isEqualTo(1L);
+        assertThat(counter.get(2L)).isNull();
+        assertThat(counter.get(3L)).isEqualTo(3L);
+    }
+}
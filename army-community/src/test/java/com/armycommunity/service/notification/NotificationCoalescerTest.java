@@ -0,0 +1,149 @@
+package com.armycommunity.service.notification;
+
+import com.armycommunity.dto.response.user.NotificationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationCoalescerTest {
+
+    private RecordingJdbcTemplate jdbcTemplate;
+    private UnreadNotificationCounter unreadCounter;
+    private NotificationStreamService notificationStreamService;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new RecordingJdbcTemplate();
+        unreadCounter = mock(UnreadNotificationCounter.class);
+        notificationStreamService = mock(NotificationStreamService.class);
+        coalescer = new NotificationCoalescer(jdbcTemplate, unreadCounter, notificationStreamService);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void eventsAboutSameEntityAreMergedIntoOneRow() {
+        coalescer.add(10L, "LIKE", 100L, "POST", 1L, "rm");
+        coalescer.add(10L, "LIKE", 100L, "POST", 2L, "jin");
+        coalescer.add(10L, "LIKE", 100L, "POST", 3L, "jimin");
+        coalescer.add(10L, "LIKE", 100L, "POST", 1L, "rm");
+        coalescer.add(10L, "COMMENT", 100L, "POST", 4L, "suga");
+
+        coalescer.flushAll();
+
+        assertThat(jdbcTemplate.statements).isEqualTo(1);
+        assertThat(jdbcTemplate.messages()).containsExactlyInAnyOrder(
+                "rm and 2 others liked your post",
+                "suga commented on your post");
+        verify(unreadCounter, times(2)).increment(10L, 1);
+        verify(notificationStreamService, times(2)).publish(eq(10L), any(NotificationResponse.class));
+    }
+
+    @Test
+    void bucketsStayOpenUntilWindowEnds() {
+        coalescer.add(10L, "LIKE", 100L, "POST", 1L, "rm");
+
+        coalescer.flushExpired();
+        assertThat(jdbcTemplate.messages()).isEmpty();
+
+        coalescer.add(10L, "LIKE", 100L, "POST", 2L, "jin");
+        coalescer.flushAll();
+        assertThat(jdbcTemplate.messages()).containsExactly("jin and 1 other liked your post");
+    }
+
+    @Test
+    void eventsInsideTransactionCountOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        coalescer.add(10L, "REPOST", 100L, "POST", 1L, "rm");
+
+        coalescer.flushAll();
+        assertThat(jdbcTemplate.messages()).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        coalescer.flushAll();
+        assertThat(jdbcTemplate.messages()).containsExactly("rm reposted your post");
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRowAndOnlyRejectedRowIsDropped() {
+        jdbcTemplate.rejectedRecipient = 20L;
+        coalescer.add(10L, "LIKE", 100L, "POST", 1L, "rm");
+        coalescer.add(20L, "LIKE", 200L, "POST", 1L, "rm");
+        coalescer.add(30L, "COMMENT", 300L, "POST", 2L, "jin");
+
+        coalescer.flushAll();
+
+        assertThat(jdbcTemplate.messages()).containsExactlyInAnyOrder(
+                "rm liked your post",
+                "jin commented on your post");
+        verify(unreadCounter).increment(10L, 1);
+        verify(unreadCounter).increment(30L, 1);
+        verify(unreadCounter, never()).increment(eq(20L), anyLong());
+        verify(notificationStreamService, never()).publish(eq(20L), any(NotificationResponse.class));
+    }
+
+    @Test
+    void messageNamesLatestActorAndCountsTheRest() {
+        assertThat(NotificationCoalescer.buildMessage("LIKE", "jimin", 1)).isEqualTo("jimin liked your post");
+        assertThat(NotificationCoalescer.buildMessage("LIKE", "jimin", 2)).isEqualTo("jimin and 1 other liked your post");
+        assertThat(NotificationCoalescer.buildMessage("COMMENT", "jimin", 242))
+                .isEqualTo("jimin and 241 others commented on your post");
+        assertThat(NotificationCoalescer.buildMessage("FOLLOW", "jimin", 1)).isEqualTo("jimin interacted with your post");
+    }
+
+    // Records the multi-row inserts and hands out sequential IDs, as RETURNING id would; a statement
+    // containing the rejected recipient fails as a whole, like a foreign key violation
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private static final int COLUMNS = 6;
+
+        private final List<List<Object>> rows = new ArrayList<>();
+        private int statements;
+        private long nextId = 1;
+        private Long rejectedRecipient;
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            statements++;
+            for (int from = 0; from < args.length; from += COLUMNS) {
+                if (args[from].equals(rejectedRecipient)) {
+                    throw new DataIntegrityViolationException("violates foreign key constraint");
+                }
+            }
+            List<T> ids = new ArrayList<>();
+            for (int from = 0; from < args.length; from += COLUMNS) {
+                rows.add(Arrays.asList(args).subList(from, from + COLUMNS));
+                ids.add(elementType.cast(nextId++));
+            }
+            return ids;
+        }
+
+        List<String> messages() {
+            return rows.stream().map(row -> (String) row.get(2)).toList();
+        }
+    }
+}
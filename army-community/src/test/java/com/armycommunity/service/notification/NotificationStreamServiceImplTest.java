@@ -0,0 +1,94 @@
+package com.armycommunity.service.notification;
+
+import com.armycommunity.dto.response.user.NotificationResponse;
+import com.armycommunity.mapper.NotificationMapper;
+import com.armycommunity.repository.post.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceImplTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @InjectMocks
+    private NotificationStreamServiceImpl streamService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(streamService, "bufferSize", 16);
+        ReflectionTestUtils.setField(streamService, "maxConnectionsPerUser", 2);
+        ReflectionTestUtils.setField(streamService, "dispatchThreads", 1);
+        streamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.stop();
+    }
+
+    @Test
+    void oldestConnectionsAreClosedPastPerUserLimit() {
+        streamService.subscribe(1L, null);
+        streamService.subscribe(1L, null);
+        streamService.subscribe(1L, null);
+        streamService.subscribe(2L, null);
+
+        assertThat(streamService.getConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void freshConnectionSkipsReplay() {
+        streamService.subscribe(1L, null);
+
+        verify(notificationRepository, never()).findByUserIdAndIdGreaterThanOrderByIdAsc(any(), any(), any());
+    }
+
+    @Test
+    void reconnectReplaysNotificationsAfterLastEventId() {
+        when(notificationMapper.toResponseList(any())).thenReturn(List.of(notification(43L), notification(44L)));
+
+        streamService.subscribe(1L, 42L);
+
+        verify(notificationRepository).findByUserIdAndIdGreaterThanOrderByIdAsc(1L, 42L, PageRequest.of(0, 16));
+    }
+
+    @Test
+    void failedReplayStillOpensStream() {
+        when(notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(any(), any(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThat(streamService.subscribe(1L, 42L)).isNotNull();
+        assertThat(streamService.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publishingToUserWithoutStreamsIsIgnored() {
+        streamService.publish(1L, notification(1L));
+
+        assertThat(streamService.getConnectionCount()).isZero();
+    }
+
+    private static NotificationResponse notification(Long id) {
+        return NotificationResponse.builder().id(id).userId(1L).type("LIKE").message("jimin liked your post").build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.armycommunity.service.post;
+
+import com.armycommunity.dto.response.post.PostResponse;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.post.ReactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostViewerStateResolverTest {
+
+    private ReactionRepository reactionRepository;
+    private PostRepository postRepository;
+    private PostViewerStateResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        reactionRepository = mock(ReactionRepository.class);
+        postRepository = mock(PostRepository.class);
+        resolver = new PostViewerStateResolver(reactionRepository, postRepository);
+    }
+
+    @Test
+    void appliesLikedAndRepostedFlagsAcrossPage() {
+        when(reactionRepository.findLikedPostIds(1L, Set.of(10L, 11L, 12L, 13L))).thenReturn(Set.of(10L, 12L));
+        when(postRepository.findRepostedOriginalPostIds(1L, Set.of(10L, 11L, 12L, 13L))).thenReturn(Set.of(12L, 13L));
+        List<PostResponse> page = page(10L, 11L, 12L, 13L);
+
+        resolver.apply(page, 1L);
+
+        assertThat(page)
+                .extracting(PostResponse::getId, PostResponse::getIsLikedByUser, PostResponse::getIsRepostedByUser)
+                .containsExactly(
+                        tuple(10L, true, false),
+                        tuple(11L, false, false),
+                        tuple(12L, true, true),
+                        tuple(13L, false, true));
+        assertThat(page).extracting(PostResponse::getNeedsModeration).containsOnly(false);
+    }
+
+    @Test
+    void costsTwoQueriesPerPageRegardlessOfSize() {
+        when(reactionRepository.findLikedPostIds(anyLong(), anyCollection())).thenReturn(Set.of());
+        when(postRepository.findRepostedOriginalPostIds(anyLong(), anyCollection())).thenReturn(Set.of());
+
+        resolver.apply(page(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), 1L);
+
+        verify(reactionRepository, times(1)).findLikedPostIds(anyLong(), anyCollection());
+        verify(postRepository, times(1)).findRepostedOriginalPostIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    void anonymousViewerGetsFalseFlagsWithoutQueries() {
+        List<PostResponse> page = page(10L, 11L);
+
+        resolver.apply(page, null);
+
+        assertThat(page).extracting(PostResponse::getIsLikedByUser).containsOnly(false);
+        assertThat(page).extracting(PostResponse::getIsRepostedByUser).containsOnly(false);
+        verify(reactionRepository, never()).findLikedPostIds(any(), anyCollection());
+        verify(postRepository, never()).findRepostedOriginalPostIds(any(), anyCollection());
+    }
+
+    @Test
+    void emptyPageIsLeftAlone() {
+        resolver.apply(new ArrayList<>(), 1L);
+
+        verify(reactionRepository, never()).findLikedPostIds(any(), anyCollection());
+    }
+
+    private static List<PostResponse> page(Long... postIds) {
+        List<PostResponse> page = new ArrayList<>();
+        for (Long postId : postIds) {
+            page.add(PostResponse.builder().id(postId).build());
+        }
+        return page;
+    }
+}
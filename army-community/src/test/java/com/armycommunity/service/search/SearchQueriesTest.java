@@ -0,0 +1,41 @@
+package com.armycommunity.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchQueriesTest {
+
+    @Test
+    void prefixQueryAndsTermsAndPrefixMatchesLastOne() {
+        assertThat(SearchQueries.toPrefixTsQuery("Butter smo")).isEqualTo("butter & smo:*");
+        assertThat(SearchQueries.toPrefixTsQuery("  dynamite ")).isEqualTo("dynamite:*");
+    }
+
+    @Test
+    void prefixQueryDropsTsqueryOperators() {
+        assertThat(SearchQueries.toPrefixTsQuery("spring & !day | (life)")).isEqualTo("spring & day & life:*");
+        assertThat(SearchQueries.toPrefixTsQuery("butter:*")).isEqualTo("butter:*");
+    }
+
+    @Test
+    void prefixQueryKeepsNonLatinLettersAndDigits() {
+        assertThat(SearchQueries.toPrefixTsQuery("봄날 2017")).isEqualTo("봄날 & 2017:*");
+    }
+
+    @Test
+    void prefixQueryOfPunctuationOnlyIsNull() {
+        assertThat(SearchQueries.toPrefixTsQuery("&|!:*")).isNull();
+        assertThat(SearchQueries.toPrefixTsQuery(null)).isNull();
+    }
+
+    @Test
+    void containsPatternEscapesLikeWildcards() {
+        assertThat(SearchQueries.toContainsPattern(" 100%_real\\ ")).isEqualTo("%100\\%\\_real\\\\%");
+    }
+
+    @Test
+    void prefixPatternIsLowercasedAndEscaped() {
+        assertThat(SearchQueries.toPrefixPattern(" Army_Jin ")).isEqualTo("army\\_jin%");
+    }
+}
@@ -0,0 +1,108 @@
+package com.armycommunity.service.search;
+
+import com.armycommunity.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UsernameAutocompleteIndexTest {
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findActiveUsernames()).thenReturn(List.of("Jimin", "jhope", "Jin", "Jungkook", "RM", "Suga"));
+    }
+
+    @Test
+    void completesCaseInsensitivelyInAlphabeticalOrderKeepingOriginalCase() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        assertThat(index.complete("J", 10)).containsExactly("jhope", "Jimin", "Jin", "Jungkook");
+        assertThat(index.complete("rm", 10)).containsExactly("RM");
+    }
+
+    @Test
+    void stopsAtLimit() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        assertThat(index.complete("j", 2)).containsExactly("jhope", "Jimin");
+        assertThat(index.complete("j", 0)).isEmpty();
+    }
+
+    @Test
+    void blankPrefixMatchesNothing() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        assertThat(index.complete("  ", 10)).isEmpty();
+        assertThat(index.complete(null, 10)).isEmpty();
+    }
+
+    @Test
+    void overlayAdditionsAreMergedIntoOrder() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        index.add("Jisoo");
+        index.add("Ja");
+        index.add("Jz");
+
+        assertThat(index.complete("j", 10)).containsExactly("Ja", "jhope", "Jimin", "Jin", "Jisoo", "Jungkook", "Jz");
+    }
+
+    @Test
+    void overlayEntryForExistingKeyIsReturnedOnce() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        index.add("JIN");
+
+        assertThat(index.complete("jin", 10)).hasSize(1);
+    }
+
+    @Test
+    void removedUsernamesAreHiddenUntilAddedAgain() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        index.remove("Jimin");
+        index.add("Jisoo");
+        index.remove("jisoo");
+
+        assertThat(index.complete("ji", 10)).containsExactly("Jin");
+
+        index.add("Jimin");
+
+        assertThat(index.complete("ji", 10)).containsExactly("Jimin", "Jin");
+    }
+
+    @Test
+    void changesSurviveMergeIntoArray() {
+        UsernameAutocompleteIndex index = rebuiltIndex(2);
+
+        index.add("Jisoo");
+        index.add("Ja");
+        index.remove("Jin");
+        index.remove("jhope");
+
+        assertThat(index.complete("j", 10)).containsExactly("Ja", "Jimin", "Jisoo", "Jungkook");
+    }
+
+    @Test
+    void limitCountsOnlyVisibleMatches() {
+        UsernameAutocompleteIndex index = rebuiltIndex(100);
+
+        index.remove("jhope");
+
+        assertThat(index.complete("j", 2)).containsExactly("Jimin", "Jin");
+    }
+
+    private UsernameAutocompleteIndex rebuiltIndex(int mergeThreshold) {
+        UsernameAutocompleteIndex index = new UsernameAutocompleteIndex(userRepository, mergeThreshold);
+        index.rebuild();
+        return index;
+    }
+}
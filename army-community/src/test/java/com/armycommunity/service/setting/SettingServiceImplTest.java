@@ -0,0 +1,180 @@
+package com.armycommunity.service.setting;
+
+import com.armycommunity.model.user.Setting;
+import com.armycommunity.repository.user.SettingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SettingServiceImplTest {
+
+    private SettingRepository settingRepository;
+    private SettingsCache settingsCache;
+    private RecordingJdbcTemplate jdbcTemplate;
+    private SettingServiceImpl settingService;
+
+    @BeforeEach
+    void setUp() {
+        settingRepository = mock(SettingRepository.class);
+        settingsCache = new SettingsCache(100);
+        jdbcTemplate = new RecordingJdbcTemplate();
+        settingService = new SettingServiceImpl(settingRepository, settingsCache, jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void saveSettingsUpsertsEveryKeyInOneStatement() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("language_preference", "ko");
+        settings.put("time_zone", "Asia/Seoul");
+
+        settingService.saveSettings(1L, settings);
+
+        assertThat(jdbcTemplate.updates).hasSize(1);
+        Object[] args = jdbcTemplate.updates.get(0);
+        assertThat(args[0]).isEqualTo(1L);
+        assertThat((String[]) args[1]).containsExactly("language_preference", "time_zone");
+        assertThat((String[]) args[2]).containsExactly("ko", "Asia/Seoul");
+    }
+
+    @Test
+    void nullValueIsSavedAsUnset() {
+        settingService.saveSetting(1L, "time_zone", null);
+
+        assertThat(jdbcTemplate.updates).hasSize(1);
+        assertThat((String[]) jdbcTemplate.updates.get(0)[1]).containsExactly("time_zone");
+        assertThat((String[]) jdbcTemplate.updates.get(0)[2]).containsExactly((String) null);
+    }
+
+    @Test
+    void emptySaveWritesNothing() {
+        settingService.saveSettings(1L, Map.of());
+
+        assertThat(jdbcTemplate.updates).isEmpty();
+    }
+
+    @Test
+    void userSettingsAreLoadedOnceAndServedFromCache() {
+        when(settingRepository.findByUserId(1L)).thenReturn(List.of(setting(1L, "theme", "dark", false)));
+
+        assertThat(settingService.getUserSetting(1L, "theme")).isEqualTo("dark");
+        assertThat(settingService.getUserSetting(1L, "language_preference")).isEqualTo("en");
+
+        verify(settingRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    void writeEvictsCachedUserSettings() {
+        when(settingRepository.findByUserId(1L)).thenReturn(List.of(setting(1L, "theme", "light", false)));
+        settingService.getUserSetting(1L, "theme");
+
+        settingService.saveSetting(1L, "theme", "dark");
+
+        assertThat(settingsCache.getUserSettings(1L)).isNull();
+    }
+
+    @Test
+    void globalFallbackComesFromCachedSnapshot() {
+        when(settingRepository.findByUserId(1L)).thenReturn(List.of());
+        when(settingRepository.findByIsGlobalTrue()).thenReturn(List.of(setting(null, "theme", "purple", true)));
+
+        assertThat(settingService.getSettingWithGlobalFallback(1L, "theme")).isEqualTo("purple");
+        assertThat(settingService.getSettingWithGlobalFallback(1L, "theme")).isEqualTo("purple");
+
+        verify(settingRepository, times(1)).findByIsGlobalTrue();
+    }
+
+    @Test
+    void userSettingsLoadedFromRolledBackWriteAreEvicted() {
+        TransactionSynchronizationManager.initSynchronization();
+        settingService.saveSettings(1L, Map.of("theme", "dark"));
+        // Read inside the transaction, so the uncommitted value is loaded and cached
+        when(settingRepository.findByUserId(1L)).thenReturn(List.of(setting(1L, "theme", "dark", false)));
+        assertThat(settingService.getUserSetting(1L, "theme")).isEqualTo("dark");
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(settingsCache.getUserSettings(1L)).isNull();
+    }
+
+    @Test
+    void userSettingsLoadedDuringWriteAreEvictedOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(settingRepository.findByUserId(1L)).thenReturn(List.of(setting(1L, "theme", "light", false)));
+
+        settingService.saveSettings(1L, Map.of("theme", "dark"));
+        settingService.getUserSetting(1L, "theme");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(settingsCache.getUserSettings(1L)).isNull();
+    }
+
+    @Test
+    void globalSnapshotLoadedFromRolledBackWriteIsEvicted() {
+        TransactionSynchronizationManager.initSynchronization();
+        settingService.saveGlobalSetting("maintenance", "on");
+        when(settingRepository.findByIsGlobalTrue()).thenReturn(List.of(setting(null, "maintenance", "on", true)));
+        assertThat(settingService.getGlobalSetting("maintenance")).isEqualTo("on");
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(settingsCache.getGlobalSettings()).isNull();
+    }
+
+    @Test
+    void globalSnapshotIsReplacedOnlyOnCommit() {
+        settingsCache.replaceGlobalSettings(Map.of("maintenance", "off"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        settingService.saveGlobalSetting("maintenance", "on");
+        when(settingRepository.findByIsGlobalTrue()).thenReturn(List.of(setting(null, "maintenance", "on", true)));
+
+        assertThat(settingService.getGlobalSetting("maintenance")).isEqualTo("off");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(settingService.getGlobalSetting("maintenance")).isEqualTo("on");
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Setting setting(Long userId, String key, String value, boolean global) {
+        return Setting.builder()
+                .userId(userId)
+                .settingKey(key)
+                .settingValue(value)
+                .isGlobal(global)
+                .build();
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Object[]> updates = new ArrayList<>();
+
+        @Override
+        public int update(String sql, Object... args) {
+            updates.add(args);
+            return ((String[]) args[1]).length;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.armycommunity.service.setting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettingsCacheTest {
+
+    @Test
+    void cachedUserSettingsAreACopy() {
+        SettingsCache cache = new SettingsCache(100);
+        Map<String, String> settings = new HashMap<>(Map.of("theme", "dark"));
+
+        cache.putUserSettingsIfUnchanged(1L, settings, cache.writeVersion());
+        settings.put("theme", "light");
+
+        assertThat(cache.getUserSettings(1L)).containsEntry("theme", "dark");
+    }
+
+    @Test
+    void userLoadWithoutConcurrentWritesIsCached() {
+        SettingsCache cache = new SettingsCache(100);
+
+        cache.putUserSettingsIfUnchanged(1L, Map.of("theme", "dark"), cache.writeVersion());
+
+        assertThat(cache.getUserSettings(1L)).containsEntry("theme", "dark");
+    }
+
+    @Test
+    void userLoadOverlappedByEvictionIsDropped() {
+        SettingsCache cache = new SettingsCache(100);
+
+        long version = cache.writeVersion();
+        cache.evictUser(1L);
+        cache.putUserSettingsIfUnchanged(1L, Map.of("theme", "light"), version);
+
+        assertThat(cache.getUserSettings(1L)).isNull();
+    }
+
+    @Test
+    void globalLoadOverlappedByReplacementKeepsReplacement() {
+        SettingsCache cache = new SettingsCache(100);
+
+        long version = cache.writeVersion();
+        cache.replaceGlobalSettings(Map.of("maintenance", "on"));
+        cache.loadGlobalSettingsIfUnchanged(Map.of("maintenance", "off"), version);
+
+        assertThat(cache.getGlobalSettings()).containsEntry("maintenance", "on");
+    }
+
+    @Test
+    void globalLoadOverlappedByEvictionIsDropped() {
+        SettingsCache cache = new SettingsCache(100);
+
+        long version = cache.writeVersion();
+        cache.evictGlobal();
+        cache.loadGlobalSettingsIfUnchanged(Map.of("maintenance", "on"), version);
+
+        assertThat(cache.getGlobalSettings()).isNull();
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvictedPastCapacity() {
+        SettingsCache cache = new SettingsCache(2);
+        cache.putUserSettingsIfUnchanged(1L, Map.of(), cache.writeVersion());
+        cache.putUserSettingsIfUnchanged(2L, Map.of(), cache.writeVersion());
+
+        cache.getUserSettings(1L);
+        cache.putUserSettingsIfUnchanged(3L, Map.of(), cache.writeVersion());
+
+        assertThat(cache.getUserSettings(1L)).isNotNull();
+        assertThat(cache.getUserSettings(2L)).isNull();
+        assertThat(cache.getUserSettings(3L)).isNotNull();
+    }
+}
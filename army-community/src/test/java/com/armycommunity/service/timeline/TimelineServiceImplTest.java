@@ -0,0 +1,251 @@
+package com.armycommunity.service.timeline;
+
+import com.armycommunity.model.post.Post;
+import com.armycommunity.model.post.TimelineEntry;
+import com.armycommunity.model.user.User;
+import com.armycommunity.repository.post.PostRepository;
+import com.armycommunity.repository.post.TimelineRepository;
+import com.armycommunity.service.follow.FollowGraphCache;
+import com.armycommunity.service.follow.SortedLongSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceImplTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 6, 13, 12, 0);
+
+    @Mock
+    private TimelineRepository timelineRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private FollowGraphCache followGraphCache;
+
+    @InjectMocks
+    private TimelineServiceImpl timelineService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timelineService, "fanOutFollowerThreshold", 10_000L);
+        ReflectionTestUtils.setField(timelineService, "maxEntriesPerTimeline", 800);
+    }
+
+    @Test
+    void mergeInterleavesBothSourcesNewestFirst() {
+        List<TimelineEntry> pushed = List.of(pushed(5L, NOON.plusMinutes(5)), pushed(3L, NOON.plusMinutes(3)));
+        List<Post> pulled = List.of(pulled(4L, NOON.plusMinutes(4)), pulled(1L, NOON.plusMinutes(1)));
+
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 0, 10)).containsExactly(5L, 4L, 3L, 1L);
+    }
+
+    @Test
+    void mergeBreaksTimestampTiesByHigherId() {
+        List<TimelineEntry> pushed = List.of(pushed(7L, NOON), pushed(2L, NOON));
+        List<Post> pulled = List.of(pulled(8L, NOON), pulled(3L, NOON));
+
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 0, 10)).containsExactly(8L, 7L, 3L, 2L);
+    }
+
+    @Test
+    void mergeReturnsPostInBothSourcesOnce() {
+        // A post pushed before its author crossed the fan-out threshold is also pulled
+        List<TimelineEntry> pushed = List.of(pushed(6L, NOON.plusMinutes(6)), pushed(4L, NOON.plusMinutes(4)));
+        List<Post> pulled = List.of(pulled(6L, NOON.plusMinutes(6)), pulled(5L, NOON.plusMinutes(5)));
+
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 0, 10)).containsExactly(6L, 5L, 4L);
+    }
+
+    @Test
+    void mergeOffsetSkipsDistinctPosts() {
+        List<TimelineEntry> pushed = List.of(
+                pushed(6L, NOON.plusMinutes(6)), pushed(4L, NOON.plusMinutes(4)), pushed(2L, NOON.plusMinutes(2)));
+        List<Post> pulled = List.of(
+                pulled(6L, NOON.plusMinutes(6)), pulled(5L, NOON.plusMinutes(5)), pulled(3L, NOON.plusMinutes(3)));
+
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 2, 2)).containsExactly(4L, 3L);
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 4, 2)).containsExactly(2L);
+        assertThat(TimelineServiceImpl.mergePostIds(pushed, pulled, 5, 2)).isEmpty();
+    }
+
+    @Test
+    void mergeOfEmptySourcesIsEmpty() {
+        assertThat(TimelineServiceImpl.mergePostIds(List.of(), List.of(), 0, 10)).isEmpty();
+        assertThat(TimelineServiceImpl.mergePostIds(List.of(), List.of(pulled(1L, NOON)), 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void fanOutPushesPostToFollowers() {
+        Post post = authoredPost(1L, 7L);
+
+        timelineService.fanOut(post);
+
+        verify(timelineRepository).fanOutToFollowers(1L, 7L, NOON);
+    }
+
+    @Test
+    void fanOutSkipsHighFollowerAccounts() {
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L));
+        timelineService.refreshHighFollowerAccounts();
+
+        timelineService.fanOut(authoredPost(1L, 7L));
+
+        verify(timelineRepository, never()).fanOutToFollowers(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void newlyPulledAccountIsRecorded() {
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L));
+
+        timelineService.refreshHighFollowerAccounts();
+
+        verify(timelineRepository).insertPulledAccounts(Set.of(7L));
+        verify(timelineRepository, never()).insertPulledPostsForFollowers(anyLong(), anyInt());
+    }
+
+    @Test
+    void accountDroppingBelowThresholdHasPulledPostsCopiedAndIsFannedOutAgain() {
+        when(timelineRepository.findPulledAccountIds()).thenReturn(List.of(7L, 8L));
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(8L));
+
+        timelineService.refreshHighFollowerAccounts();
+        timelineService.fanOut(authoredPost(1L, 7L));
+
+        verify(timelineRepository).insertPulledPostsForFollowers(7L, 800);
+        verify(timelineRepository).markReleased(Set.of(7L));
+        verify(timelineRepository).fanOutToFollowers(1L, 7L, NOON);
+    }
+
+    @Test
+    void releasedAccountIsCopiedOnceMoreThenForgotten() {
+        when(timelineRepository.findReleasedAccountIds()).thenReturn(List.of(7L));
+
+        timelineService.refreshHighFollowerAccounts();
+
+        verify(timelineRepository).insertPulledPostsForFollowers(7L, 800);
+        verify(timelineRepository).deleteReleasedAccounts(Set.of(7L));
+    }
+
+    @Test
+    void releasedAccountPulledAgainIsKept() {
+        when(timelineRepository.findReleasedAccountIds()).thenReturn(List.of(7L));
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L));
+
+        timelineService.refreshHighFollowerAccounts();
+
+        verify(timelineRepository, never()).deleteReleasedAccounts(any());
+        verify(timelineRepository, never()).insertPulledPostsForFollowers(anyLong(), anyInt());
+        verify(timelineRepository).insertPulledAccounts(Set.of(7L));
+    }
+
+    @Test
+    void pullIsNarrowedToHighFollowerAccountsTheReaderFollows() {
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L, 8L));
+        timelineService.refreshHighFollowerAccounts();
+        when(timelineRepository.isBackfilled(1L)).thenReturn(true);
+        when(followGraphCache.following(1L)).thenReturn(SortedLongSet.of(List.of(3L, 7L)));
+
+        timelineService.getTimelinePosts(1L, 0, 20);
+
+        verify(timelineRepository).findRecentPostsFromFollowedAuthors(1L, Set.of(7L), 20);
+    }
+
+    @Test
+    void pullIsSkippedWhenReaderFollowsNoHighFollowerAccount() {
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L));
+        timelineService.refreshHighFollowerAccounts();
+        when(timelineRepository.isBackfilled(1L)).thenReturn(true);
+        when(followGraphCache.following(1L)).thenReturn(SortedLongSet.of(List.of(3L)));
+
+        timelineService.getTimelinePosts(1L, 0, 20);
+
+        verify(timelineRepository, never()).findRecentPostsFromFollowedAuthors(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    void firstReadBackfillsOnceMarked() {
+        when(timelineRepository.isBackfilled(1L)).thenReturn(false);
+        when(timelineRepository.markBackfilled(1L)).thenReturn(1);
+
+        timelineService.getTimelinePosts(1L, 0, 10);
+
+        verify(timelineRepository).backfill(1L, 800);
+    }
+
+    @Test
+    void readerThatLosesMarkerRaceDoesNotBackfill() {
+        when(timelineRepository.isBackfilled(1L)).thenReturn(false);
+        when(timelineRepository.markBackfilled(1L)).thenReturn(0);
+
+        timelineService.getTimelinePosts(1L, 0, 10);
+
+        verify(timelineRepository, never()).backfill(anyLong(), anyInt());
+    }
+
+    @Test
+    void backfilledTimelineIsNotBackfilledAgain() {
+        when(timelineRepository.isBackfilled(1L)).thenReturn(true);
+
+        timelineService.getTimelinePosts(1L, 0, 10);
+
+        verify(timelineRepository, never()).markBackfilled(anyLong());
+        verify(timelineRepository, never()).backfill(anyLong(), anyInt());
+    }
+
+    @Test
+    void followBeforeFirstReadLeavesAuthorPostsToBackfill() {
+        when(timelineRepository.isBackfilled(1L)).thenReturn(false);
+
+        timelineService.addAuthor(1L, 7L);
+
+        verify(timelineRepository, never()).insertAuthorPosts(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void followAfterBackfillCopiesAuthorPosts() {
+        when(timelineRepository.isBackfilled(1L)).thenReturn(true);
+
+        timelineService.addAuthor(1L, 7L);
+
+        verify(timelineRepository).insertAuthorPosts(1L, 7L, 800);
+    }
+
+    @Test
+    void followOfHighFollowerAccountCopiesNothing() {
+        when(timelineRepository.findHighFollowerAccountIds(10_000L)).thenReturn(List.of(7L));
+        timelineService.refreshHighFollowerAccounts();
+
+        timelineService.addAuthor(1L, 7L);
+
+        verify(timelineRepository, never()).insertAuthorPosts(anyLong(), anyLong(), anyInt());
+    }
+
+    private static TimelineEntry pushed(Long postId, LocalDateTime createdAt) {
+        return TimelineEntry.builder().userId(1L).postId(postId).authorId(10L).createdAt(createdAt).build();
+    }
+
+    private static Post pulled(Long id, LocalDateTime createdAt) {
+        return Post.builder().id(id).createdAt(createdAt).build();
+    }
+
+    private static Post authoredPost(Long id, Long authorId) {
+        return Post.builder().id(id).user(User.builder().id(authorId).build()).createdAt(NOON).build();
+    }
+}
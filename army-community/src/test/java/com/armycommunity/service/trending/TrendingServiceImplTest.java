@@ -0,0 +1,165 @@
+package com.armycommunity.service.trending;
+
+import com.armycommunity.model.post.TrendingScore;
+import com.armycommunity.repository.post.TrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceImplTest {
+
+    @Mock
+    private TrendingScoreRepository trendingScoreRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TrendingServiceImpl trendingService;
+
+    @BeforeEach
+    void setUp() {
+        trendingService = createService(Map.of());
+    }
+
+    private TrendingServiceImpl createService(Map<String, TrendingScoringFunction> scoringBeans) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(new HashMap<>(scoringBeans));
+        TrendingServiceImpl service = new TrendingServiceImpl(trendingScoreRepository, jdbcTemplate,
+                beanFactory.getBeanProvider(TrendingScoringFunction.class));
+        ReflectionTestUtils.setField(service, "halfLifeHours", 24L);
+        ReflectionTestUtils.setField(service, "windowDays", 7);
+        ReflectionTestUtils.setField(service, "topK", 500);
+        ReflectionTestUtils.setField(service, "maxTrackedPosts", 20_000);
+        ReflectionTestUtils.setField(service, "snapshotSize", 2_000);
+        return service;
+    }
+
+    @Test
+    void postsAreRankedByWeightedEngagement() {
+        engage(1L, TrendingEventType.LIKE, TrendingEventType.LIKE, TrendingEventType.LIKE);
+        engage(2L, TrendingEventType.LIKE, TrendingEventType.COMMENT);
+        engage(3L, TrendingEventType.COMMENT);
+
+        trendingService.refreshTopPosts();
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void undoneAndZeroWeightEngagementIsNotRanked() {
+        engage(1L, TrendingEventType.LIKE, TrendingEventType.UNLIKE);
+        engage(2L, TrendingEventType.REPOST);
+        engage(3L, TrendingEventType.COMMENT);
+
+        trendingService.refreshTopPosts();
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void removedPostLeavesPublishedList() {
+        engage(1L, TrendingEventType.LIKE);
+        engage(2L, TrendingEventType.COMMENT);
+        trendingService.refreshTopPosts();
+
+        trendingService.removePost(1L);
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void pagesAreCutFromPublishedList() {
+        engage(1L, TrendingEventType.LIKE, TrendingEventType.LIKE);
+        engage(2L, TrendingEventType.LIKE);
+        engage(3L, TrendingEventType.COMMENT);
+        trendingService.refreshTopPosts();
+
+        assertThat(trendingService.getTrendingPostIds(1, 1)).containsExactly(2L);
+        assertThat(trendingService.getTrendingPostIds(2, 5)).containsExactly(3L);
+        assertThat(trendingService.getTrendingPostIds(3, 5)).isEmpty();
+    }
+
+    @Test
+    void restoredScoresDecayFromTheirSnapshotTime() {
+        LocalDateTime now = LocalDateTime.now();
+        // Two half-lives old: 10 decays to 2.5, below the fresh 5
+        when(trendingScoreRepository.findAll()).thenReturn(List.of(
+                TrendingScore.builder().postId(1L).score(10.0).snapshotAt(now.minusHours(48)).build(),
+                TrendingScore.builder().postId(2L).score(5.0).snapshotAt(now).build()));
+
+        trendingService.loadScores();
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void applicationScoringBeanReplacesDefault() {
+        TrendingScoringFunction repostsOnly = eventType -> eventType == TrendingEventType.REPOST ? 1.0 : 0.0;
+        trendingService = createService(Map.of("repostsOnly", repostsOnly));
+
+        engage(1L, TrendingEventType.LIKE, TrendingEventType.LIKE);
+        engage(2L, TrendingEventType.REPOST);
+        trendingService.refreshTopPosts();
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void seededPostsAreRankedByScoringFunction() {
+        TrendingScoringFunction commentsFirst = eventType -> eventType == TrendingEventType.COMMENT ? 5.0 : 1.0;
+        trendingService = createService(Map.of("commentsFirst", commentsFirst));
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(1);
+        when(trendingScoreRepository.findAll()).thenReturn(List.of());
+        when(trendingScoreRepository.findTrendingCandidates(any(), eq(20_000))).thenReturn(List.of(
+                new Candidate(1L, 3L, 0L, createdAt),
+                new Candidate(2L, 0L, 2L, createdAt)));
+
+        trendingService.loadScores();
+
+        assertThat(trendingService.getTrendingPostIds(0, 10)).containsExactly(2L, 1L);
+    }
+
+    private void engage(Long postId, TrendingEventType... eventTypes) {
+        for (TrendingEventType eventType : eventTypes) {
+            trendingService.recordEvent(postId, eventType);
+        }
+    }
+
+    private record Candidate(Long postId, Long likeCount, Long commentCount, LocalDateTime createdAt)
+            implements TrendingScoreRepository.TrendingCandidate {
+
+        @Override
+        public Long getPostId() {
+            return postId;
+        }
+
+        @Override
+        public Long getLikeCount() {
+            return likeCount;
+        }
+
+        @Override
+        public Long getCommentCount() {
+            return commentCount;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.armycommunity.service.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileStatsServiceImplTest {
+
+    private StatsJdbcTemplate jdbcTemplate;
+    private ProfileStatsServiceImpl profileStatsService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new StatsJdbcTemplate();
+        profileStatsService = new ProfileStatsServiceImpl(jdbcTemplate, 60_000L, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void allCountersComeFromOneQueryBoundToTheUser() {
+        jdbcTemplate.results.add(new ProfileStats(3, 7, 2, 1));
+
+        assertThat(profileStatsService.getStats(1L)).isEqualTo(new ProfileStats(3, 7, 2, 1));
+
+        assertThat(jdbcTemplate.queries).hasSize(1);
+        assertThat(jdbcTemplate.queries.get(0)).containsOnly(1L).hasSize(4);
+    }
+
+    @Test
+    void freshStatsAreServedFromCache() {
+        jdbcTemplate.results.add(new ProfileStats(3, 7, 2, 1));
+
+        profileStatsService.getStats(1L);
+        profileStatsService.getStats(1L);
+
+        assertThat(jdbcTemplate.queries).hasSize(1);
+    }
+
+    @Test
+    void expiredStatsAreReloaded() {
+        profileStatsService = new ProfileStatsServiceImpl(jdbcTemplate, 0L, 100);
+        jdbcTemplate.results.add(new ProfileStats(3, 7, 2, 1));
+        jdbcTemplate.results.add(new ProfileStats(4, 7, 2, 1));
+
+        profileStatsService.getStats(1L);
+
+        assertThat(profileStatsService.getStats(1L).postCount()).isEqualTo(4);
+    }
+
+    @Test
+    void statsLoadedBeforeCommitAreEvictedAfterCommit() {
+        jdbcTemplate.results.add(new ProfileStats(3, 7, 2, 1));
+        jdbcTemplate.results.add(new ProfileStats(4, 7, 2, 1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        profileStatsService.evict(1L, 2L);
+        profileStatsService.getStats(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(profileStatsService.getStats(1L).postCount()).isEqualTo(4);
+    }
+
+    private static class StatsJdbcTemplate extends JdbcTemplate {
+        private final Deque<ProfileStats> results = new ArrayDeque<>();
+        private final List<Object[]> queries = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, RowMapper<T> rowMapper, Object... args) {
+            queries.add(args);
+            return (T) results.removeFirst();
+        }
+    }
+}